@@ -12,4 +12,5 @@ import lombok.Data;
 @ConfigurationProperties(prefix = "availability")
 public class AvailabilityConfig {
     private List<String> priorityDistricts;
+    private int persistThreads = 8; // threads persisting Lambda results, each holding a database connection
 }
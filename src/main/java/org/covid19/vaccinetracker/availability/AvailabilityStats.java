@@ -1,50 +1,115 @@
 package org.covid19.vaccinetracker.availability;
 
+import org.covid19.vaccinetracker.utils.WindowedCounter;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
 import java.time.Instant;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 
+import static java.util.Objects.nonNull;
+
 @Slf4j
 @Component
 public class AvailabilityStats {
-    private final AtomicInteger processedPincodes = new AtomicInteger(0);
-    private final AtomicInteger processedDistricts = new AtomicInteger(0);
-    private final AtomicInteger totalApiCalls = new AtomicInteger(0);
-    private final AtomicInteger failedApiCalls = new AtomicInteger(0);
-    private final AtomicInteger unknownPincodes = new AtomicInteger(0);
-    private Instant startTime;
-    private Instant endTime;
+    private final MeterRegistry registry;
+    private final WindowedCounter processedPincodes;
+    private final WindowedCounter processedDistricts;
+    private final WindowedCounter totalApiCalls;
+    private final WindowedCounter failedApiCalls;
+    private final WindowedCounter unknownPincodes;
+    private final Timer cycleTimer;
+    private final Timer parseTimer;
+    private final Timer persistTimer;
+    private volatile Instant startTime;
+    private volatile Instant endTime;
+
+    public AvailabilityStats(MeterRegistry registry) {
+        this.registry = registry;
+        this.processedPincodes = new WindowedCounter(registry, "availability.pincodes.processed", "Pincodes refreshed");
+        this.processedDistricts = new WindowedCounter(registry, "availability.districts.processed", "Districts refreshed");
+        this.totalApiCalls = new WindowedCounter(registry, "availability.api.calls", "Calls to CoWIN");
+        this.failedApiCalls = new WindowedCounter(registry, "availability.api.calls.failed", "Failed calls to CoWIN");
+        this.unknownPincodes = new WindowedCounter(registry, "availability.pincodes.unknown", "Pincodes missing from metadata");
+        this.cycleTimer = Timer.builder("availability.cycle")
+                .description("Time to dispatch a refresh of all districts")
+                .register(registry);
+        this.parseTimer = Timer.builder("availability.lambda.parse")
+                .description("Time to parse a CalendarByDistrict Lambda response")
+                .publishPercentileHistogram()
+                .register(registry);
+        this.persistTimer = Timer.builder("availability.db.persist")
+                .description("Time to persist the vaccine centers of a district")
+                .publishPercentileHistogram()
+                .register(registry);
+    }
 
     public void reset() {
-        processedPincodes.set(0);
-        processedDistricts.set(0);
-        totalApiCalls.set(0);
-        failedApiCalls.set(0);
-        unknownPincodes.set(0);
+        processedPincodes.reset();
+        processedDistricts.reset();
+        totalApiCalls.reset();
+        failedApiCalls.reset();
+        unknownPincodes.reset();
     }
 
     public void incrementProcessedPincodes() {
-        processedPincodes.incrementAndGet();
+        processedPincodes.increment();
     }
 
     public void incrementProcessedDistricts() {
-        processedDistricts.incrementAndGet();
+        processedDistricts.increment();
     }
 
     public void incrementFailedApiCalls() {
-        failedApiCalls.incrementAndGet();
+        failedApiCalls.increment();
     }
 
     public void incrementTotalApiCalls() {
-        totalApiCalls.incrementAndGet();
+        totalApiCalls.increment();
     }
 
     public void incrementUnknownPincodes() {
-        unknownPincodes.incrementAndGet();
+        unknownPincodes.increment();
+    }
+
+    public Timer.Sample startTimer() {
+        return Timer.start(registry);
+    }
+
+    /**
+     * Records the latency of a CalendarByDistrict Lambda invocation.
+     *
+     * @param sample     - Sample started before invoking the Lambda
+     * @param districtId - Id of the District
+     * @param outcome    - "success" or "error"
+     */
+    public void recordLambdaLatency(Timer.Sample sample, int districtId, String outcome) {
+        sample.stop(Timer.builder("availability.lambda.latency")
+                .description("Latency of CalendarByDistrict Lambda invocations")
+                .tag("district", String.valueOf(districtId))
+                .tag("outcome", outcome)
+                .register(registry));
+    }
+
+    public void recordKafkaSend(Timer.Sample sample, String topic, String outcome) {
+        sample.stop(Timer.builder("availability.kafka.send")
+                .description("Latency until Kafka acknowledged an updated pincode")
+                .tag("topic", topic)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(registry));
+    }
+
+    public <T> T timeParse(Supplier<T> parse) {
+        return parseTimer.record(parse);
+    }
+
+    public void timePersist(Runnable persist) {
+        persistTimer.record(persist);
     }
 
     public void noteStartTime() {
@@ -53,26 +118,29 @@ public class AvailabilityStats {
 
     public void noteEndTime() {
         endTime = Instant.now();
+        if (nonNull(startTime)) {
+            cycleTimer.record(Duration.between(startTime, endTime));
+        }
     }
 
     public int processedPincodes() {
-        return processedPincodes.get();
+        return processedPincodes.sinceReset();
     }
 
     public int processedDistricts() {
-        return processedDistricts.get();
+        return processedDistricts.sinceReset();
     }
 
     public int failedApiCalls() {
-        return failedApiCalls.get();
+        return failedApiCalls.sinceReset();
     }
 
     public int totalApiCalls() {
-        return totalApiCalls.get();
+        return totalApiCalls.sinceReset();
     }
 
     public int unknownPincodes() {
-        return unknownPincodes.get();
+        return unknownPincodes.sinceReset();
     }
 
     public String timeTaken() {
@@ -3,6 +3,7 @@ package org.covid19.vaccinetracker.availability;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 import org.covid19.vaccinetracker.availability.aws.CowinLambdaWrapper;
+import org.covid19.vaccinetracker.persistence.kafka.KafkaStateStores;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -19,14 +20,20 @@ import lombok.extern.slf4j.Slf4j;
 public class PriorityDistrictsAvailability {
     private final AvailabilityConfig config;
     private final CowinLambdaWrapper cowinLambdaWrapper;
+    private final KafkaStateStores kafkaStateStores;
 
-    public PriorityDistrictsAvailability(AvailabilityConfig config, CowinLambdaWrapper cowinLambdaWrapper) {
+    public PriorityDistrictsAvailability(AvailabilityConfig config, CowinLambdaWrapper cowinLambdaWrapper, KafkaStateStores kafkaStateStores) {
         this.config = config;
         this.cowinLambdaWrapper = cowinLambdaWrapper;
+        this.kafkaStateStores = kafkaStateStores;
     }
 
     @Scheduled(cron = "${jobs.cron.priority.districts.availability:-}", zone = "IST")
     public void refreshVaccineAvailabilityOfPriorityDistricts() {
+        if (!kafkaStateStores.isLeader()) {
+            log.debug("Skipping priority districts availability on non-leader instance");
+            return;
+        }
         Executors.newSingleThreadExecutor(new ThreadFactoryBuilder().setNameFormat("prio-dist-%d").build())
                 .submit(this::refreshPriorityDistrictsAvailabilityFromCowinViaLambdaAsync);
     }
@@ -2,6 +2,7 @@ package org.covid19.vaccinetracker.availability;
 
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.Serdes;
+import org.covid19.vaccinetracker.model.SessionDeltas;
 import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -33,12 +34,12 @@ public class UpdatedPincodesProducerConfig {
     }
 
     @Bean
-    public ProducerFactory<String, String> updatedPincodesProducerFactory() {
+    public ProducerFactory<String, SessionDeltas> updatedPincodesProducerFactory() {
         return new DefaultKafkaProducerFactory<>(updatedPincodesProducerConfigs());
     }
 
     @Bean
-    public KafkaTemplate<String, String> updatedPincodesKafkaTemplate() {
+    public KafkaTemplate<String, SessionDeltas> updatedPincodesKafkaTemplate() {
         return new KafkaTemplate<>(updatedPincodesProducerFactory());
     }
 }
@@ -3,6 +3,7 @@ package org.covid19.vaccinetracker.availability;
 import org.covid19.vaccinetracker.availability.aws.CowinLambdaWrapper;
 import org.covid19.vaccinetracker.notifications.bot.BotService;
 import org.covid19.vaccinetracker.persistence.VaccinePersistence;
+import org.covid19.vaccinetracker.persistence.kafka.KafkaStateStores;
 import org.covid19.vaccinetracker.userrequests.UserRequestManager;
 import org.covid19.vaccinetracker.userrequests.model.District;
 import org.covid19.vaccinetracker.utils.Utils;
@@ -23,21 +24,28 @@ public class VaccineAvailability {
     private final BotService botService;
     private final CowinLambdaWrapper cowinLambdaWrapper;
     private final AvailabilityConfig config;
+    private final KafkaStateStores kafkaStateStores;
 
     public VaccineAvailability(VaccinePersistence vaccinePersistence,
                                UserRequestManager userRequestManager,
                                AvailabilityStats availabilityStats,
-                               BotService botService, CowinLambdaWrapper cowinLambdaWrapper, AvailabilityConfig config) {
+                               BotService botService, CowinLambdaWrapper cowinLambdaWrapper, AvailabilityConfig config,
+                               KafkaStateStores kafkaStateStores) {
         this.vaccinePersistence = vaccinePersistence;
         this.userRequestManager = userRequestManager;
         this.availabilityStats = availabilityStats;
         this.botService = botService;
         this.cowinLambdaWrapper = cowinLambdaWrapper;
         this.config = config;
+        this.kafkaStateStores = kafkaStateStores;
     }
 
     @Scheduled(cron = "${jobs.cron.vaccine.availability:-}", zone = "IST")
     public void refreshVaccineAvailabilityFromCowinAndTriggerNotifications() {
+        if (!kafkaStateStores.isLeader()) {
+            log.debug("Skipping vaccine availability refresh on non-leader instance");
+            return;
+        }
         Executors.newSingleThreadExecutor().submit(this::refreshVaccineAvailabilityFromCowinViaLambdaAsync);
     }
 
@@ -66,6 +74,10 @@ public class VaccineAvailability {
 
     @Scheduled(cron = "${jobs.cron.db.cleanup:-}", zone = "IST")
     public void cleanupOldVaccineCenters() {
+        if (!kafkaStateStores.isLeader()) {
+            log.debug("Skipping cleanup of old vaccine centers on non-leader instance");
+            return;
+        }
         String yesterday = Utils.yesterdayIST();
         log.info("Deleting Vaccine centers for {}", yesterday);
         this.vaccinePersistence.cleanupOldCenters(yesterday);
@@ -73,6 +85,9 @@ public class VaccineAvailability {
 
     @Scheduled(cron = "${jobs.cron.user.stats:-}", zone = "IST")
     public void userStats() {
+        if (!kafkaStateStores.isLeader()) {
+            return;
+        }
         int size = userRequestManager.userRequestSize();
         log.info("Users count: {}", size);
         botService.notifyOwner(String.format("User count: %d", size));
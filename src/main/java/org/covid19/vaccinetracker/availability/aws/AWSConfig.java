@@ -10,6 +10,7 @@ import com.amazonaws.services.lambda.AWSLambdaClientBuilder;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 
 import lombok.Data;
 
@@ -22,6 +23,7 @@ public class AWSConfig {
     private String sendTelegramMsgLambdaArn;
 
     @Bean
+    @Profile("!simulator")
     public AWSLambda awsLambda() {
         return AWSLambdaClientBuilder.standard()
                 .withCredentials(new EnvironmentVariableCredentialsProvider())
@@ -29,6 +31,7 @@ public class AWSConfig {
     }
 
     @Bean
+    @Profile("!simulator")
     public AWSLambdaAsync awsLambdaAsync() {
         return AWSLambdaAsyncClientBuilder.standard()
                 .withCredentials(new EnvironmentVariableCredentialsProvider())
@@ -12,10 +12,18 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.covid19.vaccinetracker.availability.AvailabilityConfig;
+import org.covid19.vaccinetracker.availability.AvailabilityStats;
+import org.covid19.vaccinetracker.model.AlertTrace;
 import org.covid19.vaccinetracker.model.Center;
 import org.covid19.vaccinetracker.model.Session;
+import org.covid19.vaccinetracker.model.SessionDelta;
+import org.covid19.vaccinetracker.model.SessionDeltas;
 import org.covid19.vaccinetracker.model.VaccineCenters;
+import org.covid19.vaccinetracker.persistence.SlotHistory;
 import org.covid19.vaccinetracker.persistence.VaccinePersistence;
+import org.covid19.vaccinetracker.persistence.kafka.PincodeInterestIndex;
 import org.covid19.vaccinetracker.persistence.mariadb.entity.SessionEntity;
 import org.covid19.vaccinetracker.utils.Utils;
 import org.jetbrains.annotations.NotNull;
@@ -36,6 +44,7 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import io.micrometer.core.instrument.Timer;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -53,18 +62,28 @@ public class CowinLambdaWrapper implements DisposableBean {
     private final AWSLambdaAsync awsLambdaAsync;
     private final ObjectMapper objectMapper;
     private final VaccinePersistence vaccinePersistence;
-    private final KafkaTemplate<String, String> updatedPincodesKafkaTemplate;
+    private final KafkaTemplate<String, SessionDeltas> updatedPincodesKafkaTemplate;
+    private final PincodeInterestIndex pincodeInterestIndex;
+    private final AvailabilityStats availabilityStats;
+    private final SlotHistory slotHistory;
     private final ExecutorService districtsProcessorExecutor;
 
     public CowinLambdaWrapper(AWSConfig awsConfig, AWSLambda awsLambda, AWSLambdaAsync awsLambdaAsync,
-                              ObjectMapper objectMapper, VaccinePersistence vaccinePersistence, KafkaTemplate<String, String> updatedPincodesKafkaTemplate) {
+                              ObjectMapper objectMapper, VaccinePersistence vaccinePersistence, KafkaTemplate<String, SessionDeltas> updatedPincodesKafkaTemplate,
+                              PincodeInterestIndex pincodeInterestIndex, AvailabilityStats availabilityStats, SlotHistory slotHistory,
+                              AvailabilityConfig availabilityConfig) {
         this.awsConfig = awsConfig;
         this.awsLambda = awsLambda;
         this.awsLambdaAsync = awsLambdaAsync;
         this.objectMapper = objectMapper;
         this.vaccinePersistence = vaccinePersistence;
         this.updatedPincodesKafkaTemplate = updatedPincodesKafkaTemplate;
-        this.districtsProcessorExecutor = Executors.newCachedThreadPool(new ThreadFactoryBuilder().setNameFormat("vaccinelambda-%d").build());
+        this.pincodeInterestIndex = pincodeInterestIndex;
+        this.availabilityStats = availabilityStats;
+        this.slotHistory = slotHistory;
+        // bounded, so that bursts of callbacks queue up here instead of waiting on the connection pool
+        this.districtsProcessorExecutor = Executors.newFixedThreadPool(Math.max(1, availabilityConfig.getPersistThreads()),
+                new ThreadFactoryBuilder().setNameFormat("vaccinelambda-%d").build());
     }
 
     /**
@@ -75,28 +94,32 @@ public class CowinLambdaWrapper implements DisposableBean {
     public void processDistrict(int districtId) {
         createCalendarByDistrictLambdaEvent(districtId)
                 .map(this::createCalendarByDistrictInvokeRequest)
-                .ifPresent(invokeRequest -> awsLambdaAsync.invokeAsync(invokeRequest, calendarByDistrictAsyncHandler()));
+                .ifPresent(invokeRequest -> awsLambdaAsync.invokeAsync(invokeRequest,
+                        calendarByDistrictAsyncHandler(AlertTrace.fetched(districtId), availabilityStats.startTimer())));
     }
 
     @NotNull
-    private AsyncHandler<InvokeRequest, InvokeResult> calendarByDistrictAsyncHandler() {
+    private AsyncHandler<InvokeRequest, InvokeResult> calendarByDistrictAsyncHandler(AlertTrace trace, Timer.Sample sample) {
         return new AsyncHandler<>() {
             @Override
             public void onError(Exception e) {
+                availabilityStats.recordLambdaLatency(sample, trace.getDistrictId(), "error");
                 log.error("Got error {}", e.getMessage());
             }
 
             @Override
             public void onSuccess(InvokeRequest request, InvokeResult result) {
+                availabilityStats.recordLambdaLatency(sample, trace.getDistrictId(), "success");
                 // run in separate thread to not delay Lambda callback thread
                 districtsProcessorExecutor.submit(() ->
-                        toVaccineCenters(result)
+                        availabilityStats.timeParse(() -> toVaccineCenters(result))
                                 .stream()
                                 .filter(Objects::nonNull)
                                 .map(vaccineCenters -> freshAvailability(vaccineCenters))
                                 .forEach(vaccineCenters -> {
-                                    vaccinePersistence.persistVaccineCenters(vaccineCenters); // DB
-                                    sendUpdatedPincodesToKafka(vaccineCenters); // Kafka
+                                    availabilityStats.timePersist(() -> vaccinePersistence.persistVaccineCenters(vaccineCenters)); // DB
+                                    sendUpdatedPincodesToKafka(vaccineCenters, trace); // Kafka
+                                    slotHistory.record(vaccineCenters); // DB
                                     log.debug("Processing completed.");
                                 })
                 );
@@ -131,9 +154,32 @@ public class CowinLambdaWrapper implements DisposableBean {
             boolean shouldNotify = existingSession.map(areFreshSlotsAvailable(session)).orElse(true);
             log.debug("shouldNotify evaluated to {}", shouldNotify);
             session.setShouldNotify(shouldNotify);
+            if (existingSession.map(existing -> capacityChanged(session, existing)).orElse(true)) {
+                session.setDelta(sessionDelta(center, session, existingSession.orElse(null), shouldNotify));
+            }
         };
     }
 
+    private boolean capacityChanged(Session session, SessionEntity existing) {
+        return !Objects.equals(session.getAvailableCapacityDose1(), existing.getAvailableCapacityDose1())
+                || !Objects.equals(session.getAvailableCapacityDose2(), existing.getAvailableCapacityDose2());
+    }
+
+    private SessionDelta sessionDelta(Center center, Session session, SessionEntity existing, boolean fresh) {
+        return SessionDelta.builder()
+                .centerId(center.getCenterId())
+                .sessionId(session.getSessionId())
+                .date(session.getDate())
+                .minAgeLimit(session.getMinAgeLimit())
+                .vaccine(session.getVaccine())
+                .oldCapacityDose1(Objects.isNull(existing) ? null : existing.getAvailableCapacityDose1())
+                .oldCapacityDose2(Objects.isNull(existing) ? null : existing.getAvailableCapacityDose2())
+                .newCapacityDose1(session.getAvailableCapacityDose1())
+                .newCapacityDose2(session.getAvailableCapacityDose2())
+                .fresh(fresh)
+                .build();
+    }
+
     @NotNull
     private Function<SessionEntity, Boolean> areFreshSlotsAvailable(Session session) {
         /*
@@ -146,14 +192,31 @@ public class CowinLambdaWrapper implements DisposableBean {
                 || (session.getAvailableCapacityDose2() > existing.getAvailableCapacityDose2() && session.getAvailableCapacityDose2() - existing.getAvailableCapacityDose2() > 2);
     }
 
-    public void sendUpdatedPincodesToKafka(VaccineCenters vaccineCenters) {
+    /**
+     * Publishes the changed sessions of each pincode, as evaluated by {@link #freshAvailability(VaccineCenters)}.
+     * Only sessions matching the preference of at least one subscriber of the pincode are published.
+     *
+     * @param vaccineCenters - Vaccine centers with session deltas
+     * @param trace          - Trace of the district fetch, sent as record headers
+     */
+    public void sendUpdatedPincodesToKafka(VaccineCenters vaccineCenters, AlertTrace trace) {
         vaccineCenters.getCenters()
                 .stream()
-                .filter(Center::areVaccineCentersAvailableFor18plus)
-                .map(Center::getPincode)
-                .map(String::valueOf)
-                .distinct()
-                .forEach(pincode -> updatedPincodesKafkaTemplate.send(updatedPincodesTopic, pincode, pincode));
+                .collect(Collectors.groupingBy(center -> String.valueOf(center.getPincode()),
+                        Collectors.flatMapping(center -> center.getSessions().stream()
+                                .filter(session -> Objects.nonNull(session.getDelta()))
+                                .filter(session -> pincodeInterestIndex.isInteresting(String.valueOf(center.getPincode()), session))
+                                .map(Session::getDelta), Collectors.toList())))
+                .forEach((pincode, deltas) -> {
+                    if (!deltas.isEmpty()) {
+                        final Timer.Sample sample = availabilityStats.startTimer();
+                        updatedPincodesKafkaTemplate.send(new ProducerRecord<>(updatedPincodesTopic, null, pincode,
+                                new SessionDeltas(pincode, deltas), trace.published().toHeaders()))
+                                .addCallback(
+                                        sent -> availabilityStats.recordKafkaSend(sample, updatedPincodesTopic, "success"),
+                                        e -> availabilityStats.recordKafkaSend(sample, updatedPincodesTopic, "error"));
+                    }
+                });
     }
 
     public Stream<Optional<VaccineCenters>> fetchSessionsByPincode(String pincode) {
@@ -0,0 +1,80 @@
+package org.covid19.vaccinetracker.model;
+
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import lombok.AllArgsConstructor;
+import lombok.Value;
+import lombok.With;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Timestamps (epoch millis) of a slot update as it moves from the CoWIN fetch of a district to the
+ * Telegram alert. Carried as headers of the updated pincodes records.
+ */
+@Value
+@With
+@AllArgsConstructor
+public class AlertTrace {
+    public static final String DISTRICT_HEADER = "district_id";
+    public static final String FETCHED_AT_HEADER = "fetched_at";
+    public static final String PUBLISHED_AT_HEADER = "published_at";
+
+    int districtId;
+    long fetchedAt;
+    long publishedAt;
+    long notifiedAt;
+
+    public static AlertTrace fetched(int districtId) {
+        return new AlertTrace(districtId, System.currentTimeMillis(), 0L, 0L);
+    }
+
+    public AlertTrace published() {
+        return withPublishedAt(System.currentTimeMillis());
+    }
+
+    public AlertTrace notified() {
+        return withNotifiedAt(System.currentTimeMillis());
+    }
+
+    public Headers toHeaders() {
+        final Headers headers = new RecordHeaders();
+        headers.add(DISTRICT_HEADER, String.valueOf(districtId).getBytes(StandardCharsets.UTF_8));
+        headers.add(FETCHED_AT_HEADER, String.valueOf(fetchedAt).getBytes(StandardCharsets.UTF_8));
+        headers.add(PUBLISHED_AT_HEADER, String.valueOf(publishedAt).getBytes(StandardCharsets.UTF_8));
+        return headers;
+    }
+
+    /**
+     * Reads the trace from record headers. Records published without a trace have none.
+     *
+     * @param headers - Headers of the record
+     * @return trace, if all headers are present and valid
+     */
+    public static Optional<AlertTrace> fromHeaders(Headers headers) {
+        if (isNull(headers)) {
+            return Optional.empty();
+        }
+        try {
+            final String districtId = lastValue(headers, DISTRICT_HEADER);
+            final String fetchedAt = lastValue(headers, FETCHED_AT_HEADER);
+            final String publishedAt = lastValue(headers, PUBLISHED_AT_HEADER);
+            if (isNull(districtId) || isNull(fetchedAt) || isNull(publishedAt)) {
+                return Optional.empty();
+            }
+            return Optional.of(new AlertTrace(Integer.parseInt(districtId), Long.parseLong(fetchedAt), Long.parseLong(publishedAt), 0L));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static String lastValue(Headers headers, String key) {
+        final Header header = headers.lastHeader(key);
+        return isNull(header) || isNull(header.value()) ? null : new String(header.value(), StandardCharsets.UTF_8);
+    }
+}
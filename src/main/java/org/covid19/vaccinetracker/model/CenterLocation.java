@@ -0,0 +1,19 @@
+package org.covid19.vaccinetracker.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Pincode of a vaccine center together with the district and state names CoWIN reports for it.
+ */
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CenterLocation {
+    private String pincode;
+    private String districtName;
+    private String stateName;
+}
@@ -1,15 +1,23 @@
 package org.covid19.vaccinetracker.model;
 
-import lombok.AllArgsConstructor;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import static java.util.Objects.isNull;
 
-@Builder
 @Data
 @NoArgsConstructor
-@AllArgsConstructor
 public class CenterSession {
+    private static final DateTimeFormatter SESSION_DATE = DateTimeFormatter.ofPattern("dd-MM-yyyy");
+    private static final long NO_DATE = Long.MIN_VALUE;
 
     private String centerName;
     private String districtName;
@@ -17,15 +25,37 @@ public class CenterSession {
     private String sessionDate;
     private int minAge;
     private String sessionVaccine;
-    private String multipleDates; // for accumulating multiple sessions
 
+    // session date as days since the epoch, parsed once so that it can be compared cheaply
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private long sessionEpochDay = NO_DATE;
+
+    @Builder
     public CenterSession(String centerName, String districtName, String pincode, String sessionDate,
                          int minAge, String sessionVaccine) {
         this.centerName = centerName;
         this.districtName = districtName;
         this.pincode = pincode;
-        this.sessionDate = sessionDate;
+        setSessionDate(sessionDate);
         this.minAge = minAge;
         this.sessionVaccine = sessionVaccine;
     }
+
+    public CenterSession(String centerName, String districtName, String pincode, LocalDate sessionDate,
+                         int minAge, String sessionVaccine) {
+        this.centerName = centerName;
+        this.districtName = districtName;
+        this.pincode = pincode;
+        this.sessionDate = SESSION_DATE.format(sessionDate);
+        this.sessionEpochDay = sessionDate.toEpochDay();
+        this.minAge = minAge;
+        this.sessionVaccine = sessionVaccine;
+    }
+
+    public void setSessionDate(String sessionDate) {
+        this.sessionDate = sessionDate;
+        this.sessionEpochDay = isNull(sessionDate) ? NO_DATE : LocalDate.parse(sessionDate, SESSION_DATE).toEpochDay();
+    }
 }
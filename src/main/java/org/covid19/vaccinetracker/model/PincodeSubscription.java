@@ -0,0 +1,30 @@
+package org.covid19.vaccinetracker.model;
+
+import org.covid19.vaccinetracker.userrequests.model.UserPreference;
+
+import lombok.Value;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * A user subscribing to or unsubscribing from a pincode, keyed by the pincode so that all users of
+ * a pincode are aggregated by the same task.
+ */
+@Value
+public class PincodeSubscription {
+    String userId;
+    // null once the user unsubscribed from the pincode
+    UserPreference preference;
+
+    public static PincodeSubscription subscribed(String userId, UserPreference preference) {
+        return new PincodeSubscription(userId, preference);
+    }
+
+    public static PincodeSubscription unsubscribed(String userId) {
+        return new PincodeSubscription(userId, null);
+    }
+
+    public boolean isSubscribed() {
+        return nonNull(preference);
+    }
+}
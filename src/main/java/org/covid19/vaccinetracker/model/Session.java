@@ -46,6 +46,8 @@ public class Session {
     public List<String> slots = null;
     @JsonIgnore
     public boolean shouldNotify = true;
+    @JsonIgnore
+    public transient SessionDelta delta; // set only when capacity changed since last persisted
 
     public boolean validForAllAges() {
         return ofNullable(allowAllAge).orElse(false);
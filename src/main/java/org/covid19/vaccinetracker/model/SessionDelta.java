@@ -0,0 +1,27 @@
+package org.covid19.vaccinetracker.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Change in the capacity of a single session since it was last persisted. Old capacities are
+ * absent for sessions seen for the first time.
+ */
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SessionDelta {
+    private Integer centerId;
+    private String sessionId;
+    private String date;
+    private Integer minAgeLimit;
+    private String vaccine;
+    private Integer oldCapacityDose1;
+    private Integer oldCapacityDose2;
+    private Integer newCapacityDose1;
+    private Integer newCapacityDose2;
+    private boolean fresh; // fresh slots as opposed to cancellations or bookings
+}
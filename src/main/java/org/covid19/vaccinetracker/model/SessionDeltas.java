@@ -0,0 +1,27 @@
+package org.covid19.vaccinetracker.model;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Changed sessions of a pincode, published to the updated pincodes topic.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SessionDeltas {
+    private String pincode;
+    private List<SessionDelta> sessions;
+
+    public Set<String> freshSessionIds() {
+        return sessions.stream()
+                .filter(SessionDelta::isFresh)
+                .map(SessionDelta::getSessionId)
+                .collect(Collectors.toSet());
+    }
+}
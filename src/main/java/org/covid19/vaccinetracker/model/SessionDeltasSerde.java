@@ -0,0 +1,43 @@
+package org.covid19.vaccinetracker.model;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.common.serialization.Serializer;
+
+import java.nio.charset.StandardCharsets;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class SessionDeltasSerde extends Serdes.WrapperSerde<SessionDeltas> {
+    public SessionDeltasSerde() {
+        super(new Serializer<>() {
+            private Gson gson = new GsonBuilder().serializeNulls().create();
+
+            @Override
+            public byte[] serialize(String s, SessionDeltas sessionDeltas) {
+                return gson.toJson(sessionDeltas).getBytes(StandardCharsets.UTF_8);
+            }
+        }, new Deserializer<>() {
+            private Gson gson = new Gson();
+
+            @Override
+            public SessionDeltas deserialize(String s, byte[] bytes) {
+                if (bytes == null) {
+                    return null;
+                }
+                try {
+                    return gson.fromJson(new String(bytes, StandardCharsets.UTF_8), SessionDeltas.class);
+                } catch (JsonParseException e) {
+                    // records published before session deltas only carried the pincode
+                    log.debug("Ignoring updated pincode record without session deltas: {}", e.getMessage());
+                    return null;
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,30 @@
+package org.covid19.vaccinetracker.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A session together with its center as one flat row, read without loading entities.
+ */
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SessionRow {
+    private long centerId;
+    private String centerName;
+    private String districtName;
+    private String stateName;
+    private String pincode;
+    private String feeType;
+    private String sessionId;
+    private String date;
+    private String vaccine;
+    private int availableCapacity;
+    private int availableCapacityDose1;
+    private int availableCapacityDose2;
+    private String cost;
+    private int minAgeLimit;
+}
@@ -0,0 +1,28 @@
+package org.covid19.vaccinetracker.model;
+
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A day on which a center of a pincode had open slots for a vaccine and age, from the slot history.
+ */
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SlotOpening {
+    private String centerName;
+    private String districtName;
+    private int pincode;
+    private LocalDate day;
+    private int minAge;
+    private String vaccine;
+
+    public CenterSession toCenterSession() {
+        return new CenterSession(centerName, districtName, String.valueOf(pincode), day, minAge, vaccine);
+    }
+}
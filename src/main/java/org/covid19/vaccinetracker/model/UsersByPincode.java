@@ -1,18 +1,56 @@
 package org.covid19.vaccinetracker.model;
 
+import org.covid19.vaccinetracker.userrequests.model.UserPreference;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.extern.slf4j.Slf4j;
 
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.Optional.ofNullable;
+
 @Slf4j
 @Data
 public class UsersByPincode {
     private final String pincode;
     private final Set<String> users;
 
+    /*
+     * Preferences of the users above, keyed by user id. Aggregates produced before
+     * preferences were introduced do not have it.
+     */
+    @EqualsAndHashCode.Exclude
+    private Map<String, UserPreference> preferences;
+
     public UsersByPincode merge(String userId) {
         this.users.add(userId);
         return this;
     }
+
+    public UsersByPincode merge(String userId, UserPreference preference) {
+        this.users.add(userId);
+        if (isNull(this.preferences)) {
+            this.preferences = new HashMap<>();
+        }
+        this.preferences.put(userId, preference);
+        return this;
+    }
+
+    public UsersByPincode remove(String userId) {
+        this.users.remove(userId);
+        if (nonNull(this.preferences)) {
+            this.preferences.remove(userId);
+        }
+        return this;
+    }
+
+    public Optional<UserPreference> preferenceFor(String userId) {
+        return ofNullable(this.preferences).map(p -> p.get(userId));
+    }
 }
@@ -0,0 +1,29 @@
+package org.covid19.vaccinetracker.notifications;
+
+import org.apache.kafka.streams.kstream.ValueTransformerWithKey;
+import org.apache.kafka.streams.processor.ProcessorContext;
+import org.covid19.vaccinetracker.model.AlertTrace;
+
+/**
+ * Attaches the trace from the headers of the updated pincodes record, marking the moment the
+ * pincode was picked up for notifications.
+ */
+class AlertTraceTransformer implements ValueTransformerWithKey<String, PincodeUpdate, PincodeUpdate> {
+    private ProcessorContext context;
+
+    @Override
+    public void init(ProcessorContext context) {
+        this.context = context;
+    }
+
+    @Override
+    public PincodeUpdate transform(String pincode, PincodeUpdate update) {
+        return AlertTrace.fromHeaders(context.headers())
+                .map(trace -> update.withTrace(trace.notified()))
+                .orElse(update);
+    }
+
+    @Override
+    public void close() {
+    }
+}
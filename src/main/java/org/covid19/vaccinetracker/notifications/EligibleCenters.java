@@ -0,0 +1,89 @@
+package org.covid19.vaccinetracker.notifications;
+
+import org.covid19.vaccinetracker.model.Center;
+import org.covid19.vaccinetracker.model.Session;
+import org.covid19.vaccinetracker.model.VaccineCenters;
+import org.covid19.vaccinetracker.userrequests.model.UserPreference;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Eligible centers of a pincode by user preference. The sessions with capacity are selected once,
+ * each distinct preference is evaluated once against them, and the users sharing a preference get
+ * the same unmodifiable list of centers, which must not be modified.
+ * <p>
+ * Not thread safe, meant for the users of one pincode on one thread.
+ */
+public class EligibleCenters {
+    private final List<Center> centers;
+    private final List<List<Session>> sessionsWithCapacity;
+    private final BiPredicate<Session, UserPreference> eligibleSession;
+    private final Function<Center, Center> centerView;
+    private final Map<UserPreference, List<Center>> centersByPreference = new HashMap<>();
+
+    EligibleCenters(VaccineCenters vaccineCenters, BiPredicate<Session, UserPreference> eligibleSession,
+                    Function<Center, Center> centerView) {
+        final List<Center> allCenters = isNull(vaccineCenters.centers) ? List.of() : vaccineCenters.centers;
+        this.centers = new ArrayList<>(allCenters.size());
+        this.sessionsWithCapacity = new ArrayList<>(allCenters.size());
+        this.eligibleSession = eligibleSession;
+        this.centerView = centerView;
+        for (Center center : allCenters) {
+            List<Session> sessions = null;
+            for (Session session : center.getSessions()) {
+                if (session.hasCapacity()) {
+                    if (isNull(sessions)) {
+                        sessions = new ArrayList<>(center.getSessions().size());
+                    }
+                    sessions.add(session);
+                }
+            }
+            if (!isNull(sessions)) {
+                this.centers.add(center);
+                this.sessionsWithCapacity.add(sessions);
+            }
+        }
+    }
+
+    public List<Center> centersFor(UserPreference preference) {
+        List<Center> eligible = centersByPreference.get(preference);
+        if (isNull(eligible)) {
+            eligible = evaluate(preference);
+            centersByPreference.put(preference, eligible);
+        }
+        return eligible;
+    }
+
+    private List<Center> evaluate(UserPreference preference) {
+        List<Center> eligible = null;
+        for (int i = 0; i < centers.size(); i++) {
+            final List<Session> sessions = sessionsWithCapacity.get(i);
+            List<Session> eligibleSessions = null;
+            for (Session session : sessions) {
+                if (eligibleSession.test(session, preference)) {
+                    if (isNull(eligibleSessions)) {
+                        eligibleSessions = new ArrayList<>(sessions.size());
+                    }
+                    eligibleSessions.add(session);
+                }
+            }
+            if (!isNull(eligibleSessions)) {
+                if (isNull(eligible)) {
+                    eligible = new ArrayList<>(centers.size() - i);
+                }
+                final Center view = centerView.apply(centers.get(i));
+                view.setSessions(Collections.unmodifiableList(eligibleSessions));
+                eligible.add(view);
+            }
+        }
+        return isNull(eligible) ? List.of() : Collections.unmodifiableList(eligible);
+    }
+}
@@ -6,26 +6,32 @@ import org.apache.kafka.streams.kstream.Consumed;
 import org.apache.kafka.streams.kstream.KStream;
 import org.apache.kafka.streams.kstream.KTable;
 import org.covid19.vaccinetracker.model.Center;
+import org.covid19.vaccinetracker.model.Session;
+import org.covid19.vaccinetracker.model.SessionDeltasSerde;
 import org.covid19.vaccinetracker.model.UsersByPincode;
 import org.covid19.vaccinetracker.model.VaccineCenters;
 import org.covid19.vaccinetracker.notifications.bot.BotService;
 import org.covid19.vaccinetracker.persistence.VaccinePersistence;
+import org.covid19.vaccinetracker.userrequests.model.UserPreference;
 import org.covid19.vaccinetracker.utils.Utils;
-import org.jetbrains.annotations.NotNull;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.function.Consumer;
-import java.util.function.Function;
-import java.util.function.Predicate;
-import java.util.stream.Stream;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
 
 import lombok.extern.slf4j.Slf4j;
 
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
 @Slf4j
 @Component
 public class KafkaNotifications {
@@ -56,36 +62,56 @@ public class KafkaNotifications {
     }
 
     @Bean
-    KStream<String, Set<String>> notificationsStream() {
+    KStream<String, PincodeUpdate> notificationsStream() {
         log.debug("Building notifications KStreams");
-        final KStream<String, Set<String>> stream =
-                streamsBuilder.stream(updatedPincodesTopic, Consumed.with(Serdes.String(), Serdes.String()))
-                        .join(usersByPincodeTable, (pincode, usersByPincode) -> usersByPincode)
-                        .mapValues((pincode, value) -> value.getUsers());
+        final KStream<String, PincodeUpdate> stream =
+                streamsBuilder.stream(updatedPincodesTopic, Consumed.with(Serdes.String(), new SessionDeltasSerde()))
+                        .filter((pincode, deltas) -> nonNull(deltas) && !deltas.freshSessionIds().isEmpty())
+                        .join(usersByPincodeTable, PincodeUpdate::new)
+                        .transformValues(AlertTraceTransformer::new);
 
         // send notifications
-        stream.foreach((pincode, users) -> {
-            log.debug("Building notifications for pincode {} and users {}", pincode, users);
-            final VaccineCenters vaccineCenters = vaccinePersistence.fetchVaccineCentersByPincode(pincode);
+        stream.foreach((pincode, update) -> {
+            final UsersByPincode usersByPincode = update.getUsersByPincode();
+            log.debug("Building notifications for pincode {} and users {}", pincode, usersByPincode.getUsers());
+            final VaccineCenters vaccineCenters = onlySessions(
+                    vaccinePersistence.fetchVaccineCentersByPincode(pincode), update.getDeltas().freshSessionIds());
             stats.incrementProcessedPincodes();
-            users.forEach(user -> Stream.ofNullable(vaccineCenters)
-                    .peek(vc -> stats.incrementUserRequests())
-                    .filter(centersWithData())
-                    .map(eligibleCentersFor(user))
-                    .peek(logEmptyCenters(pincode))
-                    .filter(eligibleCentersWithData())
-                    .forEach(eligibleCenters -> {
-                        if (cache.isNewNotification(user, pincode, eligibleCenters)) {
-                            log.debug("Slots data changed for pincode {} since {} was last notified", pincode, user);
-                            log.info("Sending notification to {} for pincode {}", user, pincode);
-                            telegramLambdaWrapper.sendTelegramNotification(user, Utils.buildNotificationMessage(eligibleCenters));
-                            stats.incrementNotificationsSent();
-                            cache.updateUser(user, pincode, eligibleCenters);
-                        } else {
-                            log.debug("No difference in slots data for pincode {} since {} was last notified", pincode, user);
-                        }
-                        vaccinePersistence.markProcessed(vaccineCenters); // mark processed
-                    }));
+            stats.recordFanout(usersByPincode.getUsers().size());
+            if (isNull(vaccineCenters)) {
+                return;
+            }
+            // users with the same preferences share the eligible centers, and so their fingerprint
+            final EligibleCenters eligibleCenters = vaccineCentersProcessor.eligibleCenters(vaccineCenters);
+            final Map<List<Center>, String> fingerprints = new IdentityHashMap<>();
+            final AtomicBoolean evaluated = new AtomicBoolean();
+            usersByPincode.getUsers().forEach(user -> {
+                stats.incrementUserRequests();
+                if (isNull(vaccineCenters.getCenters()) || vaccineCenters.getCenters().isEmpty()) {
+                    return;
+                }
+                final List<Center> centers = eligibleCenters.centersFor(preferenceOf(user, usersByPincode));
+                if (centers.isEmpty()) {
+                    log.debug("No eligible vaccine centers found for pin code {}", pincode);
+                    return;
+                }
+                final String fingerprint = fingerprints.computeIfAbsent(centers, cache::fingerprint);
+                final boolean newNotification = cache.isNewNotification(user, pincode, fingerprint);
+                stats.recordCacheLookup(newNotification);
+                if (newNotification) {
+                    log.debug("Slots data changed for pincode {} since {} was last notified", pincode, user);
+                    log.info("Sending notification to {} for pincode {}", user, pincode);
+                    telegramLambdaWrapper.sendTelegramNotification(user, Utils.buildNotificationMessage(centers), update.getTrace());
+                    stats.incrementNotificationsSent();
+                    cache.updateUser(user, pincode, fingerprint);
+                } else {
+                    log.debug("No difference in slots data for pincode {} since {} was last notified", pincode, user);
+                }
+                evaluated.set(true);
+            });
+            if (evaluated.get()) {
+                vaccinePersistence.markProcessed(vaccineCenters); // mark processed, once for all users of the pincode
+            }
         });
 
         return stream;
@@ -105,27 +131,33 @@ public class KafkaNotifications {
         stats.reset();
     }
 
-    @NotNull
-    private Predicate<List<Center>> eligibleCentersWithData() {
-        return centers -> !centers.isEmpty();
+    /*
+     * Preferences travel with the users of a pincode, so no user request is looked up here. Only
+     * aggregates produced before the user requests were reloaded lack them.
+     */
+    private UserPreference preferenceOf(String user, UsersByPincode usersByPincode) {
+        return usersByPincode.preferenceFor(user).orElse(UserPreference.DEFAULT);
     }
 
-    @NotNull
-    private Consumer<List<Center>> logEmptyCenters(String pincode) {
-        return centers -> {
-            if (centers.isEmpty()) {
-                log.debug("No eligible vaccine centers found for pin code {}", pincode);
+    /*
+     * Restricts the centers of a pincode to the sessions that changed, so that users are evaluated
+     * only against what is new.
+     */
+    private VaccineCenters onlySessions(VaccineCenters vaccineCenters, Set<String> sessionIds) {
+        if (isNull(vaccineCenters) || isNull(vaccineCenters.getCenters())) {
+            return vaccineCenters;
+        }
+        final List<Center> centers = new ArrayList<>();
+        vaccineCenters.getCenters().forEach(center -> {
+            final List<Session> sessions = center.getSessions()
+                    .stream()
+                    .filter(session -> sessionIds.contains(session.getSessionId()))
+                    .collect(Collectors.toList());
+            if (!sessions.isEmpty()) {
+                center.setSessions(sessions);
+                centers.add(center);
             }
-        };
-    }
-
-    @NotNull
-    private Function<VaccineCenters, List<Center>> eligibleCentersFor(String user) {
-        return vc -> vaccineCentersProcessor.eligibleVaccineCenters(vc, user);
-    }
-
-    @NotNull
-    private Predicate<VaccineCenters> centersWithData() {
-        return vc -> !vc.getCenters().isEmpty();
+        });
+        return new VaccineCenters(centers);
     }
 }
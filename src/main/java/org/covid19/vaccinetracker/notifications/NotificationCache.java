@@ -1,38 +1,97 @@
 package org.covid19.vaccinetracker.notifications;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.Lists;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
 
-import org.apache.commons.codec.digest.DigestUtils;
 import org.covid19.vaccinetracker.model.Center;
+import org.covid19.vaccinetracker.model.Session;
 import org.covid19.vaccinetracker.persistence.mariadb.entity.UserNotification;
 import org.covid19.vaccinetracker.persistence.mariadb.entity.UserNotificationId;
 import org.covid19.vaccinetracker.persistence.mariadb.repository.UserNotificationRepository;
-import org.jetbrains.annotations.Nullable;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 import lombok.extern.slf4j.Slf4j;
 
+import static java.util.Objects.isNull;
+
 @Slf4j
 @Component
 public class NotificationCache {
+    private static final int NULL_MARKER = -1;
+    private static final int IN_LIST_CHUNK_SIZE = 500;
+
     private final UserNotificationRepository repository;
-    private final ObjectMapper objectMapper;
 
-    public NotificationCache(UserNotificationRepository repository, ObjectMapper objectMapper) {
+    public NotificationCache(UserNotificationRepository repository) {
         this.repository = repository;
-        this.objectMapper = objectMapper;
     }
 
     public Optional<UserNotification> userNotificationFor(UserNotificationId id) {
         return repository.findById(id);
     }
 
-    public boolean isNewNotification(String user, String pincode, List<Center> centers) {
+    /**
+     * Looks up the latest notifications of many users at once, in chunks that use the primary key.
+     *
+     * @param userIds - Users to look up
+     * @return latest notification of the given users, for each pincode they were notified for
+     */
+    public Map<UserNotificationId, UserNotification> userNotificationsFor(Collection<String> userIds) {
+        final Map<UserNotificationId, UserNotification> notifications = new HashMap<>();
+        Lists.partition(new ArrayList<>(new LinkedHashSet<>(userIds)), IN_LIST_CHUNK_SIZE)
+                .forEach(chunk -> repository.findByUserNotificationIdUserIdIn(chunk)
+                        .forEach(notification -> notifications.put(notification.getUserNotificationId(), notification)));
+        return notifications;
+    }
+
+    /**
+     * Computes a 128-bit fingerprint of the given centers over the fields that determine whether a
+     * notification is different: center id, session date, vaccine, age limit and capacities.
+     * Compute it once per eligible-center list and pass it to both {@link #isNewNotification} and
+     * {@link #updateUser}.
+     *
+     * @param centers - eligible centers for a user
+     * @return hex encoded fingerprint
+     */
+    public String fingerprint(List<Center> centers) {
+        final Hasher hasher = Hashing.murmur3_128().newHasher();
+        if (isNull(centers)) {
+            return hasher.hash().toString();
+        }
+        hasher.putInt(centers.size());
+        for (Center center : centers) {
+            putNullableInt(hasher, center.getCenterId());
+            final List<Session> sessions = center.getSessions();
+            if (isNull(sessions)) {
+                hasher.putInt(NULL_MARKER);
+                continue;
+            }
+            hasher.putInt(sessions.size());
+            for (Session session : sessions) {
+                putNullableString(hasher, session.getDate());
+                putNullableString(hasher, session.getVaccine());
+                putNullableInt(hasher, session.getMinAgeLimit());
+                putNullableInt(hasher, session.getAvailableCapacity());
+                putNullableInt(hasher, session.getAvailableCapacityDose1());
+                putNullableInt(hasher, session.getAvailableCapacityDose2());
+            }
+        }
+        return hasher.hash().toString();
+    }
+
+    public boolean isNewNotification(String user, String pincode, String fingerprint) {
         final Optional<UserNotification> fromCache = this.repository.findById(
                 UserNotificationId.builder()
                         .userId(user)
@@ -43,39 +102,32 @@ public class NotificationCache {
             return true;
         }
 
-        byte[] bytes = serialize(centers);
-        if (bytes == null) {
-            return true;
-        }
-
         // obtain "last notified at" in IST zone
 //        String lastNotifiedAt = ZonedDateTime.of(fromCache.get().getNotifiedAt(), ZoneId.of("UTC")).withZoneSameInstant(ZoneId.of(INDIA_TIMEZONE)).format(Utils.dtf);
-        return !DigestUtils.sha256Hex(bytes).equals(fromCache.get().getNotificationHash());
+        return !Objects.equals(fingerprint, fromCache.get().getNotificationHash());
     }
 
-    public void updateUser(String user, String pincode, List<Center> centers) {
-        byte[] bytes = serialize(centers);
-        String notificationHash = bytes == null ? "unknown" : DigestUtils.sha256Hex(bytes);
+    public void updateUser(String user, String pincode, String fingerprint) {
         this.repository.save(
                 UserNotification.builder()
                         .userNotificationId(UserNotificationId.builder()
                                 .userId(user)
                                 .pincode(pincode)
                                 .build())
-                        .notificationHash(notificationHash)
+                        .notificationHash(isNull(fingerprint) ? "unknown" : fingerprint)
                         .notifiedAt(LocalDateTime.now())
                         .build());
     }
 
-    @Nullable
-    private byte[] serialize(List<Center> centers) {
-        byte[] bytes;
-        try {
-            bytes = objectMapper.writeValueAsBytes(centers);
-        } catch (JsonProcessingException e) {
-            log.error("Error serializing centers {}", centers);
-            return null;
+    private void putNullableInt(Hasher hasher, Integer value) {
+        hasher.putInt(isNull(value) ? NULL_MARKER : value);
+    }
+
+    private void putNullableString(Hasher hasher, String value) {
+        if (isNull(value)) {
+            hasher.putInt(NULL_MARKER);
+        } else {
+            hasher.putInt(value.length()).putString(value, StandardCharsets.UTF_8);
         }
-        return bytes;
     }
 }
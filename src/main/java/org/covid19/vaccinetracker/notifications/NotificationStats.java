@@ -1,47 +1,130 @@
 package org.covid19.vaccinetracker.notifications;
 
+import org.covid19.vaccinetracker.model.AlertTrace;
+import org.covid19.vaccinetracker.utils.WindowedCounter;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
 import java.time.Instant;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 
 @Component
 public class NotificationStats {
-    private final AtomicInteger userRequests = new AtomicInteger(0);
-    private final AtomicInteger processedPincodes = new AtomicInteger(0);
-    private final AtomicInteger failedApiCalls = new AtomicInteger(0);
-    private final AtomicInteger notificationsSent = new AtomicInteger(0);
-    private final AtomicInteger notificationsErrors = new AtomicInteger(0);
-    private Instant startTime;
-    private Instant endTime;
+    private final MeterRegistry registry;
+    private final WindowedCounter userRequests;
+    private final WindowedCounter processedPincodes;
+    private final WindowedCounter failedApiCalls;
+    private final WindowedCounter notificationsSent;
+    private final WindowedCounter notificationsErrors;
+    private final DistributionSummary fanout;
+    private final Counter cacheHits;
+    private final Counter cacheMisses;
+    private volatile Instant startTime;
+    private volatile Instant endTime;
+
+    public NotificationStats(MeterRegistry registry) {
+        this.registry = registry;
+        this.userRequests = new WindowedCounter(registry, "notifications.users.evaluated", "Users evaluated for a notification");
+        this.processedPincodes = new WindowedCounter(registry, "notifications.pincodes.processed", "Updated pincodes processed");
+        this.failedApiCalls = new WindowedCounter(registry, "notifications.api.calls.failed", "Failed calls to CoWIN");
+        this.notificationsSent = new WindowedCounter(registry, "notifications.sent", "Notifications sent");
+        this.notificationsErrors = new WindowedCounter(registry, "notifications.errors", "Notifications that could not be sent");
+        this.fanout = DistributionSummary.builder("notifications.fanout")
+                .description("Subscribers of an updated pincode")
+                .publishPercentileHistogram()
+                .register(registry);
+        this.cacheHits = Counter.builder("notifications.cache")
+                .description("Notification cache lookups, a hit suppresses a duplicate notification")
+                .tag("result", "hit")
+                .register(registry);
+        this.cacheMisses = Counter.builder("notifications.cache")
+                .description("Notification cache lookups, a hit suppresses a duplicate notification")
+                .tag("result", "miss")
+                .register(registry);
+    }
 
     public void reset() {
-        userRequests.set(0);
-        processedPincodes.set(0);
-        failedApiCalls.set(0);
-        notificationsSent.set(0);
-        notificationsErrors.set(0);
+        userRequests.reset();
+        processedPincodes.reset();
+        failedApiCalls.reset();
+        notificationsSent.reset();
+        notificationsErrors.reset();
     }
 
     public void incrementUserRequests() {
-        userRequests.incrementAndGet();
+        userRequests.increment();
     }
 
     public void incrementProcessedPincodes() {
-        processedPincodes.incrementAndGet();
+        processedPincodes.increment();
     }
 
     public void incrementfailedApiCalls() {
-        failedApiCalls.incrementAndGet();
+        failedApiCalls.increment();
     }
 
     public void incrementNotificationsSent() {
-        notificationsSent.incrementAndGet();
+        notificationsSent.increment();
     }
 
     public void incrementNotificationsErrors() {
-        notificationsErrors.incrementAndGet();
+        notificationsErrors.increment();
+    }
+
+    public void recordFanout(int users) {
+        fanout.record(users);
+    }
+
+    public void recordCacheLookup(boolean newNotification) {
+        if (newNotification) {
+            cacheMisses.increment();
+        } else {
+            cacheHits.increment();
+        }
+    }
+
+    /**
+     * Records the outcome of sending a Telegram message.
+     *
+     * @param outcome - "sent", "failed", "blocked" or "error"
+     */
+    public void recordTelegramOutcome(String outcome) {
+        registry.counter("notifications.telegram", "outcome", outcome).increment();
+    }
+
+    /**
+     * Records the latency of a delivered alert from the CoWIN fetch of its district, overall and
+     * per pipeline stage.
+     *
+     * @param trace - Trace of the slot update that triggered the alert
+     */
+    public void recordAlertDelivered(AlertTrace trace) {
+        final long deliveredAt = System.currentTimeMillis();
+        Timer.builder("alerts.latency")
+                .description("Time from fetching a district from CoWIN to delivering the alert")
+                .tag("district", String.valueOf(trace.getDistrictId()))
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(registry)
+                .record(deliveredAt - trace.getFetchedAt(), TimeUnit.MILLISECONDS);
+        recordStage("publish", trace.getFetchedAt(), trace.getPublishedAt());
+        recordStage("notify", trace.getPublishedAt(), trace.getNotifiedAt());
+        recordStage("deliver", trace.getNotifiedAt(), deliveredAt);
+    }
+
+    private void recordStage(String stage, long from, long to) {
+        if (from > 0 && to >= from) {
+            Timer.builder("alerts.stage.latency")
+                    .description("Time spent in a stage of the alert pipeline")
+                    .tag("stage", stage)
+                    .publishPercentileHistogram()
+                    .register(registry)
+                    .record(to - from, TimeUnit.MILLISECONDS);
+        }
     }
 
     public void noteStartTime() {
@@ -53,23 +136,23 @@ public class NotificationStats {
     }
 
     public int userRequests() {
-        return userRequests.get();
+        return userRequests.sinceReset();
     }
 
     public int processedPincodes() {
-        return processedPincodes.get();
+        return processedPincodes.sinceReset();
     }
 
     public int failedApiCalls() {
-        return failedApiCalls.get();
+        return failedApiCalls.sinceReset();
     }
 
     public int notificationsSent() {
-        return notificationsSent.get();
+        return notificationsSent.sinceReset();
     }
 
     public int notificationsErrors() {
-        return notificationsErrors.get();
+        return notificationsErrors.sinceReset();
     }
 
     public String timeTaken() {
@@ -0,0 +1,25 @@
+package org.covid19.vaccinetracker.notifications;
+
+import org.covid19.vaccinetracker.model.AlertTrace;
+import org.covid19.vaccinetracker.model.SessionDeltas;
+import org.covid19.vaccinetracker.model.UsersByPincode;
+
+import lombok.AllArgsConstructor;
+import lombok.Value;
+import lombok.With;
+
+/**
+ * Changed sessions of a pincode joined with the users subscribed to it.
+ */
+@Value
+@AllArgsConstructor
+class PincodeUpdate {
+    SessionDeltas deltas;
+    UsersByPincode usersByPincode;
+    @With
+    AlertTrace trace; // absent for records published without trace headers
+
+    PincodeUpdate(SessionDeltas deltas, UsersByPincode usersByPincode) {
+        this(deltas, usersByPincode, null);
+    }
+}
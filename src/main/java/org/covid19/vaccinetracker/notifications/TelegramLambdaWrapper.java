@@ -9,6 +9,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import org.covid19.vaccinetracker.availability.aws.AWSConfig;
+import org.covid19.vaccinetracker.model.AlertTrace;
 import org.covid19.vaccinetracker.userrequests.UserRequestManager;
 import org.covid19.vaccinetracker.utils.Utils;
 import org.jetbrains.annotations.NotNull;
@@ -25,6 +26,7 @@ import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import static java.util.Collections.emptyList;
+import static java.util.Objects.nonNull;
 
 @Slf4j
 @Component
@@ -33,12 +35,15 @@ public class TelegramLambdaWrapper {
     private final AWSLambdaAsync awsLambdaAsync;
     private final ObjectMapper objectMapper;
     private final UserRequestManager userRequestManager;
+    private final NotificationStats stats;
 
-    public TelegramLambdaWrapper(AWSConfig awsConfig, AWSLambdaAsync awsLambdaAsync, ObjectMapper objectMapper, UserRequestManager userRequestManager) {
+    public TelegramLambdaWrapper(AWSConfig awsConfig, AWSLambdaAsync awsLambdaAsync, ObjectMapper objectMapper,
+                                 UserRequestManager userRequestManager, NotificationStats stats) {
         this.awsConfig = awsConfig;
         this.awsLambdaAsync = awsLambdaAsync;
         this.objectMapper = objectMapper;
         this.userRequestManager = userRequestManager;
+        this.stats = stats;
     }
 
     /**
@@ -48,30 +53,52 @@ public class TelegramLambdaWrapper {
      * @param message - TG message
      */
     public void sendTelegramNotification(String chatId, String message) {
+        sendTelegramNotification(chatId, message, null);
+    }
+
+    /**
+     * Invokes "SendTelegramMsg" Lambda asynchronously with given inputs and records the end-to-end
+     * latency of the alert once it is delivered.
+     *
+     * @param chatId  - Id of the TG user
+     * @param message - TG message
+     * @param trace   - Trace of the slot update that triggered the alert, may be null
+     */
+    public void sendTelegramNotification(String chatId, String message, AlertTrace trace) {
         createSendTelegramMsgLambdaEvent(chatId, message)
                 .map(this::createSendTelegramMsgInvokeRequest)
-                .ifPresent(invokeRequest -> awsLambdaAsync.invokeAsync(invokeRequest, sendTelegramMsgAsyncHandler()));
+                .ifPresent(invokeRequest -> awsLambdaAsync.invokeAsync(invokeRequest, sendTelegramMsgAsyncHandler(trace)));
     }
 
     @NotNull
-    private AsyncHandler<InvokeRequest, InvokeResult> sendTelegramMsgAsyncHandler() {
+    private AsyncHandler<InvokeRequest, InvokeResult> sendTelegramMsgAsyncHandler(AlertTrace trace) {
         return new AsyncHandler<>() {
             @Override
             public void onError(Exception e) {
+                stats.recordTelegramOutcome("error");
                 log.error("Got error {}", e.getMessage());
             }
 
             @Override
             public void onSuccess(InvokeRequest request, InvokeResult result) {
                 toSendTelegramMsgLambdaResponse(result)
-                        .filter(response -> !response.getStatus())
                         .ifPresent(response -> {
+                            if (response.getStatus()) {
+                                stats.recordTelegramOutcome("sent");
+                                if (nonNull(trace)) {
+                                    stats.recordAlertDelivered(trace);
+                                }
+                                return;
+                            }
                             log.warn("Error sending TG notification to {}, error {}", response.getChatId(), response.getErrorMsg());
                             if (response.getErrorMsg().contains("bot was blocked by the user")
                                     || response.getErrorMsg().contains("user is deactivated")) {
+                                stats.recordTelegramOutcome("blocked");
                                 // stop user preference to prevent further alerts being sent
                                 userRequestManager.acceptUserRequest(response.getChatId(), emptyList());
                                 log.warn("User {} pincode preferences cleared", response.getChatId());
+                            } else {
+                                stats.recordTelegramOutcome("failed");
                             }
                         });
             }
@@ -11,7 +11,10 @@ import org.covid19.vaccinetracker.utils.Utils;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 import lombok.extern.slf4j.Slf4j;
@@ -45,8 +48,12 @@ public class VaccineCentersNotification {
         log.info("Starting Vaccine Tracker Notification update...");
         notificationStats.reset();
         notificationStats.noteStartTime();
-        ConcurrentHashMap<String, VaccineCenters> cache = new ConcurrentHashMap<>();
         final List<UserRequest> userRequests = userRequestManager.fetchAllUserRequests();
+        // fetch the centers of all pincodes up front, in batches
+        final Set<String> pincodes = new HashSet<>();
+        userRequests.forEach(userRequest -> pincodes.addAll(userRequest.getPincodes()));
+        final Map<String, VaccineCenters> cache = vaccinePersistence.fetchVaccineCentersByPincodes(pincodes);
+        pincodes.forEach(pincode -> notificationStats.incrementProcessedPincodes());
         userRequests.forEach(userRequest -> {
             notificationStats.incrementUserRequests();
 //            final String lastNotifiedAt = userRequest.getLastNotifiedAt();
@@ -56,21 +63,11 @@ public class VaccineCentersNotification {
 //            }
             // process pin codes of each user
             userRequest.getPincodes().forEach(pincode -> {
-                VaccineCenters vaccineCenters;
-                if (cache.containsKey(pincode)) {
-                    vaccineCenters = cache.get(pincode);
-                } else {
-                    notificationStats.incrementProcessedPincodes();
-                    vaccineCenters = vaccinePersistence.fetchVaccineCentersByPincode(pincode);
-                    if (isNull(vaccineCenters) || vaccineCenters.centers.isEmpty()) {
-                        log.debug("No centers found for pin code {} in persistence store.", pincode);
-                        VaccineCenters empty = new VaccineCenters();
-                        empty.setCenters(new ArrayList<>());
-                        cache.putIfAbsent(pincode, empty); // update local cache
-                        return;
-                    }
+                final VaccineCenters vaccineCenters = cache.get(pincode);
+                if (isNull(vaccineCenters) || vaccineCenters.centers.isEmpty()) {
+                    log.debug("No centers found for pin code {} in persistence store.", pincode);
+                    return;
                 }
-                cache.putIfAbsent(pincode, vaccineCenters); // update local cache
                 List<Center> eligibleCenters = vaccineCentersProcessor.eligibleVaccineCenters(vaccineCenters, userRequest.getChatId());
                 if (eligibleCenters.isEmpty()) {
                     log.debug("No eligible vaccine centers found for pin code {}", pincode);
@@ -93,7 +90,6 @@ public class VaccineCentersNotification {
         botService.notifyOwner(String.format("[NOTIFICATION] Users: %d, Pincodes: %d, Sent: %d, Errors: %d, Time taken: %s",
                 notificationStats.userRequests(), notificationStats.processedPincodes(),
                 notificationStats.notificationsSent(), notificationStats.notificationsErrors(), notificationStats.timeTaken()));
-        cache.clear(); // clear cache
     }
 
     //    @Scheduled(cron = "0 0/15 6-23 * * *", zone = "IST")
@@ -6,15 +6,12 @@ import org.covid19.vaccinetracker.model.VaccineCenters;
 import org.covid19.vaccinetracker.userrequests.UserRequestManager;
 import org.covid19.vaccinetracker.userrequests.model.Age;
 import org.covid19.vaccinetracker.userrequests.model.Dose;
+import org.covid19.vaccinetracker.userrequests.model.UserPreference;
 import org.covid19.vaccinetracker.userrequests.model.Vaccine;
-import org.jetbrains.annotations.NotNull;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import static java.util.Objects.isNull;
 import static org.covid19.vaccinetracker.userrequests.model.Age.AGE_BOTH;
@@ -34,66 +31,57 @@ public class VaccineCentersProcessor {
     }
 
     public List<Center> eligibleVaccineCenters(VaccineCenters vaccineCenters, String user) {
-        List<Center> eligibleCenters = new ArrayList<>();
+        if (isNull(vaccineCenters.centers)) {
+            return new ArrayList<>();
+        }
+        return eligibleVaccineCenters(vaccineCenters, preferenceOf(user));
+    }
 
+    public List<Center> eligibleVaccineCenters(VaccineCenters vaccineCenters, UserPreference preference) {
         if (isNull(vaccineCenters.centers)) {
-            return eligibleCenters;
+            return new ArrayList<>();
         }
+        return eligibleCenters(vaccineCenters).centersFor(preference);
+    }
+
+    /**
+     * @param vaccineCenters - Centers of a pincode
+     * @return eligible centers of the pincode, evaluated once per preference for all of its users
+     */
+    public EligibleCenters eligibleCenters(VaccineCenters vaccineCenters) {
+        return new EligibleCenters(vaccineCenters, this::eligibleSessionForPreference, this::buildCenter);
+    }
+
+    public UserPreference preferenceOf(String user) {
+        return new UserPreference(
+                userRequestManager.getUserAgePreference(user),
+                userRequestManager.getUserDosePreference(user),
+                userRequestManager.getUserVaccinePreference(user));
+    }
+
+    private boolean eligibleSessionForPreference(Session session, UserPreference preference) {
+        return checkAgePreference(session, preference.getAge())
+                && checkDosePreference(session, preference.getDose())
+                && checkVaccinePreference(session, preference.getVaccine());
+    }
+
+    private boolean checkVaccinePreference(Session session, Vaccine preference) {
+        return sessionAndUserValidForCovishield(session, preference)
+                || sessionAndUserValidForCovaxin(session, preference)
+                || sessionAndUserValidForSputnikV(session, preference)
+                || Vaccine.ALL.equals(preference);
+    }
+
+    private boolean checkDosePreference(Session session, Dose preference) {
+        return sessionAndUserValidForDose1(session, preference)
+                || sessionAndUserValidForDose2(session, preference)
+                || DOSE_BOTH.equals(preference);
+    }
 
-        vaccineCenters.centers.forEach(center -> {
-            List<Session> eligibleSessions = center.getSessions().stream()
-                    .filter(Session::hasCapacity)
-                    .filter(session -> eligibleCenterForUser(session, user))
-                    .collect(Collectors.toList());
-
-            if (!eligibleSessions.isEmpty()) {
-                Center eligibleCenter = buildCenter(center);
-                eligibleCenter.setSessions(eligibleSessions);
-                eligibleCenters.add(eligibleCenter);
-            }
-        });
-        return eligibleCenters;
-    }
-
-    private boolean eligibleCenterForUser(Session session, String user) {
-        return Stream.of(user)
-                .filter(checkAgePreference(session))
-                .filter(checkDosePreference(session))
-                .filter(checkVaccinePreference(session))
-                .map(u -> true)
-                .findFirst()
-                .orElse(false);
-    }
-
-    @NotNull
-    private Predicate<String> checkVaccinePreference(Session session) {
-        return u -> {
-            final Vaccine preference = userRequestManager.getUserVaccinePreference(u);
-            return sessionAndUserValidForCovishield(session, preference)
-                    || sessionAndUserValidForCovaxin(session, preference)
-                    || sessionAndUserValidForSputnikV(session, preference)
-                    || Vaccine.ALL.equals(preference);
-        };
-    }
-
-    @NotNull
-    private Predicate<String> checkDosePreference(Session session) {
-        return u -> {
-            final Dose preference = userRequestManager.getUserDosePreference(u);
-            return sessionAndUserValidForDose1(session, preference)
-                    || sessionAndUserValidForDose2(session, preference)
-                    || DOSE_BOTH.equals(preference);
-        };
-    }
-
-    @NotNull
-    private Predicate<String> checkAgePreference(Session session) {
-        return u -> {
-            final Age preference = userRequestManager.getUserAgePreference(u);
-            return sessionAndUserValidFor18(session, preference)
-                    || sessionAndUserValidFor45(session, preference)
-                    || AGE_BOTH.equals(preference);
-        };
+    private boolean checkAgePreference(Session session, Age preference) {
+        return sessionAndUserValidFor18(session, preference)
+                || sessionAndUserValidFor45(session, preference)
+                || AGE_BOTH.equals(preference);
     }
 
     private boolean sessionAndUserValidFor45(Session session, Age userAgePreference) {
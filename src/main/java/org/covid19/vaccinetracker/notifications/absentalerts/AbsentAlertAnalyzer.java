@@ -7,27 +7,25 @@ import org.covid19.vaccinetracker.utils.Utils;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
-import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Optional;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.PriorityQueue;
 
-import static java.util.Comparator.comparing;
 import static java.util.Objects.isNull;
-import static java.util.Objects.nonNull;
 import static java.util.Optional.ofNullable;
-import static java.util.stream.Collectors.groupingBy;
-import static java.util.stream.Collectors.maxBy;
-import static java.util.stream.Collectors.reducing;
 
 /**
  * Analyze why a user has not received any alerts.
+ * <p>
+ * Sessions are walked once per purpose and compared by their pre-parsed epoch day. The same
+ * sessions are analyzed for every user of a pincode, so they are never modified.
  */
 @Component
 public class AbsentAlertAnalyzer {
+    private static final int RECENTS = 5;
 
     public AbsentAlertCause analyze(AbsentAlertSource source, List<CenterSession> sessions) {
         AbsentAlertCause absentAlertCause = AbsentAlertCause.builder()
@@ -35,8 +33,6 @@ public class AbsentAlertAnalyzer {
                 .pincode(source.getPincode())
                 .build();
 
-        List<CenterSession> relevantSessions = sessions.stream().filter(relevantSessionPredicate(source)).collect(Collectors.toList());
-
         // set last notified in cause
         ofNullable(source.getLatestNotification())
                 .filter(userNotification -> dayOld(userNotification.getNotifiedAt()))
@@ -47,15 +43,19 @@ public class AbsentAlertAnalyzer {
                         () -> absentAlertCause.setLastNotified(
                                 String.format("You have not received any notification for pincode %s", source.getPincode())));
 
+        // latest relevant session of each center, the first one wins ties
+        final Map<String, CenterSession> latestRelevantSessions = new HashMap<>();
+        for (CenterSession session : sessions) {
+            if (matchingAgePreference(source.getAge(), session.getMinAge())
+                    && matchingVaccinePreference(source.getVaccine(), session.getSessionVaccine())) {
+                latestRelevantSessions.merge(session.getCenterName(), session,
+                        (latest, candidate) -> candidate.getSessionEpochDay() > latest.getSessionEpochDay() ? candidate : latest);
+            }
+        }
 
-        if (!relevantSessions.isEmpty()) {
+        if (!latestRelevantSessions.isEmpty()) {
             // sessions have opened for user pincode before, include them in causes
-            relevantSessions
-                    .stream()
-                    .collect(groupingBy(CenterSession::getCenterName, maxBy(comparing(o -> toLocalDate(o.getSessionDate())))))
-                    .values()
-                    .stream()
-                    .flatMap(Optional::stream)
+            latestRelevantSessions.values()
                     .forEach(currentSession -> absentAlertCause.addCause(
                             String.format("%s (%s %s) last had open slots for %s on %s",
                                     currentSession.getCenterName(), currentSession.getDistrictName(),
@@ -66,31 +66,39 @@ public class AbsentAlertAnalyzer {
         }
 
         // identify recent 5 sessions
-        sessions
-                .stream()
-                .collect(groupingBy(CenterSession::getCenterName, reducing((old, current) -> {
-                    if (!old.getSessionDate().equalsIgnoreCase(current.getSessionDate())) {
-                        current.setMultipleDates((nonNull(old.getMultipleDates()) ? old.getMultipleDates() : old.getSessionDate()) + ", " + current.getSessionDate());
-                    }
-                    return current;
-                })))
-                .values()
-                .stream()
-                .flatMap(Optional::stream)
-                .sorted((o1, o2) -> toLocalDate(o2.getSessionDate()).compareTo(toLocalDate(o1.getSessionDate())))
-                .limit(5)
-                .forEach(session -> absentAlertCause.addRecent(
-                        String.format("%s (%s %s) had availability of %s for %d+ on %s",
-                                session.getCenterName(), session.getDistrictName(),
-                                session.getPincode(), session.getSessionVaccine(), session.getMinAge(),
-                                nonNull(session.getMultipleDates()) ? session.getMultipleDates() : session.getSessionDate())));
+        final Map<String, RecentSessions> recentSessionsByCenter = new LinkedHashMap<>();
+        for (CenterSession session : sessions) {
+            recentSessionsByCenter.computeIfAbsent(session.getCenterName(), centerName -> new RecentSessions()).add(session);
+        }
+        for (RecentSessions recent : latestRecentSessions(recentSessionsByCenter)) {
+            final CenterSession session = recent.last;
+            absentAlertCause.addRecent(
+                    String.format("%s (%s %s) had availability of %s for %d+ on %s",
+                            session.getCenterName(), session.getDistrictName(),
+                            session.getPincode(), session.getSessionVaccine(), session.getMinAge(),
+                            recent.dates()));
+        }
         return absentAlertCause;
     }
 
-    private Predicate<CenterSession> relevantSessionPredicate(AbsentAlertSource source) {
-        return centerSession ->
-                matchingAgePreference(source.getAge(), centerSession.getMinAge())
-                        && matchingVaccinePreference(source.getVaccine(), centerSession.getSessionVaccine());
+    /*
+     * Selects the centers with the latest sessions through a min-heap of RECENTS entries, instead
+     * of sorting all of them. Returns them latest first.
+     */
+    private RecentSessions[] latestRecentSessions(Map<String, RecentSessions> recentSessionsByCenter) {
+        final PriorityQueue<RecentSessions> latest = new PriorityQueue<>(RECENTS + 1,
+                (o1, o2) -> Long.compare(o1.last.getSessionEpochDay(), o2.last.getSessionEpochDay()));
+        for (RecentSessions recent : recentSessionsByCenter.values()) {
+            latest.offer(recent);
+            if (latest.size() > RECENTS) {
+                latest.poll();
+            }
+        }
+        final RecentSessions[] selected = new RecentSessions[latest.size()];
+        for (int i = selected.length - 1; i >= 0; i--) {
+            selected[i] = latest.poll();
+        }
+        return selected;
     }
 
     private boolean matchingVaccinePreference(String userPrefVaccine, String sessionVaccine) {
@@ -118,8 +126,26 @@ public class AbsentAlertAnalyzer {
         }
     }
 
-    private LocalDate toLocalDate(String ddMMyyyy) {
-        DateTimeFormatter inputFormat = DateTimeFormatter.ofPattern("dd-MM-yyyy");
-        return LocalDate.parse(ddMMyyyy, inputFormat);
+    /*
+     * Sessions of a center in the order they were given: the last one, and the dates that differ
+     * from the date before them.
+     */
+    private static class RecentSessions {
+        private CenterSession last;
+        private StringBuilder dates; // only when there are multiple dates
+
+        void add(CenterSession session) {
+            if (!isNull(last) && last.getSessionEpochDay() != session.getSessionEpochDay()) {
+                if (isNull(dates)) {
+                    dates = new StringBuilder(last.getSessionDate());
+                }
+                dates.append(", ").append(session.getSessionDate());
+            }
+            last = session;
+        }
+
+        String dates() {
+            return isNull(dates) ? last.getSessionDate() : dates.toString();
+        }
     }
 }
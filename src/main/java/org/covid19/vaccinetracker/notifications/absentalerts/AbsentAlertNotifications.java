@@ -1,15 +1,35 @@
 package org.covid19.vaccinetracker.notifications.absentalerts;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import org.covid19.vaccinetracker.model.CenterSession;
 import org.covid19.vaccinetracker.notifications.NotificationCache;
-import org.covid19.vaccinetracker.persistence.VaccinePersistence;
+import org.covid19.vaccinetracker.persistence.SlotHistory;
+import org.covid19.vaccinetracker.persistence.kafka.KafkaStateStores;
+import org.covid19.vaccinetracker.persistence.mariadb.SlotHistoryConfig;
+import org.covid19.vaccinetracker.persistence.mariadb.entity.UserNotification;
 import org.covid19.vaccinetracker.persistence.mariadb.entity.UserNotificationId;
 import org.covid19.vaccinetracker.userrequests.UserRequestManager;
 import org.covid19.vaccinetracker.userrequests.model.UserRequest;
+import org.covid19.vaccinetracker.utils.Utils;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -22,48 +42,113 @@ import lombok.extern.slf4j.Slf4j;
  * Sends summary notifications to active users who haven't received regular alerts in last 2 days.
  * It explains the reason why no alerts have been sent and optionally suggestions to increase
  * chances of receiving alerts.
+ * <p>
+ * Users are read from the state stores and analyzed batch by batch, so only one batch of users is
+ * held in memory at a time. The notifications of a batch are looked up at once, the openings
+ * of each pincode are looked up once and shared by all its users, and pincodes are analyzed in
+ * parallel.
  */
 @Slf4j
 @Component
-public class AbsentAlertNotifications {
+public class AbsentAlertNotifications implements DisposableBean {
     private final UserRequestManager userRequestManager;
     private final NotificationCache cache;
     private final AbsentAlertAnalyzer analyzer;
-    private final VaccinePersistence vaccinePersistence;
+    private final SlotHistory slotHistory;
+    private final SlotHistoryConfig slotHistoryConfig;
+    private final KafkaStateStores kafkaStateStores;
+    private final AbsentAlertsConfig config;
+    private final ExecutorService analyzerExecutor;
 
     public AbsentAlertNotifications(UserRequestManager userRequestManager, NotificationCache cache,
-                                    AbsentAlertAnalyzer analyzer, VaccinePersistence vaccinePersistence) {
+                                    AbsentAlertAnalyzer analyzer, SlotHistory slotHistory,
+                                    SlotHistoryConfig slotHistoryConfig, KafkaStateStores kafkaStateStores,
+                                    AbsentAlertsConfig config) {
         this.userRequestManager = userRequestManager;
         this.cache = cache;
         this.analyzer = analyzer;
-        this.vaccinePersistence = vaccinePersistence;
+        this.slotHistory = slotHistory;
+        this.slotHistoryConfig = slotHistoryConfig;
+        this.kafkaStateStores = kafkaStateStores;
+        this.config = config;
+        this.analyzerExecutor = Executors.newFixedThreadPool(config.getParallelism(),
+                new ThreadFactoryBuilder().setNameFormat("absentalerts-%d").build());
     }
 
     public Map<String, List<AbsentAlertCause>> onDemandAbsentAlertsNotification(String userId) {
-        return Stream.of(userRequestManager.fetchUserRequest(userId))
-                .filter(userRequest -> !userRequest.getPincodes().isEmpty())
-                .flatMap(getLatestNotifications())
-                .map(identifyCause())
-                .collect(Collectors.groupingBy(AbsentAlertCause::getUserId))
-                ;
+        return Optional.ofNullable(userRequestManager.fetchUserRequest(userId))
+                .filter(activeUsers())
+                .map(userRequest -> analyze(List.of(userRequest), openingsCache()))
+                .orElse(Map.of());
     }
 
     @Scheduled(cron = "${jobs.cron.absentalerts.notifications:-}", zone = "IST")
     public void absentAlertsNotificationJob() {
-        userRequestManager.fetchAllUserRequests()
-                .stream()
-                .filter(activeUsers())
-                .flatMap(getLatestNotifications())
-                .map(identifyCause())
-                .collect(Collectors.groupingBy(AbsentAlertCause::getUserId))
-                .forEach(sendNotification());
+        if (!kafkaStateStores.isLeader()) {
+            log.debug("Skipping absent alerts notifications on non-leader instance");
+            return;
+        }
+        final long start = System.nanoTime();
+        final AtomicInteger analyzedUsers = new AtomicInteger();
+        final Cache<String, List<CenterSession>> openings = openingsCache();
+        userRequestManager.forEachUserRequestBatch(config.getBatchSize(), batch -> {
+            final List<UserRequest> activeUsers = batch.stream()
+                    .filter(activeUsers())
+                    .collect(Collectors.toList());
+            if (!activeUsers.isEmpty()) {
+                analyzedUsers.addAndGet(activeUsers.size());
+                analyze(activeUsers, openings).forEach(sendNotification());
+            }
+        });
+        log.info("Analyzed absent alerts of {} users in {} ms", analyzedUsers.get(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
     }
 
     private Predicate<? super UserRequest> activeUsers() {
         return userRequest -> !userRequest.getPincodes().isEmpty();
     }
 
-    private Function<UserRequest, Stream<AbsentAlertSource>> getLatestNotifications() {
+    private Map<String, List<AbsentAlertCause>> analyze(List<UserRequest> userRequests, Cache<String, List<CenterSession>> openingsCache) {
+        final Map<UserNotificationId, UserNotification> notifications = cache.userNotificationsFor(
+                userRequests.stream().map(UserRequest::getChatId).collect(Collectors.toList()));
+        final Map<String, List<AbsentAlertSource>> sourcesByPincode = userRequests.stream()
+                .flatMap(getLatestNotifications(notifications))
+                .collect(Collectors.groupingBy(AbsentAlertSource::getPincode));
+        final Map<String, List<CenterSession>> openings = openingsOf(sourcesByPincode.keySet(), openingsCache);
+        return sourcesByPincode.entrySet()
+                .stream()
+                .map(sources -> CompletableFuture.supplyAsync(() -> sources.getValue()
+                        .stream()
+                        .map(source -> analyzer.analyze(source, openings.getOrDefault(sources.getKey(), List.of())))
+                        .collect(Collectors.toList()), analyzerExecutor))
+                .collect(Collectors.toList())
+                .stream()
+                .flatMap(causes -> causes.join().stream())
+                .collect(Collectors.groupingBy(AbsentAlertCause::getUserId));
+    }
+
+    private Map<String, List<CenterSession>> openingsOf(Set<String> pincodes, Cache<String, List<CenterSession>> openingsCache) {
+        final Map<String, List<CenterSession>> openings = new HashMap<>(openingsCache.getAllPresent(pincodes));
+        final List<String> missing = pincodes.stream()
+                .filter(pincode -> !openings.containsKey(pincode))
+                .collect(Collectors.toList());
+        if (!missing.isEmpty()) {
+            final LocalDate since = LocalDate.now(ZoneId.of(Utils.INDIA_TIMEZONE)).minusDays(slotHistoryConfig.getLookbackDays());
+            final Map<String, List<CenterSession>> fetched = slotHistory.findOpeningsByPincodes(missing, since);
+            missing.forEach(pincode -> {
+                final List<CenterSession> pincodeOpenings = fetched.getOrDefault(pincode, List.of());
+                openings.put(pincode, pincodeOpenings);
+                openingsCache.put(pincode, pincodeOpenings);
+            });
+        }
+        return openings;
+    }
+
+    private Cache<String, List<CenterSession>> openingsCache() {
+        return CacheBuilder.newBuilder().maximumSize(config.getCachedPincodes()).build();
+    }
+
+    private Function<UserRequest, Stream<AbsentAlertSource>> getLatestNotifications(Map<UserNotificationId, UserNotification> notifications) {
         return userRequest -> userRequest.getPincodes()
                 .stream()
                 .map(pincode -> AbsentAlertSource.builder()
@@ -72,19 +157,19 @@ public class AbsentAlertNotifications {
                         .age(userRequest.getAge())
                         .dose(userRequest.getDose())
                         .vaccine(userRequest.getVaccine())
-                        .latestNotification(
-                                cache.userNotificationFor(new UserNotificationId(userRequest.getChatId(), pincode)).orElse(null))
+                        .latestNotification(notifications.get(new UserNotificationId(userRequest.getChatId(), pincode)))
                         .build());
     }
 
-    private Function<AbsentAlertSource, AbsentAlertCause> identifyCause() {
-        return source -> analyzer.analyze(source, vaccinePersistence.findAllSessionsByPincode(source.getPincode()));
-    }
-
     private BiConsumer<String, List<AbsentAlertCause>> sendNotification() {
         return (pincode, causes) -> {
             log.info("pincode is {}", pincode);
             log.info("cause is {}", causes);
         };
     }
+
+    @Override
+    public void destroy() {
+        analyzerExecutor.shutdownNow();
+    }
 }
@@ -0,0 +1,19 @@
+package org.covid19.vaccinetracker.notifications.absentalerts;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+/**
+ * Settings of the {@link AbsentAlertNotifications} job: users analyzed per batch, pincodes
+ * analyzed at the same time, and pincodes whose openings are kept for later batches.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "absent-alerts")
+public class AbsentAlertsConfig {
+    private int batchSize = 2000;
+    private int parallelism = 4;
+    private int cachedPincodes = 5000;
+}
@@ -8,6 +8,7 @@ import org.covid19.vaccinetracker.userrequests.model.Vaccine;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -22,27 +23,27 @@ public class BotBackend {
         this.userRequestManager = userRequestManager;
     }
 
-    public void acceptUserRequest(String userId, List<String> pincodes) {
-        userRequestManager.acceptUserRequest(userId, pincodes);
+    public CompletableFuture<Void> acceptUserRequest(String userId, List<String> pincodes) {
+        return userRequestManager.acceptUserRequest(userId, pincodes);
     }
 
-    public void cancelUserRequest(String userId) {
-        userRequestManager.acceptUserRequest(userId, emptyList());
+    public CompletableFuture<Void> cancelUserRequest(String userId) {
+        return userRequestManager.acceptUserRequest(userId, emptyList());
     }
 
     public UserRequest fetchUserSubscriptions(String userId) {
         return userRequestManager.fetchUserRequest(userId);
     }
 
-    public void updateAgePreference(String chatId, Age age) {
-        userRequestManager.updateAgePreference(chatId, age);
+    public CompletableFuture<Void> updateAgePreference(String chatId, Age age) {
+        return userRequestManager.updateAgePreference(chatId, age);
     }
 
-    public void updateDosePreference(String chatId, Dose dose) {
-        userRequestManager.updateDosePreference(chatId, dose);
+    public CompletableFuture<Void> updateDosePreference(String chatId, Dose dose) {
+        return userRequestManager.updateDosePreference(chatId, dose);
     }
 
-    public void updateVaccinePreference(String chatId, Vaccine vaccine) {
-        userRequestManager.updateVaccinePreference(chatId, vaccine);
+    public CompletableFuture<Void> updateVaccinePreference(String chatId, Vaccine vaccine) {
+        return userRequestManager.updateVaccinePreference(chatId, vaccine);
     }
 }
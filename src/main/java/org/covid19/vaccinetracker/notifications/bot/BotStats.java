@@ -0,0 +1,40 @@
+package org.covid19.vaccinetracker.notifications.bot;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+@Component
+public class BotStats {
+    private final MeterRegistry registry;
+
+    public BotStats(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Records the time from receiving a bot update to having handled it, including the time it waited
+     * for a handler thread.
+     *
+     * @param command    - Command of the update, one of the ability names, "pincode", "callback" or "other"
+     * @param receivedAt - {@link System#nanoTime()} when the update was received
+     */
+    public void recordCommand(String command, long receivedAt) {
+        Timer.builder("bot.command.latency")
+                .description("Time from receiving a bot update to having handled it")
+                .tag("command", command)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(registry)
+                .record(System.nanoTime() - receivedAt, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Records an update the polling thread had to wait for because the queue of its handler was full.
+     */
+    public void recordThrottled() {
+        registry.counter("bot.updates.throttled").increment();
+    }
+}
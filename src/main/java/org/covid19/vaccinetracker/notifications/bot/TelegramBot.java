@@ -1,15 +1,18 @@
 package org.covid19.vaccinetracker.notifications.bot;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 import org.covid19.vaccinetracker.model.Center;
-import org.covid19.vaccinetracker.persistence.mariadb.repository.StateRepository;
+import org.covid19.vaccinetracker.userrequests.MetadataStore;
+import org.covid19.vaccinetracker.userrequests.model.District;
 import org.covid19.vaccinetracker.userrequests.model.State;
 import org.covid19.vaccinetracker.userrequests.model.UserRequest;
 import org.covid19.vaccinetracker.userrequests.model.Vaccine;
 import org.covid19.vaccinetracker.utils.Utils;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.kafka.core.KafkaTemplate;
@@ -31,6 +34,10 @@ import org.telegram.telegrambots.meta.exceptions.TelegramApiException;
 import org.telegram.telegrambots.updatesreceivers.DefaultBotSession;
 
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Predicate;
 
 import lombok.extern.slf4j.Slf4j;
@@ -51,12 +58,18 @@ import static org.telegram.abilitybots.api.objects.Privacy.PUBLIC;
 
 @SuppressWarnings("unused")
 @Slf4j
-public class TelegramBot extends AbilityBot implements BotService, ApplicationContextAware {
+public class TelegramBot extends AbilityBot implements BotService, ApplicationContextAware, DisposableBean {
     private static Long CHAT_ID;
     private static Long CHANNEL_ID;
+    private static final Set<String> REPLY_FLOW_COMMANDS = Set.of("age", "dose", "vaccine");
     private BotBackend botBackend;
     private KafkaTemplate<String, UserRequest> userRequestKafkaTemplate;
-    private StateRepository stateRepository;
+    private MetadataStore metadataStore;
+    private BotStats botStats;
+    private UpdateDispatcher updateDispatcher;
+    // replies to failed saves, kept off the producer threads completing the saves
+    private final ExecutorService saveFailureReplies = Executors.newSingleThreadExecutor(
+            new ThreadFactoryBuilder().setNameFormat("telegrambot-save-failures-%d").setDaemon(true).build());
 
     public TelegramBot(String botToken, String botUsername, DBContext db, String creatorId, String channelId) {
         super(botToken, botUsername, db);
@@ -69,6 +82,30 @@ public class TelegramBot extends AbilityBot implements BotService, ApplicationCo
         return CHAT_ID.intValue();
     }
 
+    /**
+     * Handles the update on the handler thread of its chat instead of the long polling thread, so a
+     * slow command of one user does not hold up the updates of everyone else.
+     */
+    @Override
+    public void onUpdateReceived(Update update) {
+        if (isNull(updateDispatcher)) {
+            super.onUpdateReceived(update);
+            return;
+        }
+        final long receivedAt = System.nanoTime();
+        final String command = commandOf(update);
+        updateDispatcher.dispatch(laneOf(update), () -> {
+            try {
+                super.onUpdateReceived(update);
+            } catch (RuntimeException e) {
+                log.error("Error handling update {} for command {}", update.getUpdateId(), command, e);
+                replyTryAgain(update);
+            } finally {
+                botStats.recordCommand(command, receivedAt);
+            }
+        });
+    }
+
     public Ability start() {
         return Ability.builder().name("start").info("Subscribe to Covid19 Vaccine Tracker")
                 .locality(Locality.ALL).privacy(PUBLIC).input(0).action(ctx -> {
@@ -87,7 +124,7 @@ public class TelegramBot extends AbilityBot implements BotService, ApplicationCo
         return Ability.builder().name("stop").info("Stop getting alerts")
                 .locality(Locality.ALL).privacy(PUBLIC).input(0).action(ctx -> {
                     String chatId = getChatId(ctx.update());
-                    this.botBackend.cancelUserRequest(chatId);
+                    notifyIfNotSaved(this.botBackend.cancelUserRequest(chatId), chatId);
                     String message = String.format("Okay %s, I will no longer send you any alerts. ठीक है, मैं अब आपको कोई अलर्ट नहीं भेजूंगी।\n\n" +
                             "I hope you were able to book vaccine slot with my help. Please send feedback to @xsreality\n" +
                             "मुझे आशा है कि आप मेरी मदद से वैक्सीन स्लॉट बुक करने में सक्षम थे। कृपया प्रतिक्रिया भेजें @xsreality", getFirstName(ctx.update()));
@@ -157,8 +194,8 @@ public class TelegramBot extends AbilityBot implements BotService, ApplicationCo
                         String chatId = getChatId(ctx.update());
                         String firstName = getFirstName(ctx.update());
 
-                        this.botBackend.acceptUserRequest(chatId, pincodesAsList);
-                        State state = this.stateRepository.findByPincode(pincodesAsList.get(0));
+                        notifyIfNotSaved(this.botBackend.acceptUserRequest(chatId, pincodesAsList), chatId);
+                        State state = stateOf(pincodesAsList.get(0));
 
                         String localizedAckMessage = Utils.localizedAckText(state);
                         silent.send(String.format("Okay %s! I will notify you when vaccine is available in centers near your location.\n" +
@@ -182,7 +219,7 @@ public class TelegramBot extends AbilityBot implements BotService, ApplicationCo
     public ReplyFlow ageSelectionFlow() {
         Reply age18Flow = Reply.of((bot, upd) -> {
             removeKeyboard(upd);
-            botBackend.updateAgePreference(getChatId(upd), AGE_18_44);
+            notifyIfNotSaved(botBackend.updateAgePreference(getChatId(upd), AGE_18_44), getChatId(upd));
             silent.execute(SendMessage.builder().chatId(getChatId(upd)).text("I have updated your age preference to 18-44").build());
             notifyOwner(String.format("%s (%s) set age preference to 18-44",
                     Utils.translateName(upd.getCallbackQuery().getMessage().getChat()), getChatId(upd)));
@@ -190,7 +227,7 @@ public class TelegramBot extends AbilityBot implements BotService, ApplicationCo
 
         Reply age45Flow = Reply.of((bot, upd) -> {
             removeKeyboard(upd);
-            botBackend.updateAgePreference(getChatId(upd), AGE_45);
+            notifyIfNotSaved(botBackend.updateAgePreference(getChatId(upd), AGE_45), getChatId(upd));
             silent.execute(SendMessage.builder().chatId(getChatId(upd)).text("I have updated your age preference to 45+").build());
             notifyOwner(String.format("%s (%s) set age preference to 45+",
                     Utils.translateName(upd.getCallbackQuery().getMessage().getChat()), getChatId(upd)));
@@ -198,7 +235,7 @@ public class TelegramBot extends AbilityBot implements BotService, ApplicationCo
 
         Reply ageBothFlow = Reply.of((bot, upd) -> {
             removeKeyboard(upd);
-            botBackend.updateAgePreference(getChatId(upd), AGE_BOTH);
+            notifyIfNotSaved(botBackend.updateAgePreference(getChatId(upd), AGE_BOTH), getChatId(upd));
             silent.execute(SendMessage.builder().chatId(getChatId(upd)).text("I have updated your age preference to both 18-44 and 45+").build());
             notifyOwner(String.format("%s (%s) set age preference to both 18-44 and 45+",
                     Utils.translateName(upd.getCallbackQuery().getMessage().getChat()), getChatId(upd)));
@@ -216,7 +253,7 @@ public class TelegramBot extends AbilityBot implements BotService, ApplicationCo
     public ReplyFlow doseSelectionFlow() {
         Reply dose1Flow = Reply.of((bot, upd) -> {
             removeKeyboard(upd);
-            botBackend.updateDosePreference(getChatId(upd), DOSE_1);
+            notifyIfNotSaved(botBackend.updateDosePreference(getChatId(upd), DOSE_1), getChatId(upd));
             silent.execute(SendMessage.builder().chatId(getChatId(upd)).text("I have updated your dose preference to 'First Dose'").build());
             notifyOwner(String.format("%s (%s) set dose preference to Dose1",
                     Utils.translateName(upd.getCallbackQuery().getMessage().getChat()), getChatId(upd)));
@@ -224,7 +261,7 @@ public class TelegramBot extends AbilityBot implements BotService, ApplicationCo
 
         Reply dose2Flow = Reply.of((bot, upd) -> {
             removeKeyboard(upd);
-            botBackend.updateDosePreference(getChatId(upd), DOSE_2);
+            notifyIfNotSaved(botBackend.updateDosePreference(getChatId(upd), DOSE_2), getChatId(upd));
             silent.execute(SendMessage.builder().chatId(getChatId(upd)).text("I have updated your dose preference to 'Second Dose'").build());
             notifyOwner(String.format("%s (%s) set dose preference to Dose2",
                     Utils.translateName(upd.getCallbackQuery().getMessage().getChat()), getChatId(upd)));
@@ -232,7 +269,7 @@ public class TelegramBot extends AbilityBot implements BotService, ApplicationCo
 
         Reply doseBothFlow = Reply.of((bot, upd) -> {
             removeKeyboard(upd);
-            botBackend.updateDosePreference(getChatId(upd), DOSE_BOTH);
+            notifyIfNotSaved(botBackend.updateDosePreference(getChatId(upd), DOSE_BOTH), getChatId(upd));
             silent.execute(SendMessage.builder().chatId(getChatId(upd)).text("I have updated your dose preference to both First and Second Dose").build());
             notifyOwner(String.format("%s (%s) set dose preference to both Dose 1 and 2",
                     Utils.translateName(upd.getCallbackQuery().getMessage().getChat()), getChatId(upd)));
@@ -250,7 +287,7 @@ public class TelegramBot extends AbilityBot implements BotService, ApplicationCo
     public ReplyFlow vaccineSelectionFlow() {
         Reply covishieldFlow = Reply.of((bot, upd) -> {
             removeKeyboard(upd);
-            botBackend.updateVaccinePreference(getChatId(upd), COVISHIELD);
+            notifyIfNotSaved(botBackend.updateVaccinePreference(getChatId(upd), COVISHIELD), getChatId(upd));
             silent.execute(SendMessage.builder().chatId(getChatId(upd)).text("I have updated your vaccine preference to COVISHIELD").build());
             notifyOwner(String.format("%s (%s) set vaccine preference to COVISHIELD",
                     Utils.translateName(upd.getCallbackQuery().getMessage().getChat()), getChatId(upd)));
@@ -258,7 +295,7 @@ public class TelegramBot extends AbilityBot implements BotService, ApplicationCo
 
         Reply covaxinFlow = Reply.of((bot, upd) -> {
             removeKeyboard(upd);
-            botBackend.updateVaccinePreference(getChatId(upd), COVAXIN);
+            notifyIfNotSaved(botBackend.updateVaccinePreference(getChatId(upd), COVAXIN), getChatId(upd));
             silent.execute(SendMessage.builder().chatId(getChatId(upd)).text("I have updated your vaccine preference to COVAXIN").build());
             notifyOwner(String.format("%s (%s) set vaccine preference to COVAXIN",
                     Utils.translateName(upd.getCallbackQuery().getMessage().getChat()), getChatId(upd)));
@@ -266,7 +303,7 @@ public class TelegramBot extends AbilityBot implements BotService, ApplicationCo
 
         Reply sputnikvFlow = Reply.of((bot, upd) -> {
             removeKeyboard(upd);
-            botBackend.updateVaccinePreference(getChatId(upd), SPUTNIK_V);
+            notifyIfNotSaved(botBackend.updateVaccinePreference(getChatId(upd), SPUTNIK_V), getChatId(upd));
             silent.execute(SendMessage.builder().chatId(getChatId(upd)).text("I have updated your vaccine preference to SPUTNIK V").build());
             notifyOwner(String.format("%s (%s) set vaccine preference to SPUTNIK V",
                     Utils.translateName(upd.getCallbackQuery().getMessage().getChat()), getChatId(upd)));
@@ -274,7 +311,7 @@ public class TelegramBot extends AbilityBot implements BotService, ApplicationCo
 
         Reply anyVaccineFlow = Reply.of((bot, upd) -> {
             removeKeyboard(upd);
-            botBackend.updateVaccinePreference(getChatId(upd), Vaccine.ALL);
+            notifyIfNotSaved(botBackend.updateVaccinePreference(getChatId(upd), Vaccine.ALL), getChatId(upd));
             silent.execute(SendMessage.builder().chatId(getChatId(upd)).text("I have updated your vaccine preference to ALL vaccines").build());
             notifyOwner(String.format("%s (%s) set vaccine preference to ALL",
                     Utils.translateName(upd.getCallbackQuery().getMessage().getChat()), getChatId(upd)));
@@ -290,6 +327,28 @@ public class TelegramBot extends AbilityBot implements BotService, ApplicationCo
                 .build();
     }
 
+    /**
+     * Answered from the districts held in memory, so acknowledging a subscription never waits on the database.
+     */
+    private State stateOf(String pincode) {
+        return this.metadataStore.fetchDistrictsByPincode(pincode).stream()
+                .findFirst()
+                .map(District::getState)
+                .orElse(null);
+    }
+
+    /**
+     * The user is acknowledged before the update is stored, so they are told if storing it failed.
+     */
+    private void notifyIfNotSaved(CompletableFuture<Void> saved, String chatId) {
+        saved.whenCompleteAsync((ignored, e) -> {
+            if (nonNull(e)) {
+                silent.execute(SendMessage.builder().chatId(chatId)
+                        .text("Sorry, I could not save your preference. Please try again.").build());
+            }
+        }, saveFailureReplies);
+    }
+
     private boolean tooManyPincodes(MessageContext ctx, List<String> pincodesAsList) {
         if (pincodesAsList.size() > 5) {
             String msg = "Maximum 5 pincodes can be notified.\n\n" +
@@ -345,6 +404,46 @@ public class TelegramBot extends AbilityBot implements BotService, ApplicationCo
                 (upd.hasCallbackQuery() && upd.getCallbackQuery().getData().equalsIgnoreCase(msg));
     }
 
+    private String commandOf(Update update) {
+        if (update.hasCallbackQuery()) {
+            return "callback";
+        }
+        if (!update.hasMessage() || !update.getMessage().hasText()) {
+            return "other";
+        }
+        String text = update.getMessage().getText().trim();
+        if (!text.startsWith("/")) {
+            return "pincode";
+        }
+        String name = text.substring(1).split("[\\s@]", 2)[0].toLowerCase();
+        return abilities().containsKey(name) || REPLY_FLOW_COMMANDS.contains(name) ? name : "other";
+    }
+
+    private long laneOf(Update update) {
+        Long chatId = chatIdOf(update);
+        return nonNull(chatId) ? chatId : update.getUpdateId();
+    }
+
+    private Long chatIdOf(Update update) {
+        if (update.hasMessage()) {
+            return update.getMessage().getChatId();
+        }
+        if (update.hasCallbackQuery() && nonNull(update.getCallbackQuery().getMessage())) {
+            return update.getCallbackQuery().getMessage().getChatId();
+        }
+        return null;
+    }
+
+    /**
+     * Tells the chat its update was not handled, e.g. while the state stores are still restoring.
+     */
+    private void replyTryAgain(Update update) {
+        Long chatId = chatIdOf(update);
+        if (nonNull(chatId)) {
+            silent.send("Sorry, something went wrong. Please try again in a minute.", chatId);
+        }
+    }
+
     private String getUserName(MessageContext ctx) {
         return nonNull(ctx.user().getUserName()) ? ctx.user().getUserName() : "";
     }
@@ -408,9 +507,12 @@ public class TelegramBot extends AbilityBot implements BotService, ApplicationCo
     @Override
     public void setApplicationContext(@NotNull ApplicationContext applicationContext) throws BeansException {
         this.botBackend = (BotBackend) applicationContext.getBean("botBackend");
-        this.stateRepository = (StateRepository) applicationContext.getBean("stateRepository");
+        this.metadataStore = (MetadataStore) applicationContext.getBean("metadataStore");
+        this.botStats = (BotStats) applicationContext.getBean("botStats");
         TelegramConfig telegramConfig = (TelegramConfig) applicationContext.getBean("telegramConfig");
         if (telegramConfig.isEnabled()) {
+            this.updateDispatcher = new UpdateDispatcher(telegramConfig.getUpdateThreads(),
+                    telegramConfig.getUpdateQueueCapacity(), botStats);
             try {
                 TelegramBotsApi botsApi = new TelegramBotsApi(DefaultBotSession.class);
                 botsApi.registerBot(this);
@@ -420,6 +522,14 @@ public class TelegramBot extends AbilityBot implements BotService, ApplicationCo
         }
     }
 
+    @Override
+    public void destroy() {
+        if (nonNull(updateDispatcher)) {
+            updateDispatcher.shutdown();
+        }
+        saveFailureReplies.shutdown();
+    }
+
     @VisibleForTesting
     void setSilent(SilentSender sender) {
         this.silent = sender;
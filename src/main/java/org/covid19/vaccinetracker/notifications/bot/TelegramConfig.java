@@ -24,6 +24,14 @@ public class TelegramConfig {
     private String botToken;
     private String creatorId;
     private String chatId;
+    /**
+     * Threads handling bot updates off the long polling thread, each serving a fixed share of chats
+     */
+    private int updateThreads = 8;
+    /**
+     * Updates queued per handler thread; when full, the polling thread waits for room in the queue
+     */
+    private int updateQueueCapacity = 200;
 
     @Bean
     public TelegramBot telegramBot() {
@@ -0,0 +1,50 @@
+package org.covid19.vaccinetracker.notifications.bot;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hands bot updates off the long polling thread to a bounded set of handler threads. Updates of the
+ * same chat always go to the same single-threaded lane so that reply flows (e.g. /age followed by
+ * the keyboard callback) are handled in the order they were sent.
+ * <p>
+ * When the queue of a lane is full, the polling thread waits for room in that queue, which stops
+ * polling until the lane catches up instead of queueing updates without limit. The update is not
+ * handled on the polling thread, as it would overtake the updates of its chat still queued.
+ */
+class UpdateDispatcher {
+    private final ThreadPoolExecutor[] lanes;
+
+    UpdateDispatcher(int threads, int queueCapacity, BotStats botStats) {
+        this.lanes = new ThreadPoolExecutor[Math.max(1, threads)];
+        for (int i = 0; i < lanes.length; i++) {
+            lanes[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                    new ThreadFactoryBuilder().setNameFormat("telegrambot-" + i + "-%d").build(),
+                    (task, executor) -> {
+                        botStats.recordThrottled();
+                        if (executor.isShutdown()) {
+                            return;
+                        }
+                        try {
+                            executor.getQueue().put(task);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                    });
+        }
+    }
+
+    void dispatch(long chatId, Runnable task) {
+        lanes[(int) Math.floorMod(chatId, (long) lanes.length)].execute(task);
+    }
+
+    void shutdown() {
+        for (ThreadPoolExecutor lane : lanes) {
+            lane.shutdown();
+        }
+    }
+}
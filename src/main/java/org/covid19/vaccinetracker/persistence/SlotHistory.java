@@ -0,0 +1,47 @@
+package org.covid19.vaccinetracker.persistence;
+
+import org.covid19.vaccinetracker.model.CenterSession;
+import org.covid19.vaccinetracker.model.VaccineCenters;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Append-only history of the capacity of sessions. Unlike the vaccine centers, which only keep the
+ * sessions of the current days, it keeps every observed change until its retention expires.
+ */
+public interface SlotHistory {
+    /**
+     * Appends the sessions whose capacity changed since they were last persisted, i.e. those with a
+     * delta.
+     *
+     * @param vaccineCenters - Vaccine centers as fetched from CoWIN
+     */
+    void record(VaccineCenters vaccineCenters);
+
+    /**
+     * @param pincodes - Pincodes of the centers
+     * @param since    - First day to include
+     * @return by pincode, sessions that had open slots on or after the given day, one per center, day, age and
+     * vaccine. Pincodes without any are absent.
+     */
+    Map<String, List<CenterSession>> findOpeningsByPincodes(Collection<String> pincodes, LocalDate since);
+
+    /**
+     * @param pincode    - Pincode of the centers
+     * @param minAgeFrom - Lowest minimum age of the session
+     * @param minAgeTo   - Highest minimum age of the session
+     * @param vaccine    - Vaccine of the session, or null for any vaccine
+     * @return the most recent session of the pincode with open slots for the given preference
+     */
+    Optional<CenterSession> findLastOpening(String pincode, int minAgeFrom, int minAgeTo, String vaccine);
+
+    /**
+     * @param day - First day to keep
+     * @return number of observations deleted, estimated when whole days are dropped at once
+     */
+    long deleteBefore(LocalDate day);
+}
@@ -1,10 +1,12 @@
 package org.covid19.vaccinetracker.persistence;
 
-import org.covid19.vaccinetracker.model.CenterSession;
+import org.covid19.vaccinetracker.model.CenterLocation;
 import org.covid19.vaccinetracker.model.VaccineCenters;
 import org.covid19.vaccinetracker.persistence.mariadb.entity.SessionEntity;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface VaccinePersistence {
@@ -12,11 +14,26 @@ public interface VaccinePersistence {
 
     VaccineCenters fetchVaccineCentersByPincode(String pincode);
 
+    /**
+     * @param pincodes - Pincodes to look up
+     * @return centers with unprocessed sessions by pincode, without the pincodes that have none
+     */
+    Map<String, VaccineCenters> fetchVaccineCentersByPincodes(Collection<String> pincodes);
+
     void markProcessed(VaccineCenters vaccineCenters);
 
+    /**
+     * Removes the sessions up to and including the given date, and the centers left without sessions.
+     *
+     * @param date - Last date to remove, in dd-MM-yyyy
+     */
     void cleanupOldCenters(String date);
 
     Optional<SessionEntity> findExistingSession(Long centerId, String date, Integer age, String vaccine);
 
-    List<CenterSession> findAllSessionsByPincode(String pincode);
+    /**
+     * @param pincodes - Pincodes to look up
+     * @return district and state of the centers in the given pincodes, from the district payloads fetched so far
+     */
+    List<CenterLocation> findCenterLocationsByPincodes(Collection<String> pincodes);
 }
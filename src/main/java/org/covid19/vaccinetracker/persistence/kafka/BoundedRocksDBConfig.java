@@ -0,0 +1,90 @@
+package org.covid19.vaccinetracker.persistence.kafka;
+
+import org.apache.kafka.streams.state.RocksDBConfigSetter;
+import org.rocksdb.BlockBasedTableConfig;
+import org.rocksdb.BloomFilter;
+import org.rocksdb.Cache;
+import org.rocksdb.CompressionType;
+import org.rocksdb.LRUCache;
+import org.rocksdb.Options;
+import org.rocksdb.WriteBufferManager;
+
+import java.util.Map;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Tunes every RocksDB store of the instance and bounds their combined off-heap memory: one block
+ * cache is shared by all stores and their memtables are charged against it, index and filter
+ * blocks live in the cache instead of outside of it, and bloom filters spare most disk reads for
+ * keys that are absent. Kafka Streams creates this class by name, so the settings of
+ * {@link StreamsStateConfig.RocksDb} arrive through the streams config.
+ */
+@Slf4j
+public class BoundedRocksDBConfig implements RocksDBConfigSetter {
+    static final String BLOCK_CACHE_BYTES = "vaccinetracker.rocksdb.block.cache.bytes";
+    static final String WRITE_BUFFER_RATIO = "vaccinetracker.rocksdb.write.buffer.ratio";
+    static final String INDEX_FILTER_RATIO = "vaccinetracker.rocksdb.index.filter.ratio";
+    static final String BLOCK_SIZE_BYTES = "vaccinetracker.rocksdb.block.size.bytes";
+    static final String BLOOM_FILTER_BITS_PER_KEY = "vaccinetracker.rocksdb.bloom.filter.bits.per.key";
+    static final String COMPRESSION = "vaccinetracker.rocksdb.compression";
+
+    private static final StreamsStateConfig.RocksDb DEFAULTS = new StreamsStateConfig.RocksDb();
+
+    // shared by all stores and never closed, they live as long as the application
+    private static Cache cache;
+    private static WriteBufferManager writeBufferManager;
+    private static BloomFilter bloomFilter;
+    private static long cacheCapacity;
+
+    @Override
+    public void setConfig(String storeName, Options options, Map<String, Object> configs) {
+        initShared(configs);
+        final BlockBasedTableConfig tableConfig = (BlockBasedTableConfig) options.tableFormatConfig();
+        tableConfig.setBlockCache(cache);
+        tableConfig.setCacheIndexAndFilterBlocks(true);
+        tableConfig.setCacheIndexAndFilterBlocksWithHighPriority(true);
+        tableConfig.setPinL0FilterAndIndexBlocksInCache(true);
+        tableConfig.setBlockSize(longValue(configs, BLOCK_SIZE_BYTES, DEFAULTS.getBlockSize().toBytes()));
+        tableConfig.setFilter(bloomFilter);
+        options.setTableFormatConfig(tableConfig);
+        options.setWriteBufferManager(writeBufferManager);
+        options.setCompressionType(CompressionType.valueOf(
+                String.valueOf(configs.getOrDefault(COMPRESSION, DEFAULTS.getCompression()))));
+    }
+
+    @Override
+    public void close(String storeName, Options options) {
+        // the cache, write buffer manager and filter are shared with the other stores
+    }
+
+    /**
+     * @return the bytes all RocksDB stores of this instance may use off-heap, 0 before any was opened
+     */
+    public static synchronized long cacheCapacity() {
+        return cacheCapacity;
+    }
+
+    private static synchronized void initShared(Map<String, Object> configs) {
+        if (cache != null) {
+            return;
+        }
+        cacheCapacity = longValue(configs, BLOCK_CACHE_BYTES, DEFAULTS.getBlockCacheSize().toBytes());
+        final double writeBufferRatio = doubleValue(configs, WRITE_BUFFER_RATIO, DEFAULTS.getWriteBufferRatio());
+        final double indexFilterRatio = doubleValue(configs, INDEX_FILTER_RATIO, DEFAULTS.getIndexFilterRatio());
+        cache = new LRUCache(cacheCapacity, -1, false, indexFilterRatio);
+        writeBufferManager = new WriteBufferManager((long) (cacheCapacity * writeBufferRatio), cache);
+        bloomFilter = new BloomFilter((int) longValue(configs, BLOOM_FILTER_BITS_PER_KEY, DEFAULTS.getBloomFilterBitsPerKey()), false);
+        log.info("RocksDB stores share a block cache of {} bytes, {} of it for memtables", cacheCapacity, writeBufferRatio);
+    }
+
+    private static long longValue(Map<String, Object> configs, String key, long defaultValue) {
+        final Object value = configs.get(key);
+        return value == null ? defaultValue : Long.parseLong(value.toString());
+    }
+
+    private static double doubleValue(Map<String, Object> configs, String key, double defaultValue) {
+        final Object value = configs.get(key);
+        return value == null ? defaultValue : Double.parseDouble(value.toString());
+    }
+}
@@ -1,93 +1,295 @@
 package org.covid19.vaccinetracker.persistence.kafka;
 
+import org.apache.kafka.common.serialization.Serdes;
 import org.apache.kafka.streams.KafkaStreams;
+import org.apache.kafka.streams.KeyQueryMetadata;
 import org.apache.kafka.streams.StoreQueryParameters;
 import org.apache.kafka.streams.kstream.KTable;
+import org.apache.kafka.streams.state.HostInfo;
 import org.apache.kafka.streams.state.KeyValueIterator;
 import org.apache.kafka.streams.state.QueryableStoreTypes;
 import org.apache.kafka.streams.state.ReadOnlyKeyValueStore;
+import org.apache.kafka.streams.state.StreamsMetadata;
 import org.covid19.vaccinetracker.model.UsersByPincode;
 import org.covid19.vaccinetracker.userrequests.model.District;
 import org.covid19.vaccinetracker.userrequests.model.UserRequest;
-import org.covid19.vaccinetracker.userrequests.model.Vaccine;
-import org.springframework.boot.ApplicationRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.config.StreamsBuilderFactoryBean;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import lombok.extern.slf4j.Slf4j;
 
 import static java.util.Objects.isNull;
 import static java.util.Optional.ofNullable;
-import static org.covid19.vaccinetracker.userrequests.model.Age.AGE_18_44;
-import static org.covid19.vaccinetracker.userrequests.model.Dose.DOSE_1;
 
+/**
+ * Access to the Kafka Streams state stores. Lookups by key are answered from the local store when
+ * this instance hosts the key, and from the owning instance over HTTP otherwise. Bulk reads
+ * ({@code local*}) only cover this instance, the {@code remote*} variants cover all others.
+ * Lookups wait for the stores to be restored after startup instead of answering from empty stores.
+ */
 @Slf4j
 @Configuration
 public class KafkaStateStores {
-    private ReadOnlyKeyValueStore<String, UserRequest> userRequestsStore;
-    private ReadOnlyKeyValueStore<String, District> userDistrictsStore;
-    private ReadOnlyKeyValueStore<String, UsersByPincode> usersByPincodeStore;
+    private final StreamsClusterConfig clusterConfig;
+    private final StreamsStateConfig stateConfig;
+    private final RemoteStateStores remoteStateStores;
+    private final StateRestoreProgress restoreProgress;
+    private final CountDownLatch readyLatch = new CountDownLatch(1);
 
+    private StreamsBuilderFactoryBean streamsBuilderFactoryBean;
+    private String userRequestsStoreName;
+    private String userDistrictsStoreName;
+    private String usersByPincodeStoreName;
+    private volatile ReadOnlyKeyValueStore<String, UserRequest> userRequestsStore;
+    private volatile ReadOnlyKeyValueStore<String, District> userDistrictsStore;
+    private volatile ReadOnlyKeyValueStore<String, UsersByPincode> usersByPincodeStore;
+
+    public KafkaStateStores(StreamsClusterConfig clusterConfig, StreamsStateConfig stateConfig,
+                            RemoteStateStores remoteStateStores, StateRestoreProgress restoreProgress) {
+        this.clusterConfig = clusterConfig;
+        this.stateConfig = stateConfig;
+        this.remoteStateStores = remoteStateStores;
+        this.restoreProgress = restoreProgress;
+    }
+
+    /*
+     * Open the state stores as soon as Kafka Streams is running, without blocking startup. Until
+     * then lookups wait for readiness, see awaitReady().
+     */
     @Bean
-    public CountDownLatch latch(StreamsBuilderFactoryBean fb) {
-        CountDownLatch latch = new CountDownLatch(1);
+    public CountDownLatch latch(StreamsBuilderFactoryBean fb,
+                                KTable<String, UserRequest> userRequestsTable,
+                                KTable<String, District> userDistrictsTable,
+                                KTable<String, UsersByPincode> usersByPincodeTable) {
+        streamsBuilderFactoryBean = fb;
+        userRequestsStoreName = userRequestsTable.queryableStoreName();
+        userDistrictsStoreName = userDistrictsTable.queryableStoreName();
+        usersByPincodeStoreName = usersByPincodeTable.queryableStoreName();
+        fb.setStateRestoreListener(restoreProgress);
         fb.setStateListener((newState, oldState) -> {
-            if (KafkaStreams.State.RUNNING.equals(newState)) {
-                latch.countDown();
+            log.info("Kafka Streams changed from {} to {}", oldState, newState);
+            if (KafkaStreams.State.RUNNING.equals(newState) && isNull(userRequestsStore)) {
+                openStores(fb.getKafkaStreams());
+                readyLatch.countDown();
             }
         });
-        return latch;
+        return readyLatch;
     }
 
-    @Bean
-    public ApplicationRunner runner(StreamsBuilderFactoryBean fb,
-                                    KTable<String, UserRequest> userRequestsTable,
-                                    KTable<String, District> userDistrictsTable,
-                                    KTable<String, UsersByPincode> usersByPincodeTable) {
-        return args -> {
-            latch(fb).await(100, TimeUnit.SECONDS);
-            userRequestsStore = fb.getKafkaStreams().store(
-                    StoreQueryParameters.fromNameAndType(userRequestsTable.queryableStoreName(), QueryableStoreTypes.keyValueStore()));
-            userDistrictsStore = fb.getKafkaStreams().store(
-                    StoreQueryParameters.fromNameAndType(userDistrictsTable.queryableStoreName(), QueryableStoreTypes.keyValueStore()));
-            usersByPincodeStore = fb.getKafkaStreams().store(
-                    StoreQueryParameters.fromNameAndType(usersByPincodeTable.queryableStoreName(), QueryableStoreTypes.keyValueStore()));
-        };
+    private void openStores(KafkaStreams kafkaStreams) {
+        userRequestsStore = kafkaStreams.store(
+                StoreQueryParameters.fromNameAndType(userRequestsStoreName, QueryableStoreTypes.keyValueStore()));
+        userDistrictsStore = kafkaStreams.store(
+                StoreQueryParameters.fromNameAndType(userDistrictsStoreName, QueryableStoreTypes.keyValueStore()));
+        usersByPincodeStore = kafkaStreams.store(
+                StoreQueryParameters.fromNameAndType(usersByPincodeStoreName, QueryableStoreTypes.keyValueStore()));
+        log.info("State stores are ready");
+    }
+
+    /**
+     * The state stores are ready once they were restored and opened, and Kafka Streams has not
+     * failed or shut down since.
+     *
+     * @return true if the state stores can be queried
+     */
+    public boolean isReady() {
+        if (isNull(userRequestsStore) || isNull(streamsBuilderFactoryBean) || isNull(streamsBuilderFactoryBean.getKafkaStreams())) {
+            return false;
+        }
+        final KafkaStreams.State state = streamsBuilderFactoryBean.getKafkaStreams().state();
+        return KafkaStreams.State.RUNNING.equals(state) || KafkaStreams.State.REBALANCING.equals(state);
+    }
+
+    /**
+     * Waits up to streams.state.ready-timeout for the state stores to become ready.
+     *
+     * @return true if the state stores can be queried
+     */
+    public boolean awaitReady() {
+        if (isReady()) {
+            return true;
+        }
+        try {
+            return readyLatch.await(stateConfig.getReadyTimeout().toMillis(), TimeUnit.MILLISECONDS) && isReady();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    public Map<String, Long> restoreProgress() {
+        return restoreProgress.remainingByStore();
+    }
+
+    private void requireReady() {
+        if (!awaitReady()) {
+            throw new StateStoresNotReadyException("State stores are not ready yet, still restoring " + restoreProgress.remainingByStore());
+        }
     }
 
     public KeyValueIterator<String, UserRequest> userRequests() {
+        requireReady();
         return userRequestsStore.all();
     }
 
     public Optional<UserRequest> userRequestById(String userId) {
-        if (isNull(userRequestsStore)) {
+        if (isNull(userId)) {
             return Optional.empty();
         }
-        return Optional.ofNullable(userId)
-                .map(s -> userRequestsStore.get(userId));
+        // a missing user must not be mistaken for a user whose store was not restored yet
+        requireReady();
+        return ofNullable(userRequestsStore.get(userId))
+                .or(() -> remoteHostFor(userRequestsStoreName, userId)
+                        .flatMap(host -> remoteStateStores.userRequestById(host, userId)));
+    }
+
+    public Optional<UserRequest> localUserRequestById(String userId) {
+        if (isNull(userRequestsStore) || isNull(userId)) {
+            return Optional.empty();
+        }
+        return ofNullable(userRequestsStore.get(userId));
     }
 
     public List<String> pincodesForUser(String userId) {
-        return ofNullable(userRequestsStore.get(userId))
-                .orElseGet(() -> new UserRequest(userId, List.of(), List.of(), AGE_18_44.toString(), DOSE_1.toString(), Vaccine.ALL.toString(), null))
-                .getPincodes();
+        return userRequestById(userId)
+                .map(UserRequest::getPincodes)
+                .orElse(List.of());
     }
 
     public KeyValueIterator<String, District> userDistricts() {
+        requireReady();
         return userDistrictsStore.all();
     }
 
     public KeyValueIterator<String, UsersByPincode> usersByPincode() {
+        requireReady();
         return usersByPincodeStore.all();
     }
 
     public UsersByPincode usersByPincode(String pincode) {
-        return usersByPincodeStore.get(pincode);
+        requireReady();
+        return ofNullable(usersByPincodeStore.get(pincode))
+                .or(() -> remoteHostFor(usersByPincodeStoreName, pincode)
+                        .flatMap(host -> remoteStateStores.usersByPincode(host, pincode)))
+                .orElse(null);
+    }
+
+    public Optional<UsersByPincode> localUsersByPincode(String pincode) {
+        if (isNull(usersByPincodeStore)) {
+            return Optional.empty();
+        }
+        return ofNullable(usersByPincodeStore.get(pincode));
+    }
+
+    public List<UserRequest> localUserRequests() {
+        return isNull(userRequestsStore) ? List.of() : valuesOf(userRequestsStore.all());
+    }
+
+    public List<District> localUserDistricts() {
+        return isNull(userDistrictsStore) ? List.of() : valuesOf(userDistrictsStore.all());
+    }
+
+    public List<UsersByPincode> localUsersByPincode() {
+        return isNull(usersByPincodeStore) ? List.of() : valuesOf(usersByPincodeStore.all());
+    }
+
+    public List<UserRequest> remoteUserRequests() {
+        return fromRemoteHosts(remoteStateStores::userRequests);
+    }
+
+    public void remoteUserRequests(int batchSize, Consumer<List<UserRequest>> batches) {
+        remoteHosts().forEach(host -> remoteStateStores.userRequests(host, batchSize, batches));
+    }
+
+    public List<District> remoteUserDistricts() {
+        return fromRemoteHosts(remoteStateStores::userDistricts);
+    }
+
+    public List<UsersByPincode> remoteUsersByPincode() {
+        return fromRemoteHosts(remoteStateStores::usersByPincode);
+    }
+
+    /**
+     * Scheduled jobs should run on a single instance only. The leader is the instance with the lowest
+     * advertised host and port among all running instances. Without {@code application.server}
+     * the application runs as a single instance, which is always the leader.
+     * <p>
+     * This never waits: an instance whose streams are not RUNNING (still restoring or rebalancing)
+     * is not the leader, so a trigger during a rebalance is skipped on every instance. The leader is
+     * derived from each instance's own view of the cluster metadata, which can briefly differ
+     * between instances, so two instances may also both run the same trigger. Leader jobs must
+     * therefore be safe to skip once and to run twice: refreshing availability, reconciling
+     * pincodes, creating partitions, cleaning up slot history, rebuilding the interest index and
+     * analyzing absent alerts (which only logs) all are.
+     *
+     * @return true if scheduled jobs should run on this instance
+     */
+    public boolean isLeader() {
+        if (!isRunning()) {
+            log.debug("Not leader while Kafka Streams is not running, still restoring {}", restoreProgress.remainingByStore());
+            return false;
+        }
+        if (!clusterConfig.isDistributed()) {
+            return true;
+        }
+        return streamsBuilderFactoryBean.getKafkaStreams().allMetadata()
+                .stream()
+                .map(StreamsMetadata::hostInfo)
+                .min(Comparator.comparing(HostInfo::host).thenComparingInt(HostInfo::port))
+                .map(clusterConfig.hostInfo()::equals)
+                .orElse(true);
+    }
+
+    private boolean isRunning() {
+        return isReady() && KafkaStreams.State.RUNNING.equals(streamsBuilderFactoryBean.getKafkaStreams().state());
+    }
+
+    private Optional<HostInfo> remoteHostFor(String storeName, String key) {
+        if (!clusterConfig.isDistributed() || isNull(streamsBuilderFactoryBean) || isNull(storeName)) {
+            return Optional.empty();
+        }
+        final KeyQueryMetadata metadata = streamsBuilderFactoryBean.getKafkaStreams()
+                .queryMetadataForKey(storeName, key, Serdes.String().serializer());
+        return ofNullable(metadata)
+                .map(KeyQueryMetadata::getActiveHost)
+                .filter(host -> !host.equals(clusterConfig.hostInfo()));
+    }
+
+    private Set<HostInfo> remoteHosts() {
+        if (!clusterConfig.isDistributed() || isNull(streamsBuilderFactoryBean)) {
+            return Set.of();
+        }
+        return streamsBuilderFactoryBean.getKafkaStreams().allMetadata()
+                .stream()
+                .map(StreamsMetadata::hostInfo)
+                .filter(host -> !host.equals(clusterConfig.hostInfo()))
+                .collect(Collectors.toSet());
+    }
+
+    private <T> List<T> fromRemoteHosts(Function<HostInfo, List<T>> fetcher) {
+        return remoteHosts().stream()
+                .flatMap(host -> fetcher.apply(host).stream())
+                .collect(Collectors.toList());
+    }
+
+    private <T> List<T> valuesOf(KeyValueIterator<String, T> iterator) {
+        final List<T> values = new ArrayList<>();
+        try (iterator) {
+            iterator.forEachRemaining(entry -> values.add(entry.value));
+        }
+        return values;
     }
 }
@@ -6,13 +6,19 @@ import org.apache.kafka.common.utils.Bytes;
 import org.apache.kafka.streams.KeyValue;
 import org.apache.kafka.streams.StreamsBuilder;
 import org.apache.kafka.streams.StreamsConfig;
+import org.apache.kafka.streams.kstream.Grouped;
+import org.apache.kafka.streams.kstream.KStream;
 import org.apache.kafka.streams.kstream.KTable;
 import org.apache.kafka.streams.kstream.Materialized;
 import org.apache.kafka.streams.kstream.Produced;
+import org.apache.kafka.streams.kstream.Repartitioned;
+import org.apache.kafka.streams.state.KeyValueBytesStoreSupplier;
 import org.apache.kafka.streams.state.KeyValueStore;
 import org.apache.kafka.streams.state.StoreBuilder;
 import org.apache.kafka.streams.state.Stores;
 import org.apache.kafka.streams.state.WindowStore;
+import org.covid19.vaccinetracker.model.PincodeSubscription;
+import org.covid19.vaccinetracker.model.PincodeSubscriptionSerde;
 import org.covid19.vaccinetracker.model.UsersByPincode;
 import org.covid19.vaccinetracker.model.UsersByPincodeSerde;
 import org.covid19.vaccinetracker.userrequests.MetadataStore;
@@ -30,6 +36,7 @@ import org.springframework.kafka.config.KafkaStreamsConfiguration;
 
 import java.time.Duration;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 
 import lombok.extern.slf4j.Slf4j;
@@ -53,13 +60,25 @@ public class KafkaStreamsConfig {
 
     private final KafkaProperties kafkaProperties;
     private final MetadataStore metadataStore;
-
-    private static final String UNIQUE_DISTRICTS_STORE = "unique-districts-store";
-    private static final String USERS_BY_PINCODE_AGGREGATE_STORE = "users-by-pincode-aggregate-store";
-
-    public KafkaStreamsConfig(KafkaProperties kafkaProperties, MetadataStore metadataStore) {
+    private final StreamsClusterConfig clusterConfig;
+    private final StreamsStateConfig stateConfig;
+
+    // table store names predate the configurable store type, they are kept to reuse the changelogs
+    public static final String USER_REQUESTS_STORE = "user-requests-store";
+    public static final String USER_DISTRICTS_STORE = "user-districts-inmemory-store";
+    public static final String USERS_BY_PINCODE_STORE = "user-by-pincodes-inmemory";
+    static final String UNIQUE_DISTRICTS_STORE = "unique-districts-store";
+    // renamed when the aggregate moved to pincode partitions, the old changelog is partitioned by user
+    static final String USERS_BY_PINCODE_AGGREGATE_STORE = "users-by-pincode-subscriptions-store";
+    static final String USER_PINCODES_STORE = "user-pincodes-store";
+    static final String PINCODE_SUBSCRIPTIONS = "pincode-subscriptions";
+
+    public KafkaStreamsConfig(KafkaProperties kafkaProperties, MetadataStore metadataStore,
+                              StreamsClusterConfig clusterConfig, StreamsStateConfig stateConfig) {
         this.kafkaProperties = kafkaProperties;
         this.metadataStore = metadataStore;
+        this.clusterConfig = clusterConfig;
+        this.stateConfig = stateConfig;
     }
 
     @Bean(name = KafkaStreamsDefaultConfiguration.DEFAULT_STREAMS_CONFIG_BEAN_NAME)
@@ -67,17 +86,40 @@ public class KafkaStreamsConfig {
         Map<String, Object> kafkaStreamsProps = new HashMap<>(kafkaProperties.buildStreamsProperties());
         kafkaStreamsProps.put(APPLICATION_ID_CONFIG, "org.covid19.vaccine-tracker");
         kafkaStreamsProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
-        kafkaStreamsProps.put(StreamsConfig.NUM_STREAM_THREADS_CONFIG, 3);
+        kafkaStreamsProps.put(StreamsConfig.NUM_STREAM_THREADS_CONFIG, stateConfig.getStreamThreads());
+        kafkaStreamsProps.put(StreamsConfig.NUM_STANDBY_REPLICAS_CONFIG, stateConfig.getStandbyReplicas());
+        kafkaStreamsProps.put(StreamsConfig.restoreConsumerPrefix(ConsumerConfig.MAX_POLL_RECORDS_CONFIG), stateConfig.getRestoreBatchSize());
+        if (nonNull(stateConfig.getStateDir()) && !stateConfig.getStateDir().isBlank()) {
+            kafkaStreamsProps.put(StreamsConfig.STATE_DIR_CONFIG, stateConfig.getStateDir());
+        }
+        rocksDbConfig(kafkaStreamsProps);
         kafkaStreamsProps.put(StreamsConfig.COMMIT_INTERVAL_MS_CONFIG, 10 * 1000);
         kafkaStreamsProps.put(StreamsConfig.TOPOLOGY_OPTIMIZATION, StreamsConfig.OPTIMIZE);
+        if (clusterConfig.isDistributed()) {
+            kafkaStreamsProps.put(StreamsConfig.APPLICATION_SERVER_CONFIG, clusterConfig.getApplicationServer());
+        }
         return new KafkaStreamsConfiguration(kafkaStreamsProps);
     }
 
+    /*
+     * The deduplication and aggregation stores are always RocksDB, so this applies whatever the
+     * store type of the tables.
+     */
+    private void rocksDbConfig(Map<String, Object> kafkaStreamsProps) {
+        final StreamsStateConfig.RocksDb rocksDb = stateConfig.getRocksdb();
+        kafkaStreamsProps.put(StreamsConfig.ROCKSDB_CONFIG_SETTER_CLASS_CONFIG, BoundedRocksDBConfig.class);
+        kafkaStreamsProps.put(BoundedRocksDBConfig.BLOCK_CACHE_BYTES, rocksDb.getBlockCacheSize().toBytes());
+        kafkaStreamsProps.put(BoundedRocksDBConfig.WRITE_BUFFER_RATIO, rocksDb.getWriteBufferRatio());
+        kafkaStreamsProps.put(BoundedRocksDBConfig.INDEX_FILTER_RATIO, rocksDb.getIndexFilterRatio());
+        kafkaStreamsProps.put(BoundedRocksDBConfig.BLOCK_SIZE_BYTES, rocksDb.getBlockSize().toBytes());
+        kafkaStreamsProps.put(BoundedRocksDBConfig.BLOOM_FILTER_BITS_PER_KEY, rocksDb.getBloomFilterBitsPerKey());
+        kafkaStreamsProps.put(BoundedRocksDBConfig.COMPRESSION, rocksDb.getCompression());
+    }
+
     @Bean
     public KTable<String, UserRequest> userRequestsTable(StreamsBuilder streamsBuilder) {
         return streamsBuilder.table(userRequestsTopic,
-                Materialized.<String, UserRequest, KeyValueStore<Bytes, byte[]>>as(
-                        Stores.inMemoryKeyValueStore("user-requests-store").name())
+                Materialized.<String, UserRequest>as(tableStore(USER_REQUESTS_STORE))
                         .withKeySerde(Serdes.String()).withValueSerde(new UserRequestSerde()).withCachingDisabled());
     }
 
@@ -109,33 +151,63 @@ public class KafkaStreamsConfig {
                 .to(userDistrictsTopic, Produced.with(Serdes.Integer(), new DistrictSerde()));
 
         return streamsBuilder.table(userDistrictsTopic,
-                Materialized.<String, District, KeyValueStore<Bytes, byte[]>>as(
-                        Stores.inMemoryKeyValueStore("user-districts-inmemory-store").name()
-                ).withKeySerde(Serdes.String()).withValueSerde(new DistrictSerde()).withCachingDisabled());
+                Materialized.<String, District>as(tableStore(USER_DISTRICTS_STORE)).withKeySerde(Serdes.String()).withValueSerde(new DistrictSerde()).withCachingDisabled());
     }
 
     /*
-     * Topology to convert user->[pincodes] topic to pincode->[users] topic.
+     * Topology to convert user->[pincodes] topic to pincode->[users] topic. User requests are
+     * partitioned by user, so they are first turned into subscriptions keyed by pincode and
+     * repartitioned. All users of a pincode are then aggregated by the same task, whatever the
+     * number of partitions and instances.
+     * Stores added here start empty, reload the user requests (/reload/user_request) to fill them.
      */
     @Bean
     public KTable<String, UsersByPincode> usersByPincodeTable(StreamsBuilder streamsBuilder) {
-        final StoreBuilder<KeyValueStore<String, UsersByPincode>> aggregateStoreBuilder = Stores.keyValueStoreBuilder(
-                Stores.persistentKeyValueStore(USERS_BY_PINCODE_AGGREGATE_STORE),
-                Serdes.String(), new UsersByPincodeSerde());
-
-        streamsBuilder.addStateStore(aggregateStoreBuilder);
-
-        userRequestsTable(streamsBuilder)
+        final KStream<String, UserRequest> userRequests = userRequestsTable(streamsBuilder)
                 .toStream()
                 .peek((key, value) -> log.debug("streaming record {}", value))
-                .filter((userId, userRequest) -> nonNull(userRequest.getPincodes()))
-                .transform(() -> new UsersByPincodeTransformer(USERS_BY_PINCODE_AGGREGATE_STORE, metadataStore),
-                        USERS_BY_PINCODE_AGGREGATE_STORE)
+                .filter((userId, userRequest) -> nonNull(userRequest) && nonNull(userRequest.getPincodes()));
+
+        usersByPincode(pincodeSubscriptions(streamsBuilder, userRequests, metadataStore)
+                .repartition(Repartitioned.<String, PincodeSubscription>as(PINCODE_SUBSCRIPTIONS)
+                        .withKeySerde(Serdes.String()).withValueSerde(new PincodeSubscriptionSerde())))
+                .toStream()
                 .to(usersByPincodeTopic, Produced.with(Serdes.String(), new UsersByPincodeSerde()));
 
         return streamsBuilder.table(usersByPincodeTopic,
-                Materialized.<String, UsersByPincode, KeyValueStore<Bytes, byte[]>>as(
-                        Stores.inMemoryKeyValueStore("user-by-pincodes-inmemory").name()
-                ).withKeySerde(Serdes.String()).withValueSerde(new UsersByPincodeSerde()).withCachingDisabled());
+                Materialized.<String, UsersByPincode>as(tableStore(USERS_BY_PINCODE_STORE)).withKeySerde(Serdes.String()).withValueSerde(new UsersByPincodeSerde()).withCachingDisabled());
+    }
+
+    /*
+     * User requests keyed by user to subscriptions keyed by pincode.
+     */
+    static KStream<String, PincodeSubscription> pincodeSubscriptions(StreamsBuilder streamsBuilder, KStream<String, UserRequest> userRequests,
+                                                                      MetadataStore metadataStore) {
+        streamsBuilder.addStateStore(Stores.keyValueStoreBuilder(
+                Stores.persistentKeyValueStore(USER_PINCODES_STORE), Serdes.String(), Serdes.String()));
+        return userRequests.transform(() -> new PincodeSubscriptionTransformer(USER_PINCODES_STORE, metadataStore), USER_PINCODES_STORE);
+    }
+
+    /*
+     * Subscriptions keyed by pincode to the users of each pincode, with their preferences.
+     */
+    static KTable<String, UsersByPincode> usersByPincode(KStream<String, PincodeSubscription> subscriptions) {
+        return subscriptions
+                .groupByKey(Grouped.with(Serdes.String(), new PincodeSubscriptionSerde()))
+                .aggregate(() -> new UsersByPincode(null, new HashSet<>()),
+                        (pincode, subscription, aggregate) -> {
+                            final UsersByPincode usersByPincode = new UsersByPincode(pincode, aggregate.getUsers());
+                            usersByPincode.setPreferences(aggregate.getPreferences());
+                            return subscription.isSubscribed()
+                                    ? usersByPincode.merge(subscription.getUserId(), subscription.getPreference())
+                                    : usersByPincode.remove(subscription.getUserId());
+                        },
+                        Materialized.<String, UsersByPincode, KeyValueStore<Bytes, byte[]>>as(USERS_BY_PINCODE_AGGREGATE_STORE)
+                                .withKeySerde(Serdes.String()).withValueSerde(new UsersByPincodeSerde()).withCachingDisabled());
+    }
+
+    private KeyValueBytesStoreSupplier tableStore(String name) {
+        return StreamsStateConfig.StoreType.ROCKSDB.equals(stateConfig.getStoreType())
+                ? Stores.persistentTimestampedKeyValueStore(name) : Stores.inMemoryKeyValueStore(name);
     }
 }
@@ -0,0 +1,171 @@
+package org.covid19.vaccinetracker.persistence.kafka;
+
+import org.apache.kafka.streams.kstream.KStream;
+import org.apache.kafka.streams.kstream.KTable;
+import org.covid19.vaccinetracker.model.Session;
+import org.covid19.vaccinetracker.model.UsersByPincode;
+import org.covid19.vaccinetracker.userrequests.model.Age;
+import org.covid19.vaccinetracker.userrequests.model.Dose;
+import org.covid19.vaccinetracker.userrequests.model.UserPreference;
+import org.covid19.vaccinetracker.userrequests.model.Vaccine;
+import org.springframework.context.annotation.Bean;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import lombok.extern.slf4j.Slf4j;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Index of the preferences that have at least one subscriber in a pincode, derived from the
+ * users-by-pincode aggregate. Every combination of age, dose and vaccine is one bit of the
+ * pincode's interest mask, so a session is relevant to a pincode only if the masks intersect.
+ * <p>
+ * Until the index is built for the first time every pincode is considered interesting, so that
+ * no alert is dropped while the application starts. Pincodes missing from the index are
+ * interesting too: the index only follows the partitions of this instance between rebuilds, so a
+ * pincode subscribed to after the last rebuild on another instance is not in it yet. Only pincodes
+ * known to have no matching subscriber are filtered out. Preference changes in a pincode owned by
+ * another instance are picked up by the next rebuild.
+ */
+@Slf4j
+@Component
+public class PincodeInterestIndex {
+    private static final Age[] AGES = {Age.AGE_18_44, Age.AGE_45};
+    private static final Dose[] DOSES = {Dose.DOSE_1, Dose.DOSE_2};
+    private static final Vaccine[] VACCINES = {Vaccine.COVISHIELD, Vaccine.COVAXIN, Vaccine.SPUTNIK_V};
+    private static final int ANY = (1 << (AGES.length * DOSES.length * VACCINES.length)) - 1;
+
+    private final KTable<String, UsersByPincode> usersByPincodeTable;
+    private final KafkaStateStores kafkaStateStores;
+
+    private volatile Map<String, Integer> interests;
+
+    public PincodeInterestIndex(KTable<String, UsersByPincode> usersByPincodeTable, KafkaStateStores kafkaStateStores) {
+        this.usersByPincodeTable = usersByPincodeTable;
+        this.kafkaStateStores = kafkaStateStores;
+    }
+
+    /*
+     * Keep the index current with the partitions of users-by-pincode owned by this instance.
+     * Partitions owned by other instances are picked up by the periodic rebuild.
+     */
+    @Bean
+    KStream<String, UsersByPincode> pincodeInterestStream() {
+        final KStream<String, UsersByPincode> stream = usersByPincodeTable.toStream();
+        stream.foreach((pincode, usersByPincode) -> {
+            if (nonNull(interests)) {
+                interests.put(pincode, interestOf(usersByPincode));
+            }
+        });
+        return stream;
+    }
+
+    @Scheduled(cron = "${jobs.cron.pincode.interest:-}", zone = "IST")
+    public void rebuild() {
+        if (!kafkaStateStores.isLeader()) {
+            log.debug("Skipping pincode interest rebuild as this instance is not the leader");
+            return;
+        }
+        final List<UsersByPincode> local = kafkaStateStores.localUsersByPincode();
+        final List<UsersByPincode> remote = kafkaStateStores.remoteUsersByPincode();
+        final Map<String, Integer> rebuilt = new ConcurrentHashMap<>();
+        Stream.concat(local.stream(), remote.stream())
+                .forEach(usersByPincode -> rebuilt.put(usersByPincode.getPincode(), interestOf(usersByPincode)));
+        interests = rebuilt;
+        log.info("Rebuilt pincode interest index with {} pincodes", rebuilt.size());
+    }
+
+    /**
+     * Whether some subscriber of the pincode could be notified about the session.
+     *
+     * @param pincode - Pincode of the center
+     * @param session - Session of the center
+     * @return true if the session matches the preference of at least one subscriber
+     */
+    public boolean isInteresting(String pincode, Session session) {
+        final Map<String, Integer> current = interests;
+        if (isNull(current)) {
+            return true;
+        }
+        return (current.getOrDefault(pincode, ANY) & maskOf(session)) != 0;
+    }
+
+    static int interestOf(UsersByPincode usersByPincode) {
+        int mask = 0;
+        for (String user : usersByPincode.getUsers()) {
+            // aggregates written before preferences were tracked could match anything
+            mask |= usersByPincode.preferenceFor(user).map(PincodeInterestIndex::maskOf).orElse(ANY);
+        }
+        return mask;
+    }
+
+    static int maskOf(UserPreference preference) {
+        int mask = 0;
+        for (int a = 0; a < AGES.length; a++) {
+            for (int d = 0; d < DOSES.length; d++) {
+                for (int v = 0; v < VACCINES.length; v++) {
+                    if (matches(preference.getAge(), AGES[a]) && matches(preference.getDose(), DOSES[d])
+                            && matches(preference.getVaccine(), VACCINES[v])) {
+                        mask |= bit(a, d, v);
+                    }
+                }
+            }
+        }
+        return mask;
+    }
+
+    static int maskOf(Session session) {
+        final boolean[] ages = anyIfNone(session.validForAllAges() || session.validBetween18And44(),
+                session.validForAllAges() || session.validFor45Above());
+        final boolean[] doses = {session.hasDose1Capacity(), session.hasDose2Capacity()};
+        final boolean[] vaccines = anyIfNone(session.hasCovishield(), session.hasCovaxin(), session.hasSputnikV());
+        int mask = 0;
+        for (int a = 0; a < AGES.length; a++) {
+            for (int d = 0; d < DOSES.length; d++) {
+                for (int v = 0; v < VACCINES.length; v++) {
+                    if (ages[a] && doses[d] && vaccines[v]) {
+                        mask |= bit(a, d, v);
+                    }
+                }
+            }
+        }
+        return mask;
+    }
+
+    /*
+     * Sessions for other age groups or vaccines still match users who accept any of them.
+     */
+    private static boolean[] anyIfNone(boolean... flags) {
+        for (boolean flag : flags) {
+            if (flag) {
+                return flags;
+            }
+        }
+        Arrays.fill(flags, true);
+        return flags;
+    }
+
+    private static boolean matches(Age preference, Age age) {
+        return Age.AGE_BOTH.equals(preference) || age.equals(preference);
+    }
+
+    private static boolean matches(Dose preference, Dose dose) {
+        return Dose.DOSE_BOTH.equals(preference) || dose.equals(preference);
+    }
+
+    private static boolean matches(Vaccine preference, Vaccine vaccine) {
+        return Vaccine.ALL.equals(preference) || vaccine.equals(preference);
+    }
+
+    private static int bit(int age, int dose, int vaccine) {
+        return 1 << ((age * DOSES.length + dose) * VACCINES.length + vaccine);
+    }
+}
@@ -0,0 +1,103 @@
+package org.covid19.vaccinetracker.persistence.kafka;
+
+import org.apache.kafka.streams.KeyValue;
+import org.apache.kafka.streams.kstream.Transformer;
+import org.apache.kafka.streams.processor.ProcessorContext;
+import org.apache.kafka.streams.state.KeyValueStore;
+import org.covid19.vaccinetracker.model.PincodeSubscription;
+import org.covid19.vaccinetracker.userrequests.MetadataStore;
+import org.covid19.vaccinetracker.userrequests.model.UserPreference;
+import org.covid19.vaccinetracker.userrequests.model.UserRequest;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import lombok.extern.slf4j.Slf4j;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Turns a user request, keyed by user, into one subscription per pincode of the user, keyed by
+ * pincode, and one unsubscription per pincode the user no longer has. The pincodes of each user are
+ * remembered in a store keyed by user, which is local to the task of the user like the request.
+ */
+@Slf4j
+public class PincodeSubscriptionTransformer implements Transformer<String, UserRequest, KeyValue<String, PincodeSubscription>> {
+    // pincodes are digits only, so they are stored joined by commas
+    private static final String SEPARATOR = ",";
+
+    private ProcessorContext ctx;
+    private KeyValueStore<String, String> userPincodesStore;
+    private final String userPincodesStoreName;
+    private final MetadataStore metadataStore;
+
+    public PincodeSubscriptionTransformer(String userPincodesStoreName, MetadataStore metadataStore) {
+        this.userPincodesStoreName = userPincodesStoreName;
+        this.metadataStore = metadataStore;
+    }
+
+    @Override
+    public void init(ProcessorContext context) {
+        this.ctx = context;
+        //noinspection unchecked
+        this.userPincodesStore = (KeyValueStore<String, String>) context.getStateStore(this.userPincodesStoreName);
+    }
+
+    @Override
+    public KeyValue<String, PincodeSubscription> transform(String userId, UserRequest userRequest) {
+        log.debug("Entering transform for {}", userRequest);
+        final Set<String> pincodes = pincodesOf(userRequest);
+        final UserPreference preference = UserPreference.of(userRequest);
+        pincodes.forEach(pincode -> ctx.forward(pincode, PincodeSubscription.subscribed(userId, preference)));
+        previousPincodes(userId)
+                .filter(pincode -> !pincodes.contains(pincode))
+                .forEach(pincode -> {
+                    log.debug("Removing subscribed user {} for pincode {}", userId, pincode);
+                    ctx.forward(pincode, PincodeSubscription.unsubscribed(userId));
+                });
+
+        if (pincodes.isEmpty()) {
+            userPincodesStore.delete(userId);
+        } else {
+            userPincodesStore.put(userId, String.join(SEPARATOR, pincodes));
+        }
+        return null;
+    }
+
+    /*
+     * Pincodes come from two sources:
+     * - Set directly by the user
+     * - From the district set by the user
+     * A user without pincodes stopped the subscription, whatever the districts.
+     */
+    private Set<String> pincodesOf(UserRequest userRequest) {
+        if (userRequest.getPincodes().isEmpty()) {
+            return Set.of();
+        }
+        return Stream.concat(userRequest.getPincodes().stream(), streamPincodesFromDistrict(userRequest.getDistricts()))
+                .filter(pincode -> !pincode.isBlank()) // very unlikely to happen but ¯\_(ツ)_/¯
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    private Stream<String> previousPincodes(String userId) {
+        final String pincodes = userPincodesStore.get(userId);
+        return isNull(pincodes) ? Stream.empty() : Stream.of(pincodes.split(SEPARATOR));
+    }
+
+    private Stream<String> streamPincodesFromDistrict(List<Integer> districts) {
+        return Optional.ofNullable(districts)
+                .stream()
+                .flatMap(Collection::stream)
+                .flatMap(districtId -> metadataStore.fetchPincodeValuesByDistrictId(districtId).stream());
+    }
+
+    @Override
+    public void close() {
+
+    }
+}
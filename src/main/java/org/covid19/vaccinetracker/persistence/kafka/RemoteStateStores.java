@@ -0,0 +1,145 @@
+package org.covid19.vaccinetracker.persistence.kafka;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+
+import org.apache.kafka.streams.state.HostInfo;
+import org.covid19.vaccinetracker.model.UsersByPincode;
+import org.covid19.vaccinetracker.userrequests.model.District;
+import org.covid19.vaccinetracker.userrequests.model.UserRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.util.UriBuilder;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+
+/**
+ * HTTP client for the state stores of other application instances. Used by {@link KafkaStateStores}
+ * when a key is hosted by another instance. Remote instances serve their local stores through
+ * {@link StateStoresController}. Whole stores are read one JSON value per line, so the size of a
+ * store is not limited by the buffer of the client, only the size of a single value is.
+ */
+@Slf4j
+@Component
+public class RemoteStateStores {
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+    private static final Duration STORE_TIMEOUT = Duration.ofMinutes(2);
+    // a single value, the users of the most popular pincodes being the largest
+    private static final int MAX_VALUE_SIZE = 16 * 1024 * 1024;
+
+    private final WebClient webClient;
+    private final Gson gson = new Gson();
+
+    public RemoteStateStores(StreamsClusterConfig clusterConfig) {
+        this.webClient = WebClient
+                .builder()
+                .defaultHeader(StreamsClusterConfig.SECRET_HEADER, String.valueOf(clusterConfig.getSecret()))
+                .codecs(clientCodecConfigurer -> clientCodecConfigurer.defaultCodecs().maxInMemorySize(MAX_VALUE_SIZE))
+                .build();
+    }
+
+    public Optional<UserRequest> userRequestById(HostInfo host, String userId) {
+        return fetch(host, "/streams/user-requests/{id}", userId)
+                .map(body -> gson.fromJson(body, UserRequest.class));
+    }
+
+    public Optional<UsersByPincode> usersByPincode(HostInfo host, String pincode) {
+        return fetch(host, "/streams/users-by-pincode/{id}", pincode)
+                .map(body -> gson.fromJson(body, UsersByPincode.class));
+    }
+
+    public List<UserRequest> userRequests(HostInfo host) {
+        return fetchAll(host, "/streams/user-requests", UserRequest.class);
+    }
+
+    /**
+     * Reads the user requests of the given host in batches, each batch being handed to the consumer
+     * on the calling thread before the next is read.
+     */
+    public void userRequests(HostInfo host, int batchSize, Consumer<List<UserRequest>> batches) {
+        final String path = "/streams/user-requests";
+        request(host, path, () -> {
+            // closing the stream cancels the request if the consumer fails half way
+            try (Stream<List<UserRequest>> stream = lines(host, path, UserRequest.class)
+                    .timeout(STORE_TIMEOUT, Flux.error(new IllegalStateException("No user request received within " + STORE_TIMEOUT)))
+                    .buffer(batchSize)
+                    .toStream(1)) {
+                stream.forEach(batches);
+            }
+            return null;
+        }, null);
+    }
+
+    public List<District> userDistricts(HostInfo host) {
+        return fetchAll(host, "/streams/user-districts", District.class);
+    }
+
+    public List<UsersByPincode> usersByPincode(HostInfo host) {
+        return fetchAll(host, "/streams/users-by-pincode", UsersByPincode.class);
+    }
+
+    private Optional<String> fetch(HostInfo host, String path, Object... uriVariables) {
+        return request(host, path, () -> Optional.ofNullable(webClient.get()
+                .uri(uri(host, path, uriVariables))
+                .retrieve()
+                .bodyToMono(String.class)
+                .block(TIMEOUT)), Optional.empty());
+    }
+
+    /*
+     * The body is decoded line by line, each line being one value of the store.
+     */
+    private <T> List<T> fetchAll(HostInfo host, String path, Class<T> type) {
+        return request(host, path, () -> lines(host, path, type)
+                .collectList()
+                .blockOptional(STORE_TIMEOUT)
+                .orElse(List.of()), List.of());
+    }
+
+    private <T> Flux<T> lines(HostInfo host, String path, Class<T> type) {
+        return webClient.get()
+                .uri(uri(host, path))
+                .accept(MediaType.APPLICATION_NDJSON)
+                .retrieve()
+                .bodyToFlux(String.class)
+                .filter(line -> !line.isBlank())
+                .map(line -> gson.fromJson(line, type));
+    }
+
+    private static Function<UriBuilder, URI> uri(HostInfo host, String path, Object... uriVariables) {
+        return uriBuilder -> uriBuilder
+                .scheme("http")
+                .host(host.host())
+                .port(host.port())
+                .path(path)
+                .build(uriVariables);
+    }
+
+    private <T> T request(HostInfo host, String path, Supplier<T> request, T fallback) {
+        try {
+            return request.get();
+        } catch (WebClientResponseException e) {
+            if (!HttpStatus.NOT_FOUND.equals(e.getStatusCode())) {
+                log.error("Error querying state store at {}{}: {}", host, path, e.getMessage());
+            }
+            return fallback;
+        } catch (WebClientException | JsonParseException | IllegalStateException e) {
+            log.error("Error querying state store at {}{}: {}", host, path, e.getMessage());
+            return fallback;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package org.covid19.vaccinetracker.persistence.kafka;
+
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.streams.processor.StateRestoreListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Tracks the restoration of state stores from their changelogs, so that startup progress is
+ * visible in metrics and in the readiness endpoint. Callbacks come from all stream threads.
+ */
+@Slf4j
+@Component
+public class StateRestoreProgress implements StateRestoreListener {
+    private final MeterRegistry registry;
+    private final Map<String, AtomicLong> remainingByStore = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> remainingByPartition = new ConcurrentHashMap<>();
+    private final Map<String, Long> startedAtByPartition = new ConcurrentHashMap<>();
+
+    public StateRestoreProgress(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void onRestoreStart(TopicPartition topicPartition, String storeName, long startingOffset, long endingOffset) {
+        final long toRestore = endingOffset - startingOffset;
+        final String partition = partitionKey(topicPartition, storeName);
+        remainingByPartition.put(partition, new AtomicLong(toRestore));
+        startedAtByPartition.put(partition, System.nanoTime());
+        remaining(storeName).addAndGet(toRestore);
+        log.info("Restoring {} records of store {} from {}", toRestore, storeName, topicPartition);
+    }
+
+    @Override
+    public void onBatchRestored(TopicPartition topicPartition, String storeName, long batchEndOffset, long numRestored) {
+        final AtomicLong partitionRemaining = remainingByPartition.get(partitionKey(topicPartition, storeName));
+        if (partitionRemaining != null) {
+            partitionRemaining.addAndGet(-numRestored);
+        }
+        remaining(storeName).addAndGet(-numRestored);
+        registry.counter("streams.restore.records", "store", storeName).increment(numRestored);
+    }
+
+    @Override
+    public void onRestoreEnd(TopicPartition topicPartition, String storeName, long totalRestored) {
+        final String partition = partitionKey(topicPartition, storeName);
+        // offsets include transaction markers and compacted records, so the estimate may not reach zero
+        final AtomicLong partitionRemaining = remainingByPartition.remove(partition);
+        if (partitionRemaining != null) {
+            remaining(storeName).addAndGet(-partitionRemaining.get());
+        }
+        final Long startedAt = startedAtByPartition.remove(partition);
+        final long elapsedNanos = startedAt == null ? 0 : System.nanoTime() - startedAt;
+        Timer.builder("streams.restore")
+                .description("Time to restore a changelog partition of a state store")
+                .tag("store", storeName)
+                .register(registry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+        log.info("Restored {} records of store {} from {} in {} ms", totalRestored, storeName, topicPartition,
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+    }
+
+    public boolean isRestoring() {
+        return !remainingByPartition.isEmpty();
+    }
+
+    /**
+     * @return records left to restore by store name, for stores that were restored since startup
+     */
+    public Map<String, Long> remainingByStore() {
+        final Map<String, Long> remaining = new TreeMap<>();
+        remainingByStore.forEach((store, count) -> remaining.put(store, Math.max(count.get(), 0)));
+        return remaining;
+    }
+
+    private AtomicLong remaining(String storeName) {
+        return remainingByStore.computeIfAbsent(storeName, store -> {
+            final AtomicLong remaining = new AtomicLong();
+            Gauge.builder("streams.restore.remaining", remaining, AtomicLong::get)
+                    .description("Records left to restore into a state store")
+                    .tag("store", store)
+                    .register(registry);
+            return remaining;
+        });
+    }
+
+    private static String partitionKey(TopicPartition topicPartition, String storeName) {
+        return storeName + "/" + topicPartition;
+    }
+}
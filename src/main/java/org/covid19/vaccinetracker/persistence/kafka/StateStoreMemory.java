@@ -0,0 +1,165 @@
+package org.covid19.vaccinetracker.persistence.kafka;
+
+import org.apache.kafka.common.serialization.Serde;
+import org.apache.kafka.streams.KafkaStreams;
+import org.apache.kafka.streams.KeyValue;
+import org.apache.kafka.streams.StoreQueryParameters;
+import org.apache.kafka.streams.StreamsConfig;
+import org.apache.kafka.streams.errors.InvalidStateStoreException;
+import org.apache.kafka.streams.state.KeyValueIterator;
+import org.apache.kafka.streams.state.QueryableStoreTypes;
+import org.apache.kafka.streams.state.ReadOnlyKeyValueStore;
+import org.covid19.vaccinetracker.model.UsersByPincodeSerde;
+import org.covid19.vaccinetracker.userrequests.model.DistrictSerde;
+import org.covid19.vaccinetracker.userrequests.model.UserRequestSerde;
+import org.springframework.kafka.config.KafkaStreamsConfiguration;
+import org.springframework.kafka.config.StreamsBuilderFactoryBean;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Reports the memory used by the state stores of this instance. In-memory stores are measured on
+ * the heap, estimated from the serialized size of a sample of entries. RocksDB stores live
+ * off-heap in one shared block cache, reported as a whole, and on disk, reported per store.
+ */
+@Slf4j
+@Component
+public class StateStoreMemory {
+    private static final int SAMPLE_SIZE = 100;
+    // tree map entry, Bytes key wrapper and two array headers of the in-memory store
+    private static final int ENTRY_OVERHEAD_BYTES = 96;
+
+    private final StreamsBuilderFactoryBean streamsBuilderFactoryBean;
+    private final Path applicationStateDir;
+
+    public StateStoreMemory(StreamsBuilderFactoryBean streamsBuilderFactoryBean, KafkaStreamsConfiguration kStreamsConfig,
+                            StreamsStateConfig stateConfig, MeterRegistry registry) {
+        this.streamsBuilderFactoryBean = streamsBuilderFactoryBean;
+        final StreamsConfig streamsConfig = new StreamsConfig(kStreamsConfig.asProperties());
+        this.applicationStateDir = Paths.get(streamsConfig.getString(StreamsConfig.STATE_DIR_CONFIG),
+                streamsConfig.getString(StreamsConfig.APPLICATION_ID_CONFIG));
+
+        final Map<String, Serde<?>> tables = Map.of(
+                KafkaStreamsConfig.USER_REQUESTS_STORE, new UserRequestSerde(),
+                KafkaStreamsConfig.USER_DISTRICTS_STORE, new DistrictSerde(),
+                KafkaStreamsConfig.USERS_BY_PINCODE_STORE, new UsersByPincodeSerde());
+        final boolean inMemory = StreamsStateConfig.StoreType.IN_MEMORY.equals(stateConfig.getStoreType());
+        tables.forEach((store, serde) -> {
+            Gauge.builder("streams.store.entries", () -> entries(store))
+                    .description("Approximate number of entries in a state store")
+                    .tag("store", store)
+                    .register(registry);
+            if (inMemory) {
+                Gauge.builder("streams.store.heap", () -> heapBytes(store, serde))
+                        .description("Estimated heap used by an in-memory state store")
+                        .baseUnit("bytes")
+                        .tag("store", store)
+                        .register(registry);
+            }
+        });
+        final List<String> rocksDbStores = inMemory
+                ? List.of(KafkaStreamsConfig.UNIQUE_DISTRICTS_STORE, KafkaStreamsConfig.USERS_BY_PINCODE_AGGREGATE_STORE,
+                KafkaStreamsConfig.USER_PINCODES_STORE)
+                : List.of(KafkaStreamsConfig.UNIQUE_DISTRICTS_STORE, KafkaStreamsConfig.USERS_BY_PINCODE_AGGREGATE_STORE,
+                KafkaStreamsConfig.USER_PINCODES_STORE,
+                KafkaStreamsConfig.USER_REQUESTS_STORE, KafkaStreamsConfig.USER_DISTRICTS_STORE, KafkaStreamsConfig.USERS_BY_PINCODE_STORE);
+        rocksDbStores.forEach(store -> Gauge.builder("streams.store.disk", () -> diskBytes(store))
+                .description("Disk used by a RocksDB state store")
+                .baseUnit("bytes")
+                .tag("store", store)
+                .register(registry));
+        Gauge.builder("streams.rocksdb.offheap.limit", BoundedRocksDBConfig::cacheCapacity)
+                .description("Off-heap memory shared by all RocksDB state stores, memtables included")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    private double entries(String store) {
+        final ReadOnlyKeyValueStore<String, Object> kvStore = localStore(store);
+        return isNull(kvStore) ? Double.NaN : kvStore.approximateNumEntries();
+    }
+
+    @SuppressWarnings("unchecked")
+    private double heapBytes(String store, Serde<?> serde) {
+        final ReadOnlyKeyValueStore<String, Object> kvStore = localStore(store);
+        if (isNull(kvStore)) {
+            return Double.NaN;
+        }
+        final Serde<Object> valueSerde = (Serde<Object>) serde;
+        long sampled = 0;
+        long sampledBytes = 0;
+        try (KeyValueIterator<String, Object> it = kvStore.all()) {
+            while (it.hasNext() && sampled < SAMPLE_SIZE) {
+                final KeyValue<String, Object> entry = it.next();
+                sampledBytes += entry.key.length() + valueSerde.serializer().serialize(store, entry.value).length;
+                sampled++;
+            }
+        } catch (InvalidStateStoreException e) {
+            return Double.NaN;
+        }
+        if (sampled == 0) {
+            return 0;
+        }
+        return kvStore.approximateNumEntries() * ((double) sampledBytes / sampled + ENTRY_OVERHEAD_BYTES);
+    }
+
+    /*
+     * Stores live under <state.dir>/<application.id>/<task>/, key-value stores within rocksdb/,
+     * and segmented stores split into one directory per segment.
+     */
+    private double diskBytes(String store) {
+        if (!Files.isDirectory(applicationStateDir)) {
+            return 0;
+        }
+        try (Stream<Path> files = Files.walk(applicationStateDir)) {
+            return files.filter(Files::isRegularFile)
+                    .filter(file -> belongsTo(applicationStateDir.relativize(file), store))
+                    .mapToLong(StateStoreMemory::size)
+                    .sum();
+        } catch (IOException | UncheckedIOException e) {
+            // files come and go with compactions
+            log.debug("Could not measure store {}: {}", store, e.getMessage());
+            return Double.NaN;
+        }
+    }
+
+    private static boolean belongsTo(Path relative, String store) {
+        return IntStream.range(1, relative.getNameCount() - 1)
+                .anyMatch(i -> relative.getName(i).toString().equals(store));
+    }
+
+    private static long size(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private ReadOnlyKeyValueStore<String, Object> localStore(String store) {
+        final KafkaStreams kafkaStreams = streamsBuilderFactoryBean.getKafkaStreams();
+        if (isNull(kafkaStreams) || !KafkaStreams.State.RUNNING.equals(kafkaStreams.state())) {
+            return null;
+        }
+        try {
+            return kafkaStreams.store(StoreQueryParameters.fromNameAndType(store, QueryableStoreTypes.keyValueStore()));
+        } catch (InvalidStateStoreException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package org.covid19.vaccinetracker.persistence.kafka;
+
+import com.google.gson.Gson;
+
+import org.apache.kafka.streams.state.KeyValueIterator;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.function.Supplier;
+
+import static java.util.Objects.isNull;
+import static org.covid19.vaccinetracker.persistence.kafka.StreamsClusterConfig.SECRET_HEADER;
+
+/**
+ * Serves the state stores hosted by this instance to other instances of the application. Only
+ * local data is returned here, remote lookups are done by {@link KafkaStateStores}.
+ * <p>
+ * The endpoints only exist when the application runs as a cluster, and only answer requests
+ * carrying the shared secret of the cluster. Whole stores are streamed as one JSON value per line,
+ * so neither side holds the serialized store in memory.
+ */
+@RestController
+@RequestMapping("/streams")
+public class StateStoresController {
+    private final KafkaStateStores kafkaStateStores;
+    private final StreamsClusterConfig clusterConfig;
+    private final Gson gson = new Gson();
+
+    public StateStoresController(KafkaStateStores kafkaStateStores, StreamsClusterConfig clusterConfig) {
+        this.kafkaStateStores = kafkaStateStores;
+        this.clusterConfig = clusterConfig;
+    }
+
+    @GetMapping("/user-requests")
+    public ResponseEntity<?> localUserRequests(@RequestHeader(name = SECRET_HEADER, required = false) String secret) {
+        return whenAllowed(secret, () -> streamed(kafkaStateStores::userRequests));
+    }
+
+    @GetMapping("/user-requests/{userId}")
+    public ResponseEntity<?> localUserRequest(@RequestHeader(name = SECRET_HEADER, required = false) String secret,
+                                              @PathVariable String userId) {
+        return whenAllowed(secret, () -> ResponseEntity.of(kafkaStateStores.localUserRequestById(userId)));
+    }
+
+    @GetMapping("/user-districts")
+    public ResponseEntity<?> localUserDistricts(@RequestHeader(name = SECRET_HEADER, required = false) String secret) {
+        return whenAllowed(secret, () -> streamed(kafkaStateStores::userDistricts));
+    }
+
+    @GetMapping("/users-by-pincode")
+    public ResponseEntity<?> localUsersByPincode(@RequestHeader(name = SECRET_HEADER, required = false) String secret) {
+        return whenAllowed(secret, () -> streamed(kafkaStateStores::usersByPincode));
+    }
+
+    @GetMapping("/users-by-pincode/{pincode}")
+    public ResponseEntity<?> localUsersByPincode(@RequestHeader(name = SECRET_HEADER, required = false) String secret,
+                                                 @PathVariable String pincode) {
+        return whenAllowed(secret, () -> ResponseEntity.of(kafkaStateStores.localUsersByPincode(pincode)));
+    }
+
+    /*
+     * Empty stores of an instance that is still restoring must not pass for missing data.
+     */
+    private ResponseEntity<?> whenAllowed(String secret, Supplier<ResponseEntity<?>> response) {
+        if (!clusterConfig.isDistributed()) {
+            return ResponseEntity.notFound().build();
+        }
+        if (isNull(secret) || !MessageDigest.isEqual(secret.getBytes(StandardCharsets.UTF_8),
+                clusterConfig.getSecret().getBytes(StandardCharsets.UTF_8))) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        return kafkaStateStores.isReady() ? response.get() : ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+    }
+
+    private ResponseEntity<?> streamed(Supplier<KeyValueIterator<String, ?>> store) {
+        final StreamingResponseBody body = out -> {
+            final Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            try (KeyValueIterator<String, ?> iterator = store.get()) {
+                while (iterator.hasNext()) {
+                    gson.toJson(iterator.next().value, writer);
+                    writer.write('\n');
+                }
+            }
+            writer.flush();
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+}
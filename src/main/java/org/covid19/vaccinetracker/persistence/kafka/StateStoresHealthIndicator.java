@@ -0,0 +1,25 @@
+package org.covid19.vaccinetracker.persistence.kafka;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports the instance out of service until its state stores are restored, so that it takes no
+ * traffic during a rolling deploy before it can answer from complete data. Part of the readiness
+ * group at /actuator/health/readiness.
+ */
+@Component
+public class StateStoresHealthIndicator implements HealthIndicator {
+    private final KafkaStateStores kafkaStateStores;
+
+    public StateStoresHealthIndicator(KafkaStateStores kafkaStateStores) {
+        this.kafkaStateStores = kafkaStateStores;
+    }
+
+    @Override
+    public Health health() {
+        final Health.Builder health = kafkaStateStores.isReady() ? Health.up() : Health.outOfService();
+        return health.withDetail("restoring", kafkaStateStores.restoreProgress()).build();
+    }
+}
@@ -0,0 +1,7 @@
+package org.covid19.vaccinetracker.persistence.kafka;
+
+public class StateStoresNotReadyException extends RuntimeException {
+    public StateStoresNotReadyException(String message) {
+        super(message);
+    }
+}
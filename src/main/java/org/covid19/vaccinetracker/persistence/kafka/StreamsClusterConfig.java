@@ -0,0 +1,48 @@
+package org.covid19.vaccinetracker.persistence.kafka;
+
+import org.apache.kafka.streams.state.HostInfo;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Settings for running more than one instance of the application against the same Kafka Streams
+ * application id. When {@code applicationServer} is set (as "host:port" of this instance's HTTP
+ * server) it is advertised through {@code application.server} so that state stores can be queried
+ * across instances. The state stores hold every subscriber's chat id and pincodes, so instances
+ * only answer each other when the request carries the shared {@code secret}.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "streams.cluster")
+public class StreamsClusterConfig implements InitializingBean {
+    public static final String SECRET_HEADER = "X-Streams-Secret";
+
+    private String applicationServer;
+    private String secret;
+
+    @Override
+    public void afterPropertiesSet() {
+        if (isDistributed() && (isNull(secret) || secret.isBlank())) {
+            throw new IllegalStateException("streams.cluster.secret must be set when streams.cluster.application-server is set");
+        }
+    }
+
+    public boolean isDistributed() {
+        return nonNull(applicationServer) && !applicationServer.isBlank();
+    }
+
+    public HostInfo hostInfo() {
+        final int separator = applicationServer.lastIndexOf(':');
+        if (separator < 0) {
+            throw new IllegalArgumentException("streams.cluster.application-server must be of the form host:port");
+        }
+        return new HostInfo(applicationServer.substring(0, separator),
+                Integer.parseInt(applicationServer.substring(separator + 1)));
+    }
+}
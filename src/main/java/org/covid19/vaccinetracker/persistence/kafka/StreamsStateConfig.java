@@ -0,0 +1,51 @@
+package org.covid19.vaccinetracker.persistence.kafka;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+import lombok.Data;
+
+/**
+ * Settings for the local state of Kafka Streams. In-memory stores are restored from their
+ * changelogs on every start and hold every user on the heap. RocksDB stores in a state directory
+ * that survives restarts only restore what changed since, and keep their data off-heap and on
+ * disk. Standby replicas keep a warm copy on another instance to take over from during rolling
+ * deploys.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "streams.state")
+public class StreamsStateConfig {
+    private StoreType storeType = StoreType.ROCKSDB;
+    private String stateDir;
+    private int standbyReplicas = 0;
+    private int streamThreads = 3;
+    // records fetched per poll while restoring, the Kafka default is 1000
+    private int restoreBatchSize = 5000;
+    // how long jobs and bot handlers wait for the state stores after startup
+    private Duration readyTimeout = Duration.ofMinutes(2);
+    private RocksDb rocksdb = new RocksDb();
+
+    public enum StoreType {
+        IN_MEMORY, ROCKSDB
+    }
+
+    /**
+     * Shared by all RocksDB stores of the instance, see {@link BoundedRocksDBConfig}.
+     */
+    @Data
+    public static class RocksDb {
+        // bounds the off-heap memory of all stores, memtables included
+        private DataSize blockCacheSize = DataSize.ofMegabytes(64);
+        // share of the block cache memtables may take before they are flushed
+        private double writeBufferRatio = 0.25;
+        // share of the block cache reserved for index and filter blocks
+        private double indexFilterRatio = 0.1;
+        private DataSize blockSize = DataSize.ofKilobytes(16);
+        private int bloomFilterBitsPerKey = 10;
+        private String compression = "LZ4_COMPRESSION";
+    }
+}
@@ -1,5 +1,6 @@
 package org.covid19.vaccinetracker.persistence.mariadb;
 
+import org.covid19.vaccinetracker.persistence.SlotHistory;
 import org.covid19.vaccinetracker.userrequests.model.State;
 import org.covid19.vaccinetracker.persistence.mariadb.repository.CenterRepository;
 import org.covid19.vaccinetracker.persistence.mariadb.repository.DistrictRepository;
@@ -18,12 +19,15 @@ public class DBController {
     private final DistrictRepository districtRepository;
     private final PincodeRepository pincodeRepository;
     private final CenterRepository centerRepository;
+    private final SlotHistory slotHistory;
 
-    public DBController(StateRepository stateRepository, DistrictRepository districtRepository, PincodeRepository pincodeRepository, CenterRepository centerRepository) {
+    public DBController(StateRepository stateRepository, DistrictRepository districtRepository, PincodeRepository pincodeRepository,
+                        CenterRepository centerRepository, SlotHistory slotHistory) {
         this.stateRepository = stateRepository;
         this.districtRepository = districtRepository;
         this.pincodeRepository = pincodeRepository;
         this.centerRepository = centerRepository;
+        this.slotHistory = slotHistory;
     }
 
     @GetMapping("/states/all")
@@ -70,4 +74,12 @@ public class DBController {
     public ResponseEntity<?> fetchCentersByPincode(@RequestParam String pincode) {
         return ResponseEntity.ok(this.centerRepository.findCenterEntityByPincodeAndSessionsProcessedAtIsNull(pincode));
     }
+
+    @GetMapping("/slots/lastOpening")
+    public ResponseEntity<?> fetchLastOpening(@RequestParam String pincode,
+                                              @RequestParam(defaultValue = "0") int minAgeFrom,
+                                              @RequestParam(defaultValue = "255") int minAgeTo,
+                                              @RequestParam(required = false) String vaccine) {
+        return ResponseEntity.of(this.slotHistory.findLastOpening(pincode, minAgeFrom, minAgeTo, vaccine));
+    }
 }
@@ -0,0 +1,184 @@
+package org.covid19.vaccinetracker.persistence.mariadb;
+
+import org.covid19.vaccinetracker.persistence.kafka.KafkaStateStores;
+import org.covid19.vaccinetracker.utils.Utils;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.DatabaseMetaData;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.StringJoiner;
+import java.util.stream.Collectors;
+
+import javax.sql.DataSource;
+
+import lombok.extern.slf4j.Slf4j;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Maintains the daily RANGE COLUMNS partitions of the tables partitioned by date (see the
+ * V0.2.39.03 migration): partitions for the coming days are split off the p_future partition ahead
+ * of time, and old days are dropped as whole partitions, which takes milliseconds and does not
+ * lock rows like a DELETE does.
+ * <p>
+ * Databases without partitions (H2 in tests) and tables that are not partitioned are reported as
+ * such, and callers fall back to deleting rows.
+ */
+@Slf4j
+@Component
+public class DatePartitions implements SmartInitializingSingleton {
+    public static final String SESSIONS = "sessions";
+    public static final String SLOT_HISTORY = "slot_history";
+
+    private static final List<String> TABLES = List.of(SESSIONS, SLOT_HISTORY);
+    private static final String FUTURE_PARTITION = "p_future";
+    private static final String MAXVALUE = "MAXVALUE";
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyyMMdd");
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final KafkaStateStores kafkaStateStores;
+    private final int horizonDays;
+    private volatile Boolean supported;
+
+    public DatePartitions(DataSource dataSource, KafkaStateStores kafkaStateStores,
+                          @Value("${partitions.horizon-days:14}") int horizonDays) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.kafkaStateStores = kafkaStateStores;
+        this.horizonDays = horizonDays;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        // every instance tries at startup, so that inserts never depend on the leader having run
+        createPartitions();
+    }
+
+    @Scheduled(cron = "${jobs.cron.db.partitions:-}", zone = "IST")
+    public void createPartitionsJob() {
+        if (!kafkaStateStores.isLeader()) {
+            log.debug("Skipping creation of partitions on non-leader instance");
+            return;
+        }
+        createPartitions();
+    }
+
+    void createPartitions() {
+        final LocalDate today = LocalDate.now(ZoneId.of(Utils.INDIA_TIMEZONE));
+        TABLES.forEach(table -> {
+            try {
+                createPartitions(table, today, today.plusDays(horizonDays));
+            } catch (RuntimeException e) {
+                // another instance may have reorganized the table at the same time
+                log.warn("Could not create partitions of {}: {}", table, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Splits a partition per day up to the given last day off the p_future partition. The first
+     * new partition also covers the days since the last existing one.
+     *
+     * @param table   - Partitioned table
+     * @param today   - First day to create a partition for
+     * @param lastDay - Last day to create a partition for
+     */
+    public void createPartitions(String table, LocalDate today, LocalDate lastDay) {
+        final List<Partition> partitions = partitions(table);
+        if (partitions.isEmpty()) {
+            return;
+        }
+        final LocalDate lastBound = partitions.stream()
+                .map(Partition::getUpperBound)
+                .filter(bound -> !isNull(bound))
+                .max(LocalDate::compareTo)
+                .orElse(today);
+        final LocalDate firstDay = lastBound.isAfter(today) ? lastBound : today;
+        if (firstDay.isAfter(lastDay)) {
+            return;
+        }
+        final StringJoiner newPartitions = new StringJoiner(", ");
+        for (LocalDate day = firstDay; !day.isAfter(lastDay); day = day.plusDays(1)) {
+            newPartitions.add(String.format("PARTITION %s VALUES LESS THAN ('%s')", PARTITION_NAME.format(day), day.plusDays(1)));
+        }
+        newPartitions.add(String.format("PARTITION %s VALUES LESS THAN (%s)", FUTURE_PARTITION, MAXVALUE));
+        jdbcTemplate.execute(String.format("ALTER TABLE %s REORGANIZE PARTITION %s INTO (%s)", table, FUTURE_PARTITION, newPartitions));
+        log.info("Created partitions of {} from {} to {}", table, firstDay, lastDay);
+    }
+
+    /**
+     * Drops the partitions that only hold days before the given day.
+     *
+     * @param table - Partitioned table
+     * @param day   - First day to keep
+     * @return estimated number of rows dropped, or empty when the table is not partitioned
+     */
+    public OptionalLong dropBefore(String table, LocalDate day) {
+        final List<Partition> partitions = partitions(table);
+        if (partitions.isEmpty()) {
+            return OptionalLong.empty();
+        }
+        final List<Partition> old = partitions.stream()
+                .filter(partition -> !isNull(partition.getUpperBound()) && !partition.getUpperBound().isAfter(day))
+                .collect(Collectors.toList());
+        if (!old.isEmpty()) {
+            jdbcTemplate.execute(String.format("ALTER TABLE %s DROP PARTITION %s", table,
+                    old.stream().map(Partition::getName).collect(Collectors.joining(", "))));
+            log.info("Dropped partitions {} of {}", old.stream().map(Partition::getName).collect(Collectors.toList()), table);
+        }
+        return OptionalLong.of(old.stream().mapToLong(Partition::getRows).sum());
+    }
+
+    private List<Partition> partitions(String table) {
+        if (!isSupported()) {
+            return List.of();
+        }
+        return jdbcTemplate.query("SELECT PARTITION_NAME, PARTITION_DESCRIPTION, TABLE_ROWS " +
+                        "FROM information_schema.PARTITIONS " +
+                        "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL " +
+                        "ORDER BY PARTITION_ORDINAL_POSITION",
+                (rs, rowNum) -> new Partition(rs.getString(1), upperBound(rs.getString(2)), rs.getLong(3)),
+                table);
+    }
+
+    private boolean isSupported() {
+        if (isNull(supported)) {
+            try {
+                final String product = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+                supported = product.contains("MariaDB") || product.contains("MySQL");
+            } catch (MetaDataAccessException e) {
+                log.warn("Could not determine the database: {}", e.getMessage());
+                return false;
+            }
+        }
+        return supported;
+    }
+
+    /*
+     * The description of a RANGE COLUMNS partition is its quoted upper bound, or MAXVALUE.
+     */
+    private static LocalDate upperBound(String description) {
+        if (isNull(description) || MAXVALUE.equalsIgnoreCase(description)) {
+            return null;
+        }
+        return LocalDate.parse(description.replace("'", ""));
+    }
+
+    @lombok.Value
+    static class Partition {
+        String name;
+        LocalDate upperBound; // exclusive, null for p_future
+        long rows;
+    }
+}
@@ -0,0 +1,150 @@
+package org.covid19.vaccinetracker.persistence.mariadb;
+
+import com.google.common.collect.Lists;
+
+import org.covid19.vaccinetracker.model.CenterSession;
+import org.covid19.vaccinetracker.model.Session;
+import org.covid19.vaccinetracker.model.SlotOpening;
+import org.covid19.vaccinetracker.model.VaccineCenters;
+import org.covid19.vaccinetracker.persistence.SlotHistory;
+import org.covid19.vaccinetracker.persistence.kafka.KafkaStateStores;
+import org.covid19.vaccinetracker.persistence.mariadb.entity.SlotHistoryCenterEntity;
+import org.covid19.vaccinetracker.persistence.mariadb.entity.SlotObservationEntity;
+import org.covid19.vaccinetracker.persistence.mariadb.repository.SlotHistoryCenterRepository;
+import org.covid19.vaccinetracker.persistence.mariadb.repository.SlotObservationRepository;
+import org.covid19.vaccinetracker.utils.Utils;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import lombok.extern.slf4j.Slf4j;
+
+import static java.util.Objects.isNull;
+
+@Slf4j
+@Component
+public class MariaDBSlotHistory implements SlotHistory {
+    private static final DateTimeFormatter SESSION_DATE = DateTimeFormatter.ofPattern("dd-MM-yyyy");
+    private static final int MAX_CAPACITY = 65535; // smallint unsigned
+    private static final int IN_LIST_CHUNK_SIZE = 500;
+
+    private final SlotObservationRepository observationRepository;
+    private final SlotHistoryCenterRepository centerRepository;
+    private final SlotHistoryConfig config;
+    private final DatePartitions datePartitions;
+    private final KafkaStateStores kafkaStateStores;
+    // centers as last written, so that unchanged centers are not written again on every fetch
+    private final Map<Integer, SlotHistoryCenterEntity> knownCenters = new ConcurrentHashMap<>();
+
+    public MariaDBSlotHistory(SlotObservationRepository observationRepository, SlotHistoryCenterRepository centerRepository,
+                              SlotHistoryConfig config, DatePartitions datePartitions, KafkaStateStores kafkaStateStores) {
+        this.observationRepository = observationRepository;
+        this.centerRepository = centerRepository;
+        this.config = config;
+        this.datePartitions = datePartitions;
+        this.kafkaStateStores = kafkaStateStores;
+    }
+
+    @Transactional
+    @Override
+    public void record(VaccineCenters vaccineCenters) {
+        final LocalDateTime observedAt = LocalDateTime.now();
+        final List<SlotObservationEntity> observations = new ArrayList<>();
+        final List<SlotHistoryCenterEntity> centers = new ArrayList<>();
+        vaccineCenters.getCenters().forEach(center -> {
+            final List<Session> changed = center.getSessions()
+                    .stream()
+                    .filter(session -> Objects.nonNull(session.getDelta()))
+                    .collect(Collectors.toList());
+            if (changed.isEmpty() || isNull(center.getCenterId()) || isNull(center.getPincode())) {
+                return;
+            }
+            final SlotHistoryCenterEntity centerEntity = SlotHistoryCenterEntity.builder()
+                    .id(center.getCenterId())
+                    .name(center.getName())
+                    .districtName(center.getDistrictName())
+                    .pincode(center.getPincode())
+                    .build();
+            if (!centerEntity.equals(knownCenters.get(center.getCenterId()))) {
+                centers.add(centerEntity);
+            }
+            changed.forEach(session -> observations.add(SlotObservationEntity.builder()
+                    .day(LocalDate.parse(session.getDate(), SESSION_DATE))
+                    .pincode(center.getPincode())
+                    .centerId(center.getCenterId())
+                    .vaccine(session.getVaccine())
+                    .minAge(session.getMinAgeLimit())
+                    .dose1(capacity(session.getAvailableCapacityDose1()))
+                    .dose2(capacity(session.getAvailableCapacityDose2()))
+                    .observedAt(observedAt)
+                    .build()));
+        });
+        if (!centers.isEmpty()) {
+            centerRepository.saveAll(centers);
+            centers.forEach(centerEntity -> knownCenters.put(centerEntity.getId(), centerEntity));
+        }
+        if (!observations.isEmpty()) {
+            observationRepository.saveAll(observations);
+            log.debug("Recorded {} slot observations", observations.size());
+        }
+    }
+
+    @Override
+    public Map<String, List<CenterSession>> findOpeningsByPincodes(Collection<String> pincodes, LocalDate since) {
+        final List<Integer> validPincodes = pincodes.stream()
+                .distinct()
+                .filter(Utils::allValidPincodes)
+                .map(Integer::valueOf)
+                .collect(Collectors.toList());
+        final Map<String, List<CenterSession>> openings = new HashMap<>();
+        Lists.partition(validPincodes, IN_LIST_CHUNK_SIZE)
+                .forEach(chunk -> observationRepository.findOpenings(chunk, since)
+                        .forEach(opening -> openings.computeIfAbsent(String.valueOf(opening.getPincode()), pincode -> new ArrayList<>())
+                                .add(opening.toCenterSession())));
+        return openings;
+    }
+
+    @Override
+    public Optional<CenterSession> findLastOpening(String pincode, int minAgeFrom, int minAgeTo, String vaccine) {
+        return observationRepository.findLatestOpenings(Integer.parseInt(pincode), minAgeFrom, minAgeTo, vaccine, PageRequest.of(0, 1))
+                .stream()
+                .findFirst()
+                .map(SlotOpening::toCenterSession);
+    }
+
+    @Override
+    public long deleteBefore(LocalDate day) {
+        return datePartitions.dropBefore(DatePartitions.SLOT_HISTORY, day)
+                .orElseGet(() -> observationRepository.deleteByDayBefore(day));
+    }
+
+    @Scheduled(cron = "${jobs.cron.slot.history.cleanup:-}", zone = "IST")
+    public void cleanupSlotHistory() {
+        if (!kafkaStateStores.isLeader()) {
+            log.debug("Skipping cleanup of slot history on non-leader instance");
+            return;
+        }
+        final LocalDate firstDayToKeep = LocalDate.now(ZoneId.of(Utils.INDIA_TIMEZONE)).minusDays(config.getRetentionDays());
+        log.info("Deleting slot history before {}", firstDayToKeep);
+        log.info("Deleted about {} slot observations", deleteBefore(firstDayToKeep));
+    }
+
+    private static int capacity(Integer capacity) {
+        return isNull(capacity) ? 0 : Math.max(0, Math.min(capacity, MAX_CAPACITY));
+    }
+}
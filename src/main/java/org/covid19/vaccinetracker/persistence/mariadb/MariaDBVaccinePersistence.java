@@ -1,8 +1,11 @@
 package org.covid19.vaccinetracker.persistence.mariadb;
 
+import com.google.common.collect.Lists;
+
 import org.covid19.vaccinetracker.model.Center;
-import org.covid19.vaccinetracker.model.CenterSession;
+import org.covid19.vaccinetracker.model.CenterLocation;
 import org.covid19.vaccinetracker.model.Session;
+import org.covid19.vaccinetracker.model.SessionRow;
 import org.covid19.vaccinetracker.model.VaccineCenters;
 import org.covid19.vaccinetracker.persistence.VaccinePersistence;
 import org.covid19.vaccinetracker.persistence.mariadb.entity.CenterEntity;
@@ -13,75 +16,120 @@ import org.jetbrains.annotations.NotNull;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
 import lombok.extern.slf4j.Slf4j;
 
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 
 @Slf4j
 @Component
 public class MariaDBVaccinePersistence implements VaccinePersistence {
+    // keeps IN lists well below the limits of the database and its query plan cache
+    private static final int IN_LIST_CHUNK_SIZE = 500;
+    private static final DateTimeFormatter SESSION_DATE = DateTimeFormatter.ofPattern("dd-MM-yyyy");
+
     private final CenterRepository centerRepository;
     private final SessionRepository sessionRepository;
+    private final DatePartitions datePartitions;
 
-    public MariaDBVaccinePersistence(CenterRepository centerRepository, SessionRepository sessionRepository) {
+    public MariaDBVaccinePersistence(CenterRepository centerRepository, SessionRepository sessionRepository,
+                                     DatePartitions datePartitions) {
         this.centerRepository = centerRepository;
         this.sessionRepository = sessionRepository;
+        this.datePartitions = datePartitions;
     }
 
+    /*
+     * Reads flat rows instead of center entities, so that nothing enters the persistence context
+     * and the rows are grouped by center straight into the result.
+     */
     @Override
     public VaccineCenters fetchVaccineCentersByPincode(String pincode) {
-        final List<CenterEntity> centerEntities = this.centerRepository.findCenterEntityByPincodeAndSessionsProcessedAtIsNull(pincode);
-        return toVaccineCenters(centerEntities);
+        return toVaccineCentersByPincode(this.centerRepository.findUnprocessedSessionRowsByPincode(pincode))
+                .getOrDefault(pincode, new VaccineCenters(new ArrayList<>()));
     }
 
-    private VaccineCenters toVaccineCenters(List<CenterEntity> centerEntities) {
-        final List<Center> centers = new ArrayList<>();
-        centerEntities.forEach(centerEntity -> {
-            final List<Session> sessions = new ArrayList<>();
-            centerEntity.getSessions().forEach(sessionEntity -> sessions.add(Session.builder()
-                    .sessionId(sessionEntity.getId())
-                    .vaccine(sessionEntity.getVaccine())
-                    .date(sessionEntity.getDate())
-                    .availableCapacity(sessionEntity.getAvailableCapacity())
-                    .availableCapacityDose1(sessionEntity.getAvailableCapacityDose1())
-                    .availableCapacityDose2(sessionEntity.getAvailableCapacityDose2())
-                    .cost(sessionEntity.getCost())
-                    .minAgeLimit(sessionEntity.getMinAgeLimit())
-                    .build()));
-            centers.add(Center.builder()
-                    .pincode(Integer.valueOf(centerEntity.getPincode()))
-                    .name(centerEntity.getName())
-                    .districtName(centerEntity.getDistrictName())
-                    .stateName(centerEntity.getStateName())
-                    .centerId((int) centerEntity.getId())
-                    .feeType(centerEntity.getFeeType())
-                    .sessions(sessions)
-                    .build());
-        });
-        VaccineCenters vaccineCenters = new VaccineCenters();
-        vaccineCenters.setCenters(centers);
-        return vaccineCenters;
+    @Override
+    public Map<String, VaccineCenters> fetchVaccineCentersByPincodes(Collection<String> pincodes) {
+        final List<SessionRow> rows = new ArrayList<>();
+        chunked(pincodes).forEach(chunk -> rows.addAll(centerRepository.findUnprocessedSessionRowsByPincodes(chunk)));
+        return toVaccineCentersByPincode(rows);
+    }
+
+    /*
+     * Rows arrive ordered by center, so the sessions of a center are appended to the center just
+     * created for it.
+     */
+    private Map<String, VaccineCenters> toVaccineCentersByPincode(List<SessionRow> rows) {
+        final Map<String, Map<Long, Center>> centersByPincode = new LinkedHashMap<>();
+        for (SessionRow row : rows) {
+            centersByPincode.computeIfAbsent(row.getPincode(), pincode -> new LinkedHashMap<>())
+                    .computeIfAbsent(row.getCenterId(), centerId -> Center.builder()
+                            .pincode(Integer.valueOf(row.getPincode()))
+                            .name(row.getCenterName())
+                            .districtName(row.getDistrictName())
+                            .stateName(row.getStateName())
+                            .centerId((int) row.getCenterId())
+                            .feeType(row.getFeeType())
+                            .sessions(new ArrayList<>())
+                            .build())
+                    .getSessions()
+                    .add(Session.builder()
+                            .sessionId(row.getSessionId())
+                            .vaccine(row.getVaccine())
+                            .date(row.getDate())
+                            .availableCapacity(row.getAvailableCapacity())
+                            .availableCapacityDose1(row.getAvailableCapacityDose1())
+                            .availableCapacityDose2(row.getAvailableCapacityDose2())
+                            .cost(row.getCost())
+                            .minAgeLimit(row.getMinAgeLimit())
+                            .build());
+        }
+        final Map<String, VaccineCenters> vaccineCentersByPincode = new LinkedHashMap<>();
+        centersByPincode.forEach((pincode, centers) ->
+                vaccineCentersByPincode.put(pincode, new VaccineCenters(new ArrayList<>(centers.values()))));
+        return vaccineCentersByPincode;
     }
 
+    /*
+     * Existing centers with their sessions, and existing sessions, are loaded with one query each, so that saving merges them in
+     * the persistence context, and new sessions are inserted right away, instead of a lookup by id
+     * per row. The inserts and updates are then flushed together at commit, in JDBC batches.
+     */
+    @Transactional
     @Override
     public void persistVaccineCenters(VaccineCenters vaccineCenters) {
-        centerRepository.saveAll(toCenterEntities(vaccineCenters, null));
+        final List<Long> centerIds = new ArrayList<>();
+        vaccineCenters.getCenters().forEach(center -> centerIds.add((long) center.getCenterId()));
+        final Set<Long> existingCenterIds = new HashSet<>();
+        Lists.partition(centerIds, IN_LIST_CHUNK_SIZE)
+                .forEach(ids -> centerRepository.findAllWithSessionsByIdIn(ids).forEach(center -> existingCenterIds.add(center.getId())));
+        centerRepository.saveAll(toCenterEntities(vaccineCenters, null, existingCenterIds, existingSessionIds(vaccineCenters)));
     }
 
+    @Transactional
     @Override
     public void markProcessed(VaccineCenters vaccineCenters) {
+        final Set<String> existingSessionIds = existingSessionIds(vaccineCenters);
         vaccineCenters.getCenters().forEach(center -> {
             Set<SessionEntity> sessionEntities = new HashSet<>();
             center.getSessions().forEach(session -> sessionEntities.add(SessionEntity.builder()
                     .id(session.sessionId)
                     .date(session.date)
+                    .sessionDate(toLocalDate(session.date))
                     .vaccine(session.vaccine)
                     .availableCapacity(nonNull(session.availableCapacity) ? session.availableCapacity : 0)
                     .availableCapacityDose1(nonNull(session.availableCapacityDose1) ? session.availableCapacityDose1 : 0)
@@ -89,18 +137,20 @@ public class MariaDBVaccinePersistence implements VaccinePersistence {
                     .minAgeLimit(session.minAgeLimit)
                     .processedAt(LocalDateTime.now())
                     .build()));
-            sessionRepository.saveAll(sessionEntities);
+            saveSessions(sessionEntities, existingSessionIds);
         });
     }
 
     @NotNull
-    private Set<CenterEntity> toCenterEntities(VaccineCenters vaccineCenters, @SuppressWarnings("SameParameterValue") LocalDateTime processedAt) {
+    private Set<CenterEntity> toCenterEntities(VaccineCenters vaccineCenters, @SuppressWarnings("SameParameterValue") LocalDateTime processedAt,
+                                               Set<Long> existingCenterIds, Set<String> existingSessionIds) {
         Set<CenterEntity> centerEntities = new HashSet<>();
         vaccineCenters.getCenters().forEach(center -> {
             Set<SessionEntity> sessionEntities = new HashSet<>();
             center.getSessions().forEach(session -> sessionEntities.add(SessionEntity.builder()
                     .id(session.sessionId)
                     .date(session.date)
+                    .sessionDate(toLocalDate(session.date))
                     .vaccine(session.vaccine)
                     .availableCapacity(nonNull(session.availableCapacity) ? session.availableCapacity : 0)
                     .availableCapacityDose1(nonNull(session.availableCapacityDose1) ? session.availableCapacityDose1 : 0)
@@ -109,35 +159,70 @@ public class MariaDBVaccinePersistence implements VaccinePersistence {
                     .minAgeLimit(session.minAgeLimit)
                     .processedAt(session.shouldNotify ? processedAt : LocalDateTime.now())
                     .build()));
-            sessionRepository.saveAll(sessionEntities);
             centerEntities.add(CenterEntity.builder()
                     .id(center.getCenterId())
                     .name(center.getName())
                     .districtName(center.getDistrictName())
                     .stateName(center.getStateName())
                     .feeType(center.getFeeType())
-                    .sessions(sessionEntities)
+                    .sessions(saveSessions(sessionEntities, existingSessionIds))
                     .pincode(String.valueOf(center.getPincode()))
+                    .newCenter(!existingCenterIds.contains((long) center.getCenterId()))
                     .build());
         });
         return centerEntities;
     }
 
-    @Transactional
+    /*
+     * Loads the existing sessions of the given centers into the persistence context, with one
+     * query per chunk of ids, and returns their ids.
+     */
+    private Set<String> existingSessionIds(VaccineCenters vaccineCenters) {
+        final List<String> sessionIds = new ArrayList<>();
+        vaccineCenters.getCenters().forEach(center -> center.getSessions().forEach(session -> sessionIds.add(session.getSessionId())));
+        final Set<String> existing = new HashSet<>();
+        Lists.partition(sessionIds, IN_LIST_CHUNK_SIZE)
+                .forEach(ids -> sessionRepository.findAllById(ids).forEach(session -> existing.add(session.getId())));
+        return existing;
+    }
+
+    // returns the managed sessions, for the centers to refer to
+    private Set<SessionEntity> saveSessions(Set<SessionEntity> sessionEntities, Set<String> existingSessionIds) {
+        sessionEntities.forEach(session -> session.setNewSession(!existingSessionIds.contains(session.getId())));
+        final Set<SessionEntity> saved = new HashSet<>(sessionRepository.saveAll(sessionEntities));
+        saved.forEach(session -> existingSessionIds.add(session.getId())); // in case a later center lists them again
+        return saved;
+    }
+
+    // sessions are dropped by the partition where the database supports it
     @Override
     public void cleanupOldCenters(String date) {
-        this.centerRepository.deleteBySessionsDate(date);
+        final LocalDate firstDayToKeep = toLocalDate(date).plusDays(1);
+        final long sessions = datePartitions.dropBefore(DatePartitions.SESSIONS, firstDayToKeep)
+                .orElseGet(() -> sessionRepository.deleteBySessionDateBefore(firstDayToKeep));
+        final int centers = centerRepository.deleteCentersWithoutSessions();
+        log.info("Deleted about {} sessions before {} and {} centers without sessions", sessions, firstDayToKeep, centers);
     }
 
     @Override
     public Optional<SessionEntity> findExistingSession(Long centerId, String date, Integer age, String vaccine) {
-        return sessionRepository.findLatestSession(centerId, date, age, vaccine)
+        return sessionRepository.findLatestSession(centerId, toLocalDate(date), age, vaccine)
                 .stream()
                 .findFirst();
     }
 
     @Override
-    public List<CenterSession> findAllSessionsByPincode(String pincode) {
-        return sessionRepository.findSessionsWithPincode(pincode);
+    public List<CenterLocation> findCenterLocationsByPincodes(Collection<String> pincodes) {
+        final List<CenterLocation> locations = new ArrayList<>();
+        chunked(pincodes).forEach(chunk -> locations.addAll(centerRepository.findCenterLocationsByPincodes(chunk)));
+        return locations;
+    }
+
+    private static List<List<String>> chunked(Collection<String> pincodes) {
+        return Lists.partition(new ArrayList<>(new LinkedHashSet<>(pincodes)), IN_LIST_CHUNK_SIZE);
+    }
+
+    private static LocalDate toLocalDate(String ddMMyyyy) {
+        return isNull(ddMMyyyy) ? null : LocalDate.parse(ddMMyyyy, SESSION_DATE);
     }
 }
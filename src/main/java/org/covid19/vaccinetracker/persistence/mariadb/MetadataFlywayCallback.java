@@ -0,0 +1,37 @@
+package org.covid19.vaccinetracker.persistence.mariadb;
+
+import org.flywaydb.core.api.callback.BaseCallback;
+import org.flywaydb.core.api.callback.Context;
+import org.flywaydb.core.api.callback.Event;
+import org.springframework.stereotype.Component;
+
+/**
+ * Loads the reference data after the schema migrations, so that it is in place before JPA and
+ * Kafka Streams start using it. Replaces the former pincode seed migrations.
+ */
+@Component
+public class MetadataFlywayCallback extends BaseCallback {
+    private final MetadataLoader metadataLoader;
+    private final MetadataLoaderConfig config;
+
+    public MetadataFlywayCallback(MetadataLoader metadataLoader, MetadataLoaderConfig config) {
+        this.metadataLoader = metadataLoader;
+        this.config = config;
+    }
+
+    @Override
+    public boolean supports(Event event, Context context) {
+        return config.isEnabled() && Event.AFTER_MIGRATE.equals(event);
+    }
+
+    @Override
+    public boolean canHandleInTransaction(Event event, Context context) {
+        // the loader uses its own transaction
+        return false;
+    }
+
+    @Override
+    public void handle(Event event, Context context) {
+        metadataLoader.loadIfChanged();
+    }
+}
@@ -0,0 +1,258 @@
+package org.covid19.vaccinetracker.persistence.mariadb;
+
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.DatabaseMetaData;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+
+import javax.sql.DataSource;
+
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Loads the reference data (states, districts and pincodes) from a gzipped CSV in one transaction.
+ * Rows are upserted by id and rows missing from the file are kept, since pincodes discovered at
+ * runtime by the pincode reconciliation are not part of it. Rows are streamed and written in JDBC batches, so the
+ * file is never held in memory. The SHA-256 of the file is verified before the transaction
+ * commits and recorded in metadata_loads, so an unchanged file is only loaded once.
+ * <p>
+ * The CSV has the columns type,id,value,parent_id, where type is state, district or pincode and
+ * rows are ordered states first, then districts, then pincodes.
+ */
+@Slf4j
+@Component
+public class MetadataLoader {
+    private static final String UPSERT_STATE = "INSERT INTO states (id, state_name) VALUES (?, ?) " +
+            "ON DUPLICATE KEY UPDATE state_name = VALUES(state_name)";
+    private static final String UPSERT_DISTRICT = "INSERT INTO districts (id, district_name, state_id) VALUES (?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE district_name = VALUES(district_name), state_id = VALUES(state_id)";
+    private static final String UPSERT_PINCODE = "INSERT INTO pincodes (id, pincode, district_id) VALUES (?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE pincode = VALUES(pincode), district_id = VALUES(district_id)";
+    // H2, used in tests, has no ON DUPLICATE KEY UPDATE outside of its MySQL mode
+    private static final String MERGE_STATE = "MERGE INTO states (id, state_name) KEY (id) VALUES (?, ?)";
+    private static final String MERGE_DISTRICT = "MERGE INTO districts (id, district_name, state_id) KEY (id) VALUES (?, ?, ?)";
+    private static final String MERGE_PINCODE = "MERGE INTO pincodes (id, pincode, district_id) KEY (id) VALUES (?, ?, ?)";
+
+    private final DataSource dataSource;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MetadataLoaderConfig config;
+    private final ResourceLoader resourceLoader = new DefaultResourceLoader();
+
+    /*
+     * Runs from a Flyway callback, before JPA and its transaction manager exist, so it manages
+     * its own JDBC transactions.
+     */
+    public MetadataLoader(DataSource dataSource, MetadataLoaderConfig config) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        this.config = config;
+    }
+
+    /**
+     * Loads the configured file unless a file with the same checksum was loaded before.
+     *
+     * @return the result of the load, or empty when the data was current
+     */
+    public Optional<LoadResult> loadIfChanged() {
+        final Resource resource = resourceLoader.getResource(config.getLocation());
+        final String checksum = expectedChecksum(resource);
+        final Integer loaded = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM metadata_loads WHERE checksum = ?", Integer.class, checksum);
+        if (loaded != null && loaded > 0) {
+            log.info("Metadata {} with checksum {} already loaded", config.getLocation(), checksum);
+            return Optional.empty();
+        }
+        return Optional.of(load(resource, checksum));
+    }
+
+    /**
+     * Inserts or updates the states, districts and pincodes of the given file.
+     *
+     * @param resource         - gzipped CSV
+     * @param expectedChecksum - SHA-256 of the gzipped file, hex encoded
+     * @return number of rows loaded per table
+     * @throws IllegalStateException if the checksum does not match, nothing is changed then
+     */
+    public LoadResult load(Resource resource, String expectedChecksum) {
+        final long start = System.currentTimeMillis();
+        final LoadResult result = transactionTemplate.execute(status -> {
+            final MessageDigest digest = sha256();
+            final LoadResult counts;
+            try (InputStream in = new DigestInputStream(resource.getInputStream(), digest)) {
+                counts = insertRows(in);
+                // the trailer of the gzip stream may not have been consumed
+                in.transferTo(OutputStream.nullOutputStream());
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not read metadata from " + resource, e);
+            }
+            final String checksum = toHex(digest.digest());
+            if (!checksum.equalsIgnoreCase(expectedChecksum)) {
+                throw new IllegalStateException(String.format("Checksum of %s is %s, expected %s", resource, checksum, expectedChecksum));
+            }
+            jdbcTemplate.update("INSERT INTO metadata_loads (checksum, states, districts, pincodes, loaded_at) VALUES (?, ?, ?, ?, ?)",
+                    checksum, counts.getStates(), counts.getDistricts(), counts.getPincodes(), Timestamp.valueOf(LocalDateTime.now()));
+            return counts;
+        });
+        log.info("Loaded {} states, {} districts and {} pincodes from {} in {} ms", result.getStates(), result.getDistricts(),
+                result.getPincodes(), resource, System.currentTimeMillis() - start);
+        return result;
+    }
+
+    private LoadResult insertRows(InputStream compressed) throws IOException {
+        final BufferedReader reader = new BufferedReader(new InputStreamReader(new GZIPInputStream(compressed), StandardCharsets.UTF_8));
+        final boolean h2 = isH2();
+        final Batch states = new Batch(h2 ? MERGE_STATE : UPSERT_STATE);
+        final Batch districts = new Batch(h2 ? MERGE_DISTRICT : UPSERT_DISTRICT);
+        final Batch pincodes = new Batch(h2 ? MERGE_PINCODE : UPSERT_PINCODE);
+        String line = reader.readLine(); // header
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            final List<String> row = parseCsvLine(line);
+            switch (row.get(0)) {
+                case "state":
+                    states.add(Integer.parseInt(row.get(1)), row.get(2));
+                    break;
+                case "district":
+                    states.flush();
+                    districts.add(Integer.parseInt(row.get(1)), row.get(2), Integer.parseInt(row.get(3)));
+                    break;
+                case "pincode":
+                    districts.flush();
+                    pincodes.add(row.get(1), row.get(2), Integer.parseInt(row.get(3)));
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown metadata row type: " + line);
+            }
+        }
+        states.flush();
+        districts.flush();
+        pincodes.flush();
+        return new LoadResult(states.total, districts.total, pincodes.total);
+    }
+
+    private boolean isH2() {
+        try {
+            return JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName).contains("H2");
+        } catch (MetaDataAccessException e) {
+            throw new IllegalStateException("Could not determine the database", e);
+        }
+    }
+
+    private String expectedChecksum(Resource resource) {
+        final Resource checksum = resourceLoader.getResource(config.getLocation() + ".sha256");
+        try (InputStream in = checksum.getInputStream()) {
+            return new String(in.readAllBytes(), StandardCharsets.US_ASCII).trim().split("\\s+")[0];
+        } catch (IOException e) {
+            throw new UncheckedIOException("No checksum for " + resource, e);
+        }
+    }
+
+    /*
+     * Fields may be quoted with double quotes, a quote within a quoted field is doubled.
+     */
+    static List<String> parseCsvLine(String line) {
+        final List<String> fields = new ArrayList<>();
+        final StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            final char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        final StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+
+    private class Batch {
+        private final String sql;
+        private final List<Object[]> rows = new ArrayList<>();
+        private int total;
+
+        Batch(String sql) {
+            this.sql = sql;
+        }
+
+        void add(Object... row) {
+            rows.add(row);
+            if (rows.size() >= config.getBatchSize()) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (rows.isEmpty()) {
+                return;
+            }
+            jdbcTemplate.batchUpdate(sql, rows);
+            total += rows.size();
+            rows.clear();
+        }
+    }
+
+    @Value
+    public static class LoadResult {
+        int states;
+        int districts;
+        int pincodes;
+    }
+}
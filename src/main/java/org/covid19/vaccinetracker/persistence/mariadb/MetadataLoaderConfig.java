@@ -0,0 +1,19 @@
+package org.covid19.vaccinetracker.persistence.mariadb;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+/**
+ * Settings of the {@link MetadataLoader}. The expected SHA-256 of the file is read from a
+ * resource next to it, with the suffix ".sha256".
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "metadata.loader")
+public class MetadataLoaderConfig {
+    private boolean enabled = true;
+    private String location = "classpath:db/metadata/metadata.csv.gz";
+    private int batchSize = 1000;
+}
@@ -0,0 +1,18 @@
+package org.covid19.vaccinetracker.persistence.mariadb;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+/**
+ * Settings of the slot history: how many days of observations are kept, and how many days back
+ * the absent alerts look for sessions that had open slots.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "slot-history")
+public class SlotHistoryConfig {
+    private int retentionDays = 90;
+    private int lookbackDays = 30;
+}
@@ -1,14 +1,25 @@
 package org.covid19.vaccinetracker.persistence.mariadb.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import org.springframework.data.domain.Persistable;
+
 import java.util.Set;
 
 import javax.persistence.CascadeType;
 import javax.persistence.Column;
+import javax.persistence.ConstraintMode;
 import javax.persistence.Entity;
 import javax.persistence.FetchType;
+import javax.persistence.ForeignKey;
 import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.JoinColumn;
 import javax.persistence.OneToMany;
+import javax.persistence.PostLoad;
+import javax.persistence.PostPersist;
 import javax.persistence.Table;
+import javax.persistence.Transient;
 
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -21,10 +32,10 @@ import lombok.NoArgsConstructor;
 @Data
 @Builder
 @Entity
-@Table(name = "vaccine_centers")
+@Table(name = "vaccine_centers", indexes = @Index(name = "idx_vaccine_centers_pincode", columnList = "pincode"))
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class CenterEntity {
+public class CenterEntity implements Persistable<Long> {
     @Id
     private long id;
 
@@ -47,5 +58,34 @@ public class CenterEntity {
     private String stateName;
 
     @OneToMany(cascade = CascadeType.ALL, fetch = FetchType.EAGER, orphanRemoval = true)
+    // no foreign key, the sessions table is partitioned by date
+    @JoinColumn(name = "center_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private Set<SessionEntity> sessions;
+
+    /*
+     * Whether the center is known not to exist yet, so that saving it inserts it right away
+     * instead of selecting it first to merge. Not persisted.
+     */
+    @JsonIgnore
+    @Transient
+    @Builder.Default
+    @EqualsAndHashCode.Exclude
+    private boolean newCenter = false;
+
+    @Override
+    public Long getId() {
+        return id;
+    }
+
+    @JsonIgnore
+    @Override
+    public boolean isNew() {
+        return newCenter;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newCenter = false;
+    }
 }
@@ -1,12 +1,21 @@
 package org.covid19.vaccinetracker.persistence.mariadb.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.EntityListeners;
 import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.PostLoad;
+import javax.persistence.PostPersist;
 import javax.persistence.Table;
+import javax.persistence.Transient;
 
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -20,17 +29,33 @@ import lombok.NoArgsConstructor;
 @Data
 @Entity
 @EntityListeners(EntityListeners.class)
-@Table(name = "sessions")
+@Table(name = "sessions", indexes = {
+        @Index(name = "idx_sessions_center_date_age_vaccine", columnList = "center_id, session_date, min_age_limit, vaccine"),
+        @Index(name = "idx_sessions_session_date", columnList = "session_date")
+})
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class SessionEntity {
+public class SessionEntity implements Persistable<String> {
+    /*
+     * The primary key of the partitioned table is (id, session_date), so the database no longer
+     * rejects a second row with the same id. Ids stay unique because sessions are only inserted
+     * when no session with their id exists (see MariaDBVaccinePersistence), and are otherwise
+     * updated by id, date included.
+     */
     @EqualsAndHashCode.Include
     @Id
     private String id;
 
+    // written through the sessions of CenterEntity, mapped here to filter on it without a join
+    @Column(name = "center_id", insertable = false, updatable = false)
+    private Long centerId;
+
     @Column
     private String date;
 
+    @Column(name = "session_date")
+    private LocalDate sessionDate; // date, typed for comparisons and indexes
+
     @Column(name = "available_capacity")
     private int availableCapacity;
 
@@ -43,10 +68,29 @@ public class SessionEntity {
     @Column(name = "min_age_limit")
     private int minAgeLimit;
 
+    @Column(length = 32)
     private String vaccine;
 
     private String cost;
 
     @Column(name = "processed_at")
     private LocalDateTime processedAt;
+
+    // set for sessions known not to exist yet, so that they are inserted without a lookup by id first
+    @JsonIgnore
+    @Transient
+    @Builder.Default
+    private boolean newSession = false;
+
+    @JsonIgnore
+    @Override
+    public boolean isNew() {
+        return newSession;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newSession = false;
+    }
 }
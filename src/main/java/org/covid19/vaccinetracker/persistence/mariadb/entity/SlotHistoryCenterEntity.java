@@ -0,0 +1,32 @@
+package org.covid19.vaccinetracker.persistence.mariadb.entity;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@Entity
+@Table(name = "slot_history_centers")
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SlotHistoryCenterEntity {
+    @Id
+    private int id;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Column(name = "district_name")
+    private String districtName;
+
+    @Column(nullable = false)
+    private int pincode;
+}
@@ -0,0 +1,62 @@
+package org.covid19.vaccinetracker.persistence.mariadb.entity;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A change in the capacity of a session, as observed when its district was fetched. Rows are only
+ * ever appended and are bucketed by the day of the session.
+ */
+@Data
+@Builder
+@Entity
+@Table(name = "slot_history", indexes = {
+        @Index(name = "idx_slot_history_pincode_day", columnList = "pincode, day"),
+        @Index(name = "idx_slot_history_day", columnList = "day")
+})
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SlotObservationEntity {
+    // the primary key of the partitioned table is (id, day), the auto increment keeps ids unique
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private LocalDate day;
+
+    @Column(nullable = false)
+    private int pincode;
+
+    @Column(name = "center_id", nullable = false)
+    private int centerId;
+
+    @Column(nullable = false, length = 16)
+    private String vaccine;
+
+    @Column(name = "min_age", nullable = false)
+    private int minAge;
+
+    @Column(nullable = false)
+    private int dose1;
+
+    @Column(nullable = false)
+    private int dose2;
+
+    @Column(name = "observed_at", nullable = false)
+    private LocalDateTime observedAt;
+}
@@ -1,10 +1,15 @@
 package org.covid19.vaccinetracker.persistence.mariadb.repository;
 
+import org.covid19.vaccinetracker.model.CenterLocation;
+import org.covid19.vaccinetracker.model.SessionRow;
 import org.covid19.vaccinetracker.persistence.mariadb.entity.CenterEntity;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -17,5 +22,43 @@ public interface CenterRepository extends CrudRepository<CenterEntity, Long> {
             "AND s.processedAt IS NULL")
     List<CenterEntity> findCenterEntityByPincodeAndSessionsProcessedAtIsNull(String pincode);
 
-    void deleteBySessionsDate(String date);
+    // the sessions are eager, loading them in the same query avoids one select per center
+    @Query("SELECT DISTINCT c FROM CenterEntity c " +
+            "LEFT JOIN FETCH c.sessions " +
+            "WHERE c.id IN :ids")
+    List<CenterEntity> findAllWithSessionsByIdIn(Collection<Long> ids);
+
+    @Transactional(readOnly = true)
+    @Query("SELECT " +
+            "new org.covid19.vaccinetracker.model.SessionRow(c.id, c.name, c.districtName, c.stateName, c.pincode, c.feeType, " +
+            "s.id, s.date, s.vaccine, s.availableCapacity, s.availableCapacityDose1, s.availableCapacityDose2, s.cost, s.minAgeLimit) " +
+            "FROM CenterEntity c " +
+            "JOIN c.sessions s " +
+            "WHERE c.pincode = :pincode " +
+            "AND s.processedAt IS NULL " +
+            "ORDER BY c.id")
+    List<SessionRow> findUnprocessedSessionRowsByPincode(String pincode);
+
+    @Transactional(readOnly = true)
+    @Query("SELECT " +
+            "new org.covid19.vaccinetracker.model.SessionRow(c.id, c.name, c.districtName, c.stateName, c.pincode, c.feeType, " +
+            "s.id, s.date, s.vaccine, s.availableCapacity, s.availableCapacityDose1, s.availableCapacityDose2, s.cost, s.minAgeLimit) " +
+            "FROM CenterEntity c " +
+            "JOIN c.sessions s " +
+            "WHERE c.pincode IN :pincodes " +
+            "AND s.processedAt IS NULL " +
+            "ORDER BY c.pincode, c.id")
+    List<SessionRow> findUnprocessedSessionRowsByPincodes(Collection<String> pincodes);
+
+    @Query("SELECT DISTINCT " +
+            "new org.covid19.vaccinetracker.model.CenterLocation(c.pincode, c.districtName, c.stateName) " +
+            "FROM CenterEntity c " +
+            "WHERE c.pincode IN :pincodes")
+    List<CenterLocation> findCenterLocationsByPincodes(Collection<String> pincodes);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "DELETE FROM vaccine_centers " +
+            "WHERE NOT EXISTS (SELECT 1 FROM sessions s WHERE s.center_id = vaccine_centers.id)", nativeQuery = true)
+    int deleteCentersWithoutSessions();
 }
@@ -1,6 +1,8 @@
 package org.covid19.vaccinetracker.persistence.mariadb.repository;
 
+import org.covid19.vaccinetracker.userrequests.Gazetteer;
 import org.covid19.vaccinetracker.userrequests.model.Pincode;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Repository;
 
@@ -11,4 +13,7 @@ public interface PincodeRepository extends CrudRepository<Pincode, String> {
     List<Pincode> findPincodeByDistrictId(int districtId);
 
     boolean existsByPincode(String pincode);
+
+    @Query("SELECT p.pincode AS pincode, p.district.id AS districtId FROM Pincode p")
+    List<Gazetteer.PincodeDistrict> findAllPincodeDistricts();
 }
@@ -1,27 +1,26 @@
 package org.covid19.vaccinetracker.persistence.mariadb.repository;
 
-import org.covid19.vaccinetracker.model.CenterSession;
 import org.covid19.vaccinetracker.persistence.mariadb.entity.SessionEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @Repository
 public interface SessionRepository extends JpaRepository<SessionEntity, String> {
-    @Query("SELECT s FROM CenterEntity c " +
-            "JOIN c.sessions s " +
-            "WHERE c.id = :centerId " +
-            "AND s.date = :date " +
+    @Query("SELECT s FROM SessionEntity s " +
+            "WHERE s.centerId = :centerId " +
+            "AND s.sessionDate = :date " +
             "AND s.minAgeLimit = :age " +
             "AND s.vaccine = :vaccine ")
-    List<SessionEntity> findLatestSession(Long centerId, String date, Integer age, String vaccine);
+    List<SessionEntity> findLatestSession(Long centerId, LocalDate date, Integer age, String vaccine);
 
-    @Query("SELECT " +
-            "new org.covid19.vaccinetracker.model.CenterSession(c.name, c.districtName, c.pincode, s.date, s.minAgeLimit, s.vaccine) " +
-            "FROM CenterEntity  c " +
-            "JOIN c.sessions s " +
-            "WHERE c.pincode = :pincode")
-    List<CenterSession> findSessionsWithPincode(String pincode);
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM SessionEntity s WHERE s.sessionDate < :day")
+    int deleteBySessionDateBefore(LocalDate day);
 }
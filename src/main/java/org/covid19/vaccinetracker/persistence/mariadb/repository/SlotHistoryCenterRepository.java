@@ -0,0 +1,9 @@
+package org.covid19.vaccinetracker.persistence.mariadb.repository;
+
+import org.covid19.vaccinetracker.persistence.mariadb.entity.SlotHistoryCenterEntity;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SlotHistoryCenterRepository extends CrudRepository<SlotHistoryCenterEntity, Integer> {
+}
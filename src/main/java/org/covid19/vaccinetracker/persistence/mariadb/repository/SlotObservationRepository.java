@@ -0,0 +1,42 @@
+package org.covid19.vaccinetracker.persistence.mariadb.repository;
+
+import org.covid19.vaccinetracker.model.SlotOpening;
+import org.covid19.vaccinetracker.persistence.mariadb.entity.SlotObservationEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface SlotObservationRepository extends JpaRepository<SlotObservationEntity, Long> {
+    @Query("SELECT DISTINCT " +
+            "new org.covid19.vaccinetracker.model.SlotOpening(c.name, c.districtName, o.pincode, o.day, o.minAge, o.vaccine) " +
+            "FROM SlotObservationEntity o, SlotHistoryCenterEntity c " +
+            "WHERE c.id = o.centerId " +
+            "AND o.pincode IN :pincodes " +
+            "AND o.day >= :since " +
+            "AND (o.dose1 > 0 OR o.dose2 > 0)")
+    List<SlotOpening> findOpenings(Collection<Integer> pincodes, LocalDate since);
+
+    @Query("SELECT " +
+            "new org.covid19.vaccinetracker.model.SlotOpening(c.name, c.districtName, o.pincode, o.day, o.minAge, o.vaccine) " +
+            "FROM SlotObservationEntity o, SlotHistoryCenterEntity c " +
+            "WHERE c.id = o.centerId " +
+            "AND o.pincode = :pincode " +
+            "AND o.minAge BETWEEN :minAgeFrom AND :minAgeTo " +
+            "AND (:vaccine IS NULL OR o.vaccine = :vaccine) " +
+            "AND (o.dose1 > 0 OR o.dose2 > 0) " +
+            "ORDER BY o.day DESC, o.observedAt DESC")
+    List<SlotOpening> findLatestOpenings(int pincode, int minAgeFrom, int minAgeTo, String vaccine, Pageable pageable);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM SlotObservationEntity o WHERE o.day < :day")
+    int deleteByDayBefore(LocalDate day);
+}
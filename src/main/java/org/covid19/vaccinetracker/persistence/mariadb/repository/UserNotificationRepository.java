@@ -5,6 +5,10 @@ import org.covid19.vaccinetracker.persistence.mariadb.entity.UserNotificationId;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface UserNotificationRepository extends CrudRepository<UserNotification, UserNotificationId> {
+    List<UserNotification> findByUserNotificationIdUserIdIn(Collection<String> userIds);
 }
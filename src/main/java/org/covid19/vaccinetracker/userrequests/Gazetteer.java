@@ -0,0 +1,197 @@
+package org.covid19.vaccinetracker.userrequests;
+
+import org.covid19.vaccinetracker.userrequests.model.District;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Immutable snapshot of the districts and pincodes, to answer lookups without the database. A
+ * pincode is stored as an int, pincodes and their districts are kept in parallel sorted arrays and
+ * the pincodes of a district in an array indexed by district id, so the whole of India takes a
+ * few hundred KB. Changes create a new snapshot, see {@link #withPincode(String, District)}.
+ */
+public final class Gazetteer {
+    private static final int NOT_A_PINCODE = -1;
+
+    // sorted by pincode then district id, a pincode may lie in more than one district
+    private final int[] pincodes;
+    private final int[] pincodeDistrictIds;
+    private final District[] districtsById;
+    private final int[][] pincodesByDistrictId;
+
+    private Gazetteer(int[] pincodes, int[] pincodeDistrictIds, District[] districtsById) {
+        this.pincodes = pincodes;
+        this.pincodeDistrictIds = pincodeDistrictIds;
+        this.districtsById = districtsById;
+        this.pincodesByDistrictId = indexByDistrict(pincodes, pincodeDistrictIds, districtsById.length);
+    }
+
+    public static Gazetteer empty() {
+        return new Gazetteer(new int[0], new int[0], new District[0]);
+    }
+
+    /**
+     * @param districts - All known districts
+     * @param pincodes  - Pairs of pincode and district id, pincodes that are not 6 digits are skipped
+     */
+    public static Gazetteer of(Collection<District> districts, Collection<PincodeDistrict> pincodes) {
+        final int maxDistrictId = districts.stream().mapToInt(District::getId).max().orElse(-1);
+        final District[] districtsById = new District[maxDistrictId + 1];
+        districts.forEach(district -> districtsById[district.getId()] = district);
+
+        final long[] entries = pincodes.stream()
+                .filter(entry -> parse(entry.getPincode()) != NOT_A_PINCODE)
+                .mapToLong(entry -> pack(parse(entry.getPincode()), entry.getDistrictId()))
+                .sorted()
+                .distinct()
+                .toArray();
+        final int[] pincodeValues = new int[entries.length];
+        final int[] districtIds = new int[entries.length];
+        for (int i = 0; i < entries.length; i++) {
+            pincodeValues[i] = (int) (entries[i] >>> 32);
+            districtIds[i] = (int) entries[i];
+        }
+        return new Gazetteer(pincodeValues, districtIds, districtsById);
+    }
+
+    public boolean pincodeExists(String pincode) {
+        return firstIndexOf(parse(pincode)) >= 0;
+    }
+
+    public List<District> districtsOf(String pincode) {
+        final int value = parse(pincode);
+        final List<District> districts = new ArrayList<>(1);
+        for (int i = Math.max(firstIndexOf(value), 0); i < pincodes.length && pincodes[i] == value; i++) {
+            district(pincodeDistrictIds[i]).ifPresent(districts::add);
+        }
+        return districts;
+    }
+
+    public List<String> pincodesOf(int districtId) {
+        if (districtId < 0 || districtId >= pincodesByDistrictId.length) {
+            return List.of();
+        }
+        final int[] values = pincodesByDistrictId[districtId];
+        final List<String> result = new ArrayList<>(values.length);
+        for (int value : values) {
+            result.add(format(value));
+        }
+        return result;
+    }
+
+    public Optional<District> district(int districtId) {
+        return districtId < 0 || districtId >= districtsById.length
+                ? Optional.empty() : Optional.ofNullable(districtsById[districtId]);
+    }
+
+    public int pincodeCount() {
+        return pincodes.length;
+    }
+
+    public int districtCount() {
+        return (int) Arrays.stream(districtsById).filter(Objects::nonNull).count();
+    }
+
+    /**
+     * @return a snapshot that also places the pincode in the district, this one if it already did
+     */
+    public Gazetteer withPincode(String pincode, District district) {
+        final int value = parse(pincode);
+        if (value == NOT_A_PINCODE) {
+            return this;
+        }
+        final District[] districts = districtsById.length > district.getId()
+                ? districtsById.clone() : Arrays.copyOf(districtsById, district.getId() + 1);
+        districts[district.getId()] = district;
+
+        final long entry = pack(value, district.getId());
+        final long[] entries = new long[pincodes.length];
+        for (int i = 0; i < pincodes.length; i++) {
+            entries[i] = pack(pincodes[i], pincodeDistrictIds[i]);
+        }
+        final int position = Arrays.binarySearch(entries, entry);
+        if (position >= 0) {
+            return district.equals(districtsById[district.getId()]) ? this : new Gazetteer(pincodes, pincodeDistrictIds, districts);
+        }
+        final int insertAt = -position - 1;
+        final int[] pincodeValues = new int[pincodes.length + 1];
+        final int[] districtIds = new int[pincodes.length + 1];
+        System.arraycopy(pincodes, 0, pincodeValues, 0, insertAt);
+        System.arraycopy(pincodeDistrictIds, 0, districtIds, 0, insertAt);
+        pincodeValues[insertAt] = value;
+        districtIds[insertAt] = district.getId();
+        System.arraycopy(pincodes, insertAt, pincodeValues, insertAt + 1, pincodes.length - insertAt);
+        System.arraycopy(pincodeDistrictIds, insertAt, districtIds, insertAt + 1, pincodes.length - insertAt);
+        return new Gazetteer(pincodeValues, districtIds, districts);
+    }
+
+    private int firstIndexOf(int value) {
+        if (value == NOT_A_PINCODE) {
+            return -1;
+        }
+        int index = Arrays.binarySearch(pincodes, value);
+        while (index > 0 && pincodes[index - 1] == value) {
+            index--;
+        }
+        return index;
+    }
+
+    private static int[][] indexByDistrict(int[] pincodes, int[] districtIds, int size) {
+        final int[] counts = new int[size];
+        for (int districtId : districtIds) {
+            if (districtId >= 0 && districtId < size) {
+                counts[districtId]++;
+            }
+        }
+        final int[][] index = new int[size][];
+        for (int districtId = 0; districtId < size; districtId++) {
+            index[districtId] = new int[counts[districtId]];
+            counts[districtId] = 0;
+        }
+        // pincodes are sorted, so are the pincodes of every district
+        for (int i = 0; i < pincodes.length; i++) {
+            final int districtId = districtIds[i];
+            if (districtId >= 0 && districtId < size) {
+                index[districtId][counts[districtId]++] = pincodes[i];
+            }
+        }
+        return index;
+    }
+
+    private static long pack(int pincode, int districtId) {
+        return ((long) pincode << 32) | (districtId & 0xffffffffL);
+    }
+
+    private static String format(int pincode) {
+        return pincode >= 100000 ? String.valueOf(pincode) : String.format("%06d", pincode);
+    }
+
+    private static int parse(String pincode) {
+        if (pincode == null || pincode.length() != 6) {
+            return NOT_A_PINCODE;
+        }
+        int value = 0;
+        for (int i = 0; i < 6; i++) {
+            final char c = pincode.charAt(i);
+            if (c < '0' || c > '9') {
+                return NOT_A_PINCODE;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    /**
+     * A pincode and the id of a district it lies in.
+     */
+    public interface PincodeDistrict {
+        String getPincode();
+
+        int getDistrictId();
+    }
+}
@@ -4,30 +4,71 @@ import org.covid19.vaccinetracker.userrequests.model.District;
 import org.covid19.vaccinetracker.userrequests.model.Pincode;
 import org.covid19.vaccinetracker.persistence.mariadb.repository.DistrictRepository;
 import org.covid19.vaccinetracker.persistence.mariadb.repository.PincodeRepository;
+import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Collectors;
 
+import lombok.extern.slf4j.Slf4j;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Reference data of districts and pincodes. Lookups by pincode or district are answered from an
+ * in-memory {@link Gazetteer} loaded at startup, before Kafka Streams starts, so that Kafka Streams threads and bot handlers
+ * do not wait on the database. Pincodes added by reconciliation replace the snapshot atomically.
+ */
+@Slf4j
 @Component
-public class MetadataStore {
+public class MetadataStore implements SmartInitializingSingleton {
     private final DistrictRepository districtRepository;
     private final PincodeRepository pincodeRepository;
 
+    private volatile Gazetteer gazetteer;
+
     public MetadataStore(DistrictRepository districtRepository, PincodeRepository pincodeRepository) {
         this.districtRepository = districtRepository;
         this.pincodeRepository = pincodeRepository;
     }
 
+    @Override
+    public void afterSingletonsInstantiated() {
+        reload();
+    }
+
     public boolean pincodeExists(String pincode) {
-        return this.pincodeRepository.existsByPincode(pincode);
+        return gazetteer().pincodeExists(pincode);
     }
 
     public void persistPincode(Pincode pincode) {
         this.pincodeRepository.save(pincode);
+        synchronized (this) {
+            gazetteer = gazetteer().withPincode(pincode.getPincode(), pincode.getDistrict());
+        }
+    }
+
+    /**
+     * Saves the pincodes in one batch and makes them visible to lookups at once.
+     */
+    public void persistPincodes(Collection<Pincode> pincodes) {
+        if (pincodes.isEmpty()) {
+            return;
+        }
+        this.pincodeRepository.saveAll(pincodes);
+        synchronized (this) {
+            Gazetteer updated = gazetteer();
+            for (Pincode pincode : pincodes) {
+                updated = updated.withPincode(pincode.getPincode(), pincode.getDistrict());
+            }
+            gazetteer = updated;
+        }
     }
 
     public List<District> fetchDistrictsByPincode(String pincode) {
-        return districtRepository.findDistrictByPincode(pincode);
+        return gazetteer().districtsOf(pincode);
     }
 
     public District fetchDistrictByNameAndState(String districtName, String stateName) {
@@ -35,6 +76,40 @@ public class MetadataStore {
     }
 
     public List<Pincode> fetchPincodesByDistrictId(Integer districtId) {
-        return this.pincodeRepository.findPincodeByDistrictId(districtId);
+        final Gazetteer snapshot = gazetteer();
+        return snapshot.district(districtId)
+                .map(district -> snapshot.pincodesOf(districtId).stream()
+                        .map(pincode -> Pincode.builder().pincode(pincode).district(district).build())
+                        .collect(Collectors.toList()))
+                .orElse(List.of());
+    }
+
+    public List<String> fetchPincodeValuesByDistrictId(int districtId) {
+        return gazetteer().pincodesOf(districtId);
+    }
+
+    /**
+     * Replaces the snapshot with the current contents of the database.
+     */
+    public synchronized void reload() {
+        final long start = System.currentTimeMillis();
+        final List<District> districts = new ArrayList<>();
+        districtRepository.findAll().forEach(districts::add);
+        gazetteer = Gazetteer.of(districts, pincodeRepository.findAllPincodeDistricts());
+        log.info("Loaded {} districts and {} pincodes in {} ms", gazetteer.districtCount(), gazetteer.pincodeCount(),
+                System.currentTimeMillis() - start);
+    }
+
+    private Gazetteer gazetteer() {
+        Gazetteer snapshot = gazetteer;
+        if (isNull(snapshot)) {
+            synchronized (this) {
+                if (isNull(gazetteer)) {
+                    reload();
+                }
+                snapshot = gazetteer;
+            }
+        }
+        return snapshot;
     }
 }
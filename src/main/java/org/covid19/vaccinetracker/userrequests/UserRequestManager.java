@@ -1,5 +1,9 @@
 package org.covid19.vaccinetracker.userrequests;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.Striped;
+
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.apache.kafka.clients.producer.RecordMetadata;
 import org.apache.kafka.streams.KeyValue;
@@ -20,13 +24,20 @@ import org.springframework.stereotype.Component;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.ExecutionException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import lombok.extern.slf4j.Slf4j;
 
+import static java.util.Objects.nonNull;
+import static java.util.Optional.ofNullable;
 import static org.covid19.vaccinetracker.userrequests.model.Age.AGE_18_44;
 import static org.covid19.vaccinetracker.userrequests.model.Dose.DOSE_1;
 
@@ -39,6 +50,12 @@ public class UserRequestManager {
     private final KafkaTemplate<String, UserRequest> kafkaTemplate;
     private final KafkaStateStores kafkaStateStores;
     private final MetadataStore metadataStore;
+    // user requests written here, read before the store until the stream threads have applied them
+    private final Cache<String, UserRequest> recentWrites = CacheBuilder.newBuilder()
+            .expireAfterWrite(5, TimeUnit.MINUTES)
+            .maximumSize(10000)
+            .build();
+    private final Striped<Lock> userLocks = Striped.lock(64);
 
     public UserRequestManager(KafkaTemplate<String, UserRequest> kafkaTemplate, KafkaStateStores kafkaStateStores, MetadataStore metadataStore) {
         this.kafkaTemplate = kafkaTemplate;
@@ -53,7 +70,7 @@ public class UserRequestManager {
             size++;
             it.next();
         }
-        return size;
+        return size + this.kafkaStateStores.remoteUserRequests().size();
     }
 
     public Set<District> fetchAllUserDistricts() {
@@ -63,6 +80,7 @@ public class UserRequestManager {
             final KeyValue<String, District> request = districts.next();
             userDistricts.add(request.value);
         }
+        userDistricts.addAll(this.kafkaStateStores.remoteUserDistricts());
         return userDistricts;
     }
 
@@ -73,9 +91,32 @@ public class UserRequestManager {
             final KeyValue<String, UserRequest> request = requests.next();
             userRequests.add(request.value);
         }
+        userRequests.addAll(this.kafkaStateStores.remoteUserRequests());
         return userRequests;
     }
 
+    /**
+     * Hands all user requests to the consumer in batches of at most the given size, reading the next
+     * batch only once the consumer returned. Unlike {@link #fetchAllUserRequests()}, only one batch
+     * is held in memory at a time.
+     */
+    public void forEachUserRequestBatch(int batchSize, Consumer<List<UserRequest>> batches) {
+        final List<UserRequest> batch = new ArrayList<>(batchSize);
+        try (KeyValueIterator<String, UserRequest> requests = this.kafkaStateStores.userRequests()) {
+            while (requests.hasNext()) {
+                batch.add(requests.next().value);
+                if (batch.size() == batchSize) {
+                    batches.accept(List.copyOf(batch));
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            batches.accept(List.copyOf(batch));
+        }
+        this.kafkaStateStores.remoteUserRequests(batchSize, batches);
+    }
+
     public List<UsersByPincode> fetchAllUsersByPincode() {
         final List<UsersByPincode> usersByPincodes = new ArrayList<>();
         final KeyValueIterator<String, UsersByPincode> iterator = this.kafkaStateStores.usersByPincode();
@@ -83,98 +124,103 @@ public class UserRequestManager {
             final KeyValue<String, UsersByPincode> request = iterator.next();
             usersByPincodes.add(request.value);
         }
+        usersByPincodes.addAll(this.kafkaStateStores.remoteUsersByPincode());
         return usersByPincodes;
     }
 
     public List<String> fetchUserPincodes(String userId) {
-        return kafkaStateStores.pincodesForUser(userId);
+        return ofNullable(recentWrites.getIfPresent(userId))
+                .map(UserRequest::getPincodes)
+                .orElseGet(() -> kafkaStateStores.pincodesForUser(userId));
     }
 
-    public void acceptUserRequest(String userId, List<String> pincodes) {
-        final UserRequest request = kafkaStateStores.userRequestById(userId)
-                .map(existing -> new UserRequest(existing.getChatId(), pincodes, existing.getDistricts(), existing.getAge(), existing.getDose(), existing.getVaccine(), null))
-                .orElse(new UserRequest(userId, pincodes, List.of(), AGE_18_44.toString(), DOSE_1.toString(), Vaccine.ALL.toString(), null));
+    public CompletableFuture<Void> acceptUserRequest(String userId, List<String> pincodes) {
         kafkaTemplate.setProducerListener(producerListener());
-        try {
-            kafkaTemplate.send(userRequestsTopic, userId, request).get();
-        } catch (InterruptedException | ExecutionException e) {
-            log.error("Error producing user request to Kafka: {}", e.getMessage());
-        }
+        return write(userId, current -> Optional.of(current
+                .map(existing -> new UserRequest(existing.getChatId(), pincodes, existing.getDistricts(), existing.getAge(), existing.getDose(), existing.getVaccine(), null))
+                .orElse(new UserRequest(userId, pincodes, List.of(), AGE_18_44.toString(), DOSE_1.toString(), Vaccine.ALL.toString(), null))));
     }
 
-    public void acceptUserRequest(String userId, List<String> pincodes, String dose) {
-        final UserRequest request = kafkaStateStores.userRequestById(userId)
-                .map(existing -> new UserRequest(existing.getChatId(), pincodes, existing.getDistricts(), existing.getAge(), dose, existing.getVaccine(), null))
-                .orElse(new UserRequest(userId, pincodes, List.of(), AGE_18_44.toString(), dose, Vaccine.ALL.toString(), null));
+    public CompletableFuture<Void> acceptUserRequest(String userId, List<String> pincodes, String dose) {
         kafkaTemplate.setProducerListener(producerListener());
-        try {
-            kafkaTemplate.send(userRequestsTopic, userId, request).get();
-        } catch (InterruptedException | ExecutionException e) {
-            log.error("Error producing user request to Kafka: {}", e.getMessage());
-        }
+        return write(userId, current -> Optional.of(current
+                .map(existing -> new UserRequest(existing.getChatId(), pincodes, existing.getDistricts(), existing.getAge(), dose, existing.getVaccine(), null))
+                .orElse(new UserRequest(userId, pincodes, List.of(), AGE_18_44.toString(), dose, Vaccine.ALL.toString(), null))));
     }
 
     public void updateUserRequestLastNotifiedAt(UserRequest userRequest, String lastNotifiedAt) {
-        UserRequest updatedUserRequest = new UserRequest(userRequest.getChatId(), userRequest.getPincodes(), userRequest.getDistricts(), userRequest.getAge(), userRequest.getDose(), userRequest.getVaccine(), lastNotifiedAt);
         kafkaTemplate.setProducerListener(producerListener());
-        try {
-            kafkaTemplate.send(userRequestsTopic, userRequest.getChatId(), updatedUserRequest).get();
-        } catch (InterruptedException | ExecutionException e) {
-            log.error("Error producing user request to Kafka: {}", e.getMessage());
-        }
+        write(userRequest.getChatId(), current -> Optional.of(current.orElse(userRequest))
+                .map(ur -> new UserRequest(ur.getChatId(), ur.getPincodes(), ur.getDistricts(), ur.getAge(), ur.getDose(), ur.getVaccine(), lastNotifiedAt)))
+                .join();
     }
 
     public UsersByPincode fetchUsersByPincode(String pincode) {
         return this.kafkaStateStores.usersByPincode(pincode);
     }
 
-    public void updateDistrictPreference(String userId, List<Integer> districts) {
-        final UserRequest userRequest = this.kafkaStateStores.userRequestById(userId)
+    public CompletableFuture<Void> updateDistrictPreference(String userId, List<Integer> districts) {
+        return write(userId, current -> Optional.of(current
                 .map(ur -> new UserRequest(ur.getChatId(), ur.getPincodes(), districts, ur.getAge(), ur.getDose(), ur.getVaccine(), ur.getLastNotifiedAt()))
-                .orElse(new UserRequest(userId, List.of(), districts, AGE_18_44.toString(), DOSE_1.toString(), Vaccine.ALL.toString(), null));
-        try {
-            kafkaTemplate.send(userRequestsTopic, userRequest.getChatId(), userRequest).get();
-        } catch (InterruptedException | ExecutionException e) {
-            log.error("Error producing user request to Kafka: {}", e.getMessage());
-        }
+                .orElse(new UserRequest(userId, List.of(), districts, AGE_18_44.toString(), DOSE_1.toString(), Vaccine.ALL.toString(), null))));
     }
 
-    public void updateAgePreference(String userId, Age age) {
-        this.kafkaStateStores.userRequestById(userId)
-                .map(ur -> new UserRequest(ur.getChatId(), ur.getPincodes(), ur.getDistricts(), age.toString(), ur.getDose(), ur.getVaccine(), ur.getLastNotifiedAt()))
-                .ifPresent(updated -> {
-                    try {
-                        kafkaTemplate.send(userRequestsTopic, updated.getChatId(), updated).get();
-                    } catch (InterruptedException | ExecutionException e) {
-                        log.error("Error producing user request to Kafka: {}", e.getMessage());
-                    }
-                });
+    public CompletableFuture<Void> updateAgePreference(String userId, Age age) {
+        return write(userId, current -> current
+                .map(ur -> new UserRequest(ur.getChatId(), ur.getPincodes(), ur.getDistricts(), age.toString(), ur.getDose(), ur.getVaccine(), ur.getLastNotifiedAt())));
     }
 
-    public void updateDosePreference(String userId, Dose dose) {
-        this.kafkaStateStores.userRequestById(userId)
-                .map(ur -> new UserRequest(ur.getChatId(), ur.getPincodes(), ur.getDistricts(), ur.getAge(), dose.toString(), ur.getVaccine(), ur.getLastNotifiedAt()))
-                .ifPresent(updated -> {
-                    try {
-                        kafkaTemplate.send(userRequestsTopic, updated.getChatId(), updated).get();
-                    } catch (InterruptedException | ExecutionException e) {
-                        log.error("Error producing user request to Kafka: {}", e.getMessage());
-                    }
-                });
+    public CompletableFuture<Void> updateDosePreference(String userId, Dose dose) {
+        return write(userId, current -> current
+                .map(ur -> new UserRequest(ur.getChatId(), ur.getPincodes(), ur.getDistricts(), ur.getAge(), dose.toString(), ur.getVaccine(), ur.getLastNotifiedAt())));
     }
 
-    public void updateVaccinePreference(String userId, Vaccine vaccine) {
-        this.kafkaStateStores.userRequestById(userId)
-                .map(ur -> new UserRequest(ur.getChatId(), ur.getPincodes(), ur.getDistricts(), ur.getAge(), ur.getDose(), vaccine.toString(), ur.getLastNotifiedAt()))
-                .ifPresent(updated -> {
-                    try {
-                        kafkaTemplate.send(userRequestsTopic, updated.getChatId(), updated).get();
-                    } catch (InterruptedException | ExecutionException e) {
+    public CompletableFuture<Void> updateVaccinePreference(String userId, Vaccine vaccine) {
+        return write(userId, current -> current
+                .map(ur -> new UserRequest(ur.getChatId(), ur.getPincodes(), ur.getDistricts(), ur.getAge(), ur.getDose(), vaccine.toString(), ur.getLastNotifiedAt())));
+    }
+
+    /*
+     * Read-modify-write of a user request, one at a time per user. The current request is read from
+     * the recent writes first, so that a second update builds on the first even before the stream
+     * threads applied it to the store. The write is acknowledged asynchronously, and dropped from
+     * the recent writes again if it failed.
+     */
+    private CompletableFuture<Void> write(String userId, Function<Optional<UserRequest>, Optional<UserRequest>> update) {
+        final Lock lock = userLocks.get(userId);
+        lock.lock();
+        try {
+            return update.apply(currentUserRequest(userId))
+                    .map(request -> send(userId, request))
+                    .orElse(CompletableFuture.completedFuture(null));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /*
+     * Must be called while holding the lock of the user, so that the topic keeps the order of the
+     * updates. The send itself only blocks while the producer waits for metadata or buffer space,
+     * which is bounded by max.block.ms (see UserRequestProducerConfig).
+     */
+    private CompletableFuture<Void> send(String userId, UserRequest request) {
+        recentWrites.put(userId, request);
+        return kafkaTemplate.send(userRequestsTopic, userId, request)
+                .completable()
+                .handle((result, e) -> {
+                    if (nonNull(e)) {
                         log.error("Error producing user request to Kafka: {}", e.getMessage());
+                        recentWrites.asMap().remove(userId, request);
                     }
+                    return null;
                 });
     }
 
+    private Optional<UserRequest> currentUserRequest(String userId) {
+        return ofNullable(recentWrites.getIfPresent(userId))
+                .or(() -> kafkaStateStores.userRequestById(userId));
+    }
+
     /**
      * Reads the user requests state store and produces each request again to the user-requests
      * topic Useful when adding new topology that needs to be populated
@@ -183,17 +229,24 @@ public class UserRequestManager {
         final KeyValueIterator<String, UserRequest> requests = kafkaStateStores.userRequests();
         AtomicInteger count = new AtomicInteger();
         requests.forEachRemaining(entry -> {
-            List<String> updatedPincodes = entry.value.getPincodes();
-            updatedPincodes.add("999999");
-
-            kafkaTemplate.send(userRequestsTopic, entry.key, new UserRequest(entry.value.getChatId(), updatedPincodes, entry.value.getDistricts(), entry.value.getAge(), entry.value.getDose(), entry.value.getVaccine(), entry.value.getLastNotifiedAt()));
+            final Lock lock = userLocks.get(entry.key);
+            lock.lock();
             try {
-                Thread.sleep(10);
-            } catch (InterruptedException e) {
-                e.printStackTrace();
+                // a write newer than the store must not be undone by producing the stored request again
+                final UserRequest current = ofNullable(recentWrites.getIfPresent(entry.key)).orElse(entry.value);
+                final List<String> updatedPincodes = new ArrayList<>(current.getPincodes());
+                updatedPincodes.add("999999");
+
+                send(entry.key, new UserRequest(current.getChatId(), updatedPincodes, current.getDistricts(), current.getAge(), current.getDose(), current.getVaccine(), current.getLastNotifiedAt()));
+                try {
+                    Thread.sleep(10);
+                } catch (InterruptedException e) {
+                    e.printStackTrace();
+                }
+                send(entry.key, current);
+            } finally {
+                lock.unlock();
             }
-            updatedPincodes.removeAll(List.of("999999"));
-            kafkaTemplate.send(userRequestsTopic, entry.key, entry.value);
             count.getAndIncrement();
         });
         log.info("Reloaded {} user requests", count);
@@ -229,11 +282,11 @@ public class UserRequestManager {
     }
 
     public UserRequest fetchUserRequest(String userId) {
-        return kafkaStateStores.userRequestById(userId).orElse(null);
+        return currentUserRequest(userId).orElse(null);
     }
 
     public Age getUserAgePreference(String userId) {
-        return kafkaStateStores.userRequestById(userId)
+        return currentUserRequest(userId)
                 .map(UserRequest::getAge)
                 .map(Age::find)
                 .orElse(AGE_18_44)
@@ -241,7 +294,7 @@ public class UserRequestManager {
     }
 
     public Dose getUserDosePreference(String userId) {
-        return kafkaStateStores.userRequestById(userId)
+        return currentUserRequest(userId)
                 .map(UserRequest::getDose)
                 .map(Dose::find)
                 .orElse(DOSE_1)
@@ -249,7 +302,7 @@ public class UserRequestManager {
     }
 
     public Vaccine getUserVaccinePreference(String userId) {
-        return kafkaStateStores.userRequestById(userId)
+        return currentUserRequest(userId)
                 .map(UserRequest::getVaccine)
                 .map(Vaccine::find)
                 .orElse(Vaccine.ALL)
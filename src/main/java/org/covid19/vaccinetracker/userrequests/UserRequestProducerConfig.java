@@ -30,6 +30,8 @@ public class UserRequestProducerConfig {
         props.put(CLIENT_ID_CONFIG, "org.covid19.user-request-producer");
         props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, Serdes.String().serializer().getClass().getName());
         props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, "io.confluent.kafka.serializers.KafkaJsonSerializer");
+        // user requests are sent while holding the lock of the user, don't block it for the default minute
+        props.putIfAbsent(ProducerConfig.MAX_BLOCK_MS_CONFIG, 5000);
 
         return props;
     }
@@ -0,0 +1,27 @@
+package org.covid19.vaccinetracker.userrequests.model;
+
+import lombok.Value;
+
+import static java.util.Optional.ofNullable;
+import static org.covid19.vaccinetracker.userrequests.model.Age.AGE_18_44;
+import static org.covid19.vaccinetracker.userrequests.model.Dose.DOSE_1;
+
+/**
+ * Compact age, dose and vaccine preference of a user, carried along with the users of a pincode so
+ * that notifications can be filtered without looking up each user request.
+ */
+@Value
+public class UserPreference {
+    public static final UserPreference DEFAULT = new UserPreference(AGE_18_44, DOSE_1, Vaccine.ALL);
+
+    Age age;
+    Dose dose;
+    Vaccine vaccine;
+
+    public static UserPreference of(UserRequest userRequest) {
+        return new UserPreference(
+                ofNullable(Age.find(userRequest.getAge())).orElse(AGE_18_44), // default to 18-44 only.
+                ofNullable(Dose.find(userRequest.getDose())).orElse(DOSE_1), // default to dose 1
+                ofNullable(Vaccine.find(userRequest.getVaccine())).orElse(Vaccine.ALL));
+    }
+}
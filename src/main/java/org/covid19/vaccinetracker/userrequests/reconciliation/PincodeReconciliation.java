@@ -1,125 +1,218 @@
 package org.covid19.vaccinetracker.userrequests.reconciliation;
 
-import org.apache.commons.lang3.tuple.ImmutablePair;
+import com.google.common.util.concurrent.RateLimiter;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
 import org.covid19.vaccinetracker.availability.aws.CowinLambdaWrapper;
+import org.covid19.vaccinetracker.model.Center;
 import org.covid19.vaccinetracker.model.VaccineCenters;
 import org.covid19.vaccinetracker.notifications.bot.BotService;
+import org.covid19.vaccinetracker.persistence.VaccinePersistence;
+import org.covid19.vaccinetracker.persistence.kafka.KafkaStateStores;
 import org.covid19.vaccinetracker.userrequests.MetadataStore;
 import org.covid19.vaccinetracker.userrequests.UserRequestManager;
 import org.covid19.vaccinetracker.userrequests.model.District;
 import org.covid19.vaccinetracker.userrequests.model.Pincode;
 import org.covid19.vaccinetracker.userrequests.model.UserRequest;
 import org.jetbrains.annotations.NotNull;
-import org.jetbrains.annotations.Nullable;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
 import java.util.Optional;
-import java.util.function.Consumer;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import lombok.extern.slf4j.Slf4j;
 
-import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 
+/**
+ * Adds the pincodes users subscribed to that are missing from the metadata. Pincodes are first
+ * resolved from the vaccine centers of the district payloads already fetched, and only the rest
+ * through the CalendarByPin Lambda, in parallel and rate limited. District lookups by name are
+ * cached for the run and all resolved pincodes are saved in one batch at the end.
+ */
 @Slf4j
 @Service
 public class PincodeReconciliation {
     private final MetadataStore metadataStore;
     private final CowinLambdaWrapper cowinLambdaWrapper;
+    private final VaccinePersistence vaccinePersistence;
     private final ReconciliationStats reconciliationStats;
+    private final ReconciliationConfig config;
     private final UserRequestManager userRequestManager;
     private final BotService botService;
+    private final KafkaStateStores kafkaStateStores;
+    private final AtomicBoolean running = new AtomicBoolean(false);
 
-    public PincodeReconciliation(MetadataStore metadataStore,
-                                 CowinLambdaWrapper cowinLambdaWrapper, ReconciliationStats reconciliationStats, UserRequestManager userRequestManager,
-                                 BotService botService) {
+    public PincodeReconciliation(MetadataStore metadataStore, CowinLambdaWrapper cowinLambdaWrapper,
+                                 VaccinePersistence vaccinePersistence, ReconciliationStats reconciliationStats,
+                                 ReconciliationConfig config, UserRequestManager userRequestManager,
+                                 BotService botService, KafkaStateStores kafkaStateStores) {
         this.metadataStore = metadataStore;
         this.cowinLambdaWrapper = cowinLambdaWrapper;
+        this.vaccinePersistence = vaccinePersistence;
         this.reconciliationStats = reconciliationStats;
+        this.config = config;
         this.userRequestManager = userRequestManager;
         this.botService = botService;
+        this.kafkaStateStores = kafkaStateStores;
     }
 
     @Scheduled(cron = "${jobs.cron.pincode.reconciliation:-}", zone = "IST")
     public void pincodesReconciliationJob() {
+        if (!kafkaStateStores.isLeader()) {
+            log.debug("Skipping pincode reconciliation on non-leader instance");
+            return;
+        }
         this.reconcilePincodesFromLambda(userRequestManager.fetchAllUserRequests());
     }
 
     public void reconcilePincodesFromLambda(List<UserRequest> userRequests) {
-        log.info("Starting reconciliation of missing pincodes from AWS Lambda");
+        if (!running.compareAndSet(false, true)) {
+            log.info("Pincode reconciliation already running, skipping");
+            return;
+        }
+        try {
+            reconcile(userRequests);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private void reconcile(List<UserRequest> userRequests) {
+        log.info("Starting reconciliation of missing pincodes");
         reconciliationStats.reset();
         reconciliationStats.noteStartTime();
 
-        userRequests.stream()
+        final Set<String> unknownPincodes = userRequests.stream()
                 .flatMap(userRequest -> userRequest.getPincodes().stream())
-                .distinct()
-                .peek(pincode -> log.debug("reconciliating pincode {}", pincode))
                 .filter(missingPincodesInStore())
-                .peek(pincode -> reconciliationStats.incrementUnknownPincodes())
-                .flatMap(cowinLambdaWrapper::fetchSessionsByPincode)
-                .flatMap(Optional::stream)
-                .peek(logFailedReconciliations())
-                .filter(centersWithData())
-                .map(this::fetchDistrictsFromStore)
-                .filter(Objects::nonNull)
-                .forEach(persistPincode());
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        unknownPincodes.forEach(pincode -> reconciliationStats.incrementUnknownPincodes());
+
+        final DistrictCache districts = new DistrictCache();
+        final Map<String, District> resolved = new ConcurrentHashMap<>();
+        final Set<String> pending = resolveFromDistrictPayloads(unknownPincodes, districts, resolved);
+        resolveFromLambda(pending, districts, resolved);
+
+        metadataStore.persistPincodes(resolved.entrySet().stream()
+                .map(entry -> Pincode.builder().pincode(entry.getKey()).district(entry.getValue()).build())
+                .collect(Collectors.toList()));
+        resolved.keySet().forEach(pincode -> reconciliationStats.incrementSuccessfulReconciliations());
 
         reconciliationStats.noteEndTime();
-        log.info("[PINCODE RECONCILIATION] Unknown: {}, Failed: {}, Missing district: {}, Successful: {}, Time taken: {}",
-                reconciliationStats.unknownPincodes(), reconciliationStats.failedReconciliations(),
+        log.info("[PINCODE RECONCILIATION] Unknown: {}, From districts: {}, Failed: {}, Missing district: {}, Successful: {}, Time taken: {}",
+                reconciliationStats.unknownPincodes(), reconciliationStats.resolvedFromDistricts(), reconciliationStats.failedReconciliations(),
                 reconciliationStats.failedWithUnknownDistrict(), reconciliationStats.successfulReconciliations(), reconciliationStats.timeTaken());
-        botService.notifyOwner(String.format("[PINCODE RECONCILIATION] Unknown: %d, Failed: %d, Missing district: %d, Successful: %d, Time taken: %s",
-                reconciliationStats.unknownPincodes(), reconciliationStats.failedReconciliations(),
+        botService.notifyOwner(String.format("[PINCODE RECONCILIATION] Unknown: %d, From districts: %d, Failed: %d, Missing district: %d, Successful: %d, Time taken: %s",
+                reconciliationStats.unknownPincodes(), reconciliationStats.resolvedFromDistricts(), reconciliationStats.failedReconciliations(),
                 reconciliationStats.failedWithUnknownDistrict(), reconciliationStats.successfulReconciliations(), reconciliationStats.timeTaken()));
     }
 
-    @NotNull
-    private Predicate<String> missingPincodesInStore() {
-        return pincode -> !metadataStore.pincodeExists(pincode);
+    /*
+     * Centers fetched by district carry the district and state names of their pincode.
+     * Returns the pincodes that could not be resolved this way.
+     */
+    private Set<String> resolveFromDistrictPayloads(Set<String> unknownPincodes, DistrictCache districts, Map<String, District> resolved) {
+        final Set<String> pending = new LinkedHashSet<>(unknownPincodes);
+        if (unknownPincodes.isEmpty()) {
+            return pending;
+        }
+        vaccinePersistence.findCenterLocationsByPincodes(unknownPincodes).forEach(location -> {
+            if (!pending.remove(location.getPincode())) {
+                return; // more than one center in the pincode
+            }
+            final Optional<District> district = districts.find(location.getDistrictName(), location.getStateName());
+            if (district.isPresent()) {
+                resolved.put(location.getPincode(), district.get());
+                reconciliationStats.incrementResolvedFromDistricts();
+            } else {
+                // the Lambda would report the same district name
+                reconciliationStats.incrementFailedWithUnknownDistrict();
+            }
+        });
+        return pending;
     }
 
-    @NotNull
-    private Consumer<ImmutablePair<String, District>> persistPincode() {
-        return pair -> {
-            this.metadataStore.persistPincode(Pincode.builder()
-                    .pincode(pair.getLeft())
-                    .district(pair.getRight())
-                    .build());
-            log.info("Reconciliation successful for pincode {}", pair.getLeft());
-            reconciliationStats.incrementSuccessfulReconciliations();
-        };
+    private void resolveFromLambda(Set<String> pincodes, DistrictCache districts, Map<String, District> resolved) {
+        if (pincodes.isEmpty()) {
+            return;
+        }
+        final RateLimiter rateLimiter = RateLimiter.create(config.getLambdaCallsPerSecond());
+        final ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, config.getConcurrency()),
+                new ThreadFactoryBuilder().setNameFormat("reconciliation-%d").build());
+        try {
+            CompletableFuture.allOf(pincodes.stream()
+                    .map(pincode -> CompletableFuture.runAsync(() -> {
+                        rateLimiter.acquire();
+                        resolveFromLambda(pincode, districts, resolved);
+                    }, executor))
+                    .toArray(CompletableFuture[]::new))
+                    .join();
+        } finally {
+            executor.shutdown();
+        }
     }
 
-    @Nullable
-    private ImmutablePair<String, District> fetchDistrictsFromStore(VaccineCenters vaccineCenters) {
-        String districtName = vaccineCenters.getCenters().get(0).getDistrictName();
-        String stateName = vaccineCenters.getCenters().get(0).getStateName();
-        String pincode = String.valueOf(vaccineCenters.getCenters().get(0).getPincode());
-        District district = metadataStore.fetchDistrictByNameAndState(districtName, stateName);
-        if (isNull(district)) {
-            log.warn("No district found in DB for name {}", districtName);
-            reconciliationStats.incrementFailedWithUnknownDistrict();
-            return null;
+    private void resolveFromLambda(String pincode, DistrictCache districts, Map<String, District> resolved) {
+        log.debug("reconciliating pincode {}", pincode);
+        final Optional<Center> center;
+        try {
+            center = cowinLambdaWrapper.fetchSessionsByPincode(pincode)
+                    .flatMap(Optional::stream)
+                    .filter(centersWithData())
+                    .map(vaccineCenters -> vaccineCenters.getCenters().get(0))
+                    .findFirst();
+        } catch (RuntimeException e) {
+            log.warn("Error fetching sessions for pincode {}: {}", pincode, e.getMessage());
+            reconciliationStats.incrementFailedReconciliations();
+            return;
+        }
+        if (center.isEmpty()) {
+            reconciliationStats.incrementFailedReconciliations();
+            return;
         }
-        return new ImmutablePair<>(pincode, district);
+        districts.find(center.get().getDistrictName(), center.get().getStateName())
+                .ifPresentOrElse(district -> {
+                    resolved.put(pincode, district);
+                    log.info("Reconciliation successful for pincode {}", pincode);
+                }, reconciliationStats::incrementFailedWithUnknownDistrict);
     }
 
     @NotNull
-    private Predicate<VaccineCenters> centersWithData() {
-        return vaccineCenters -> nonNull(vaccineCenters) && !vaccineCenters.getCenters().isEmpty();
+    private Predicate<String> missingPincodesInStore() {
+        return pincode -> !metadataStore.pincodeExists(pincode);
     }
 
     @NotNull
-    private Consumer<VaccineCenters> logFailedReconciliations() {
-        return vaccineCenters -> {
-            if (isNull(vaccineCenters) || vaccineCenters.getCenters().isEmpty()) {
-                reconciliationStats.incrementFailedReconciliations();
-            }
-        };
+    private Predicate<VaccineCenters> centersWithData() {
+        return vaccineCenters -> nonNull(vaccineCenters) && !vaccineCenters.getCenters().isEmpty();
     }
 
+    /*
+     * Districts looked up by state and district name during one run, unknown ones included.
+     */
+    private class DistrictCache {
+        private final Map<String, Optional<District>> districts = new ConcurrentHashMap<>();
+
+        Optional<District> find(String districtName, String stateName) {
+            return districts.computeIfAbsent(stateName + "/" + districtName, key -> {
+                final Optional<District> district = Optional.ofNullable(metadataStore.fetchDistrictByNameAndState(districtName, stateName));
+                if (district.isEmpty()) {
+                    log.warn("No district found in DB for name {}", districtName);
+                }
+                return district;
+            });
+        }
+    }
 }
@@ -0,0 +1,18 @@
+package org.covid19.vaccinetracker.userrequests.reconciliation;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+/**
+ * Settings for the Lambda fallback of {@link PincodeReconciliation}: how many pincodes are looked
+ * up at the same time, and how many lookups are started per second at most.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "reconciliation")
+public class ReconciliationConfig {
+    private int concurrency = 8;
+    private double lambdaCallsPerSecond = 5;
+}
@@ -1,41 +1,64 @@
 package org.covid19.vaccinetracker.userrequests.reconciliation;
 
+import org.covid19.vaccinetracker.utils.WindowedCounter;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
 import java.time.Instant;
-import java.util.concurrent.atomic.AtomicInteger;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import static java.util.Objects.nonNull;
 
 @Component
 public class ReconciliationStats {
-    private final AtomicInteger unknownPincodes = new AtomicInteger(0);
-    private final AtomicInteger failedReconciliations = new AtomicInteger(0);
-    private final AtomicInteger failedWithUnknownDistrict = new AtomicInteger(0);
-    private final AtomicInteger successfulReconciliations = new AtomicInteger(0);
-    private Instant startTime;
-    private Instant endTime;
+    private final WindowedCounter unknownPincodes;
+    private final WindowedCounter failedReconciliations;
+    private final WindowedCounter failedWithUnknownDistrict;
+    private final WindowedCounter successfulReconciliations;
+    private final WindowedCounter resolvedFromDistricts;
+    private final Timer runTimer;
+    private volatile Instant startTime;
+    private volatile Instant endTime;
+
+    public ReconciliationStats(MeterRegistry registry) {
+        this.unknownPincodes = new WindowedCounter(registry, "reconciliation.pincodes.unknown", "Pincodes missing from metadata");
+        this.failedReconciliations = new WindowedCounter(registry, "reconciliation.failed", "Pincodes that could not be reconciled");
+        this.failedWithUnknownDistrict = new WindowedCounter(registry, "reconciliation.failed.unknown.district", "Pincodes resolved to an unknown district");
+        this.successfulReconciliations = new WindowedCounter(registry, "reconciliation.successful", "Pincodes reconciled");
+        this.resolvedFromDistricts = new WindowedCounter(registry, "reconciliation.resolved.districts", "Pincodes resolved from fetched district payloads");
+        this.runTimer = Timer.builder("reconciliation.run")
+                .description("Time to reconcile all unknown pincodes")
+                .register(registry);
+    }
 
     public void reset() {
-        unknownPincodes.set(0);
-        failedReconciliations.set(0);
-        failedWithUnknownDistrict.set(0);
-        successfulReconciliations.set(0);
+        unknownPincodes.reset();
+        failedReconciliations.reset();
+        failedWithUnknownDistrict.reset();
+        successfulReconciliations.reset();
+        resolvedFromDistricts.reset();
     }
 
     public void incrementUnknownPincodes() {
-        unknownPincodes.incrementAndGet();
+        unknownPincodes.increment();
     }
 
     public void incrementFailedReconciliations() {
-        failedReconciliations.incrementAndGet();
+        failedReconciliations.increment();
     }
 
     public void incrementSuccessfulReconciliations() {
-        successfulReconciliations.incrementAndGet();
+        successfulReconciliations.increment();
     }
 
     public void incrementFailedWithUnknownDistrict() {
-        failedWithUnknownDistrict.incrementAndGet();
+        failedWithUnknownDistrict.increment();
+    }
+
+    public void incrementResolvedFromDistricts() {
+        resolvedFromDistricts.increment();
     }
 
     public void noteStartTime() {
@@ -44,22 +67,29 @@ public class ReconciliationStats {
 
     public void noteEndTime() {
         endTime = Instant.now();
+        if (nonNull(startTime)) {
+            runTimer.record(Duration.between(startTime, endTime));
+        }
     }
 
     public int unknownPincodes() {
-        return unknownPincodes.get();
+        return unknownPincodes.sinceReset();
     }
 
     public int failedReconciliations() {
-        return failedReconciliations.get();
+        return failedReconciliations.sinceReset();
     }
 
     public int failedWithUnknownDistrict() {
-        return failedWithUnknownDistrict.get();
+        return failedWithUnknownDistrict.sinceReset();
     }
 
     public int successfulReconciliations() {
-        return successfulReconciliations.get();
+        return successfulReconciliations.sinceReset();
+    }
+
+    public int resolvedFromDistricts() {
+        return resolvedFromDistricts.sinceReset();
     }
 
     public String timeTaken() {
@@ -0,0 +1,30 @@
+package org.covid19.vaccinetracker.utils;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Micrometer counter that also reports the count since it was last reset, for the periodic summaries
+ * sent to the bot owner. The underlying counter is never reset, so increments from async callbacks
+ * that race with a reset are not lost.
+ */
+public class WindowedCounter {
+    private final Counter counter;
+    private volatile double baseline;
+
+    public WindowedCounter(MeterRegistry registry, String name, String description) {
+        this.counter = Counter.builder(name).description(description).register(registry);
+    }
+
+    public void increment() {
+        counter.increment();
+    }
+
+    public void reset() {
+        baseline = counter.count();
+    }
+
+    public int sinceReset() {
+        return (int) (counter.count() - baseline);
+    }
+}
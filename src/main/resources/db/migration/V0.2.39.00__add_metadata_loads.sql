@@ -0,0 +1,21 @@
+SET
+SQL_MODE = "NO_AUTO_VALUE_ON_ZERO";
+START TRANSACTION;
+SET
+time_zone = "+00:00";
+
+--
+-- Table structure for table `metadata_loads`
+--
+
+CREATE TABLE `metadata_loads`
+(
+    `checksum`  varchar(64) COLLATE utf8mb4_unicode_ci NOT NULL,
+    `states`    int(11)                                NOT NULL,
+    `districts` int(11)                                NOT NULL,
+    `pincodes`  int(11)                                NOT NULL,
+    `loaded_at` timestamp                              NOT NULL,
+    PRIMARY KEY (`checksum`)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_unicode_ci;
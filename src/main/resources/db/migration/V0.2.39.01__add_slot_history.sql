@@ -0,0 +1,48 @@
+SET
+SQL_MODE = "NO_AUTO_VALUE_ON_ZERO";
+START TRANSACTION;
+SET
+time_zone = "+00:00";
+
+--
+-- Table structure for table `slot_history`
+--
+-- Append-only, one row per observed change in the capacity of a session. Rows are bucketed by the
+-- day of the session, so lookups by pincode and the retention cleanup are both range scans.
+--
+
+CREATE TABLE `slot_history`
+(
+    `id`          bigint(20) UNSIGNED                    NOT NULL AUTO_INCREMENT,
+    `day`         date                                   NOT NULL,
+    `pincode`     mediumint(8) UNSIGNED                  NOT NULL,
+    `center_id`   int(11) UNSIGNED                       NOT NULL,
+    `vaccine`     varchar(16) COLLATE utf8mb4_unicode_ci NOT NULL,
+    `min_age`     tinyint(3) UNSIGNED                    NOT NULL,
+    `dose1`       smallint(5) UNSIGNED                   NOT NULL,
+    `dose2`       smallint(5) UNSIGNED                   NOT NULL,
+    `observed_at` timestamp                              NOT NULL,
+    PRIMARY KEY (`id`),
+    KEY `idx_slot_history_pincode_day` (`pincode`, `day`),
+    KEY `idx_slot_history_day` (`day`)
+) ENGINE = InnoDB
+  ROW_FORMAT = COMPRESSED
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_unicode_ci;
+
+--
+-- Table structure for table `slot_history_centers`
+--
+-- Names of the centers in `slot_history`, which outlive the rows of `vaccine_centers`.
+--
+
+CREATE TABLE `slot_history_centers`
+(
+    `id`            int(11) UNSIGNED                        NOT NULL,
+    `name`          varchar(255) COLLATE utf8mb4_unicode_ci NOT NULL,
+    `district_name` varchar(255) COLLATE utf8mb4_unicode_ci,
+    `pincode`       mediumint(8) UNSIGNED                   NOT NULL,
+    PRIMARY KEY (`id`)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+  COLLATE = utf8mb4_unicode_ci;
@@ -0,0 +1,41 @@
+SET
+    SQL_MODE = "NO_AUTO_VALUE_ON_ZERO";
+START TRANSACTION;
+SET
+    time_zone = "+00:00";
+
+--
+-- Typed session date and a direct reference to the center, replacing the join table
+--
+
+ALTER TABLE `sessions`
+    ADD COLUMN IF NOT EXISTS `center_id` bigint(20) DEFAULT NULL AFTER `id`,
+    ADD COLUMN IF NOT EXISTS `session_date` DATE DEFAULT NULL AFTER `date`,
+    MODIFY `vaccine` varchar(32) COLLATE utf8mb4_unicode_ci DEFAULT NULL;
+
+UPDATE `sessions`
+SET `session_date` = STR_TO_DATE(`date`, '%d-%m-%Y');
+
+UPDATE `sessions` s
+    JOIN `vaccine_centers_sessions` vcs ON vcs.`sessions_id` = s.`id`
+SET s.`center_id` = vcs.`center_entity_id`;
+
+-- sessions that never belonged to a center cannot be found by any query
+DELETE
+FROM `sessions`
+WHERE `center_id` IS NULL;
+
+DROP TABLE `vaccine_centers_sessions`;
+
+--
+-- Indexes matching the lookups of SessionRepository and CenterRepository. There is no foreign key
+-- from `center_id` to `vaccine_centers`: sessions are partitioned by date next, and partitioned
+-- tables cannot have foreign keys. Sessions are only written through their center.
+--
+
+ALTER TABLE `sessions`
+    ADD KEY `idx_sessions_center_date_age_vaccine` (`center_id`, `session_date`, `min_age_limit`, `vaccine`),
+    ADD KEY `idx_sessions_session_date` (`session_date`);
+
+ALTER TABLE `vaccine_centers`
+    ADD KEY `idx_vaccine_centers_pincode` (`pincode`);
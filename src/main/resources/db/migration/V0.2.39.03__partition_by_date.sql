@@ -0,0 +1,37 @@
+SET
+    SQL_MODE = "NO_AUTO_VALUE_ON_ZERO";
+START TRANSACTION;
+SET
+    time_zone = "+00:00";
+
+--
+-- Partition sessions and slot history by day, so that old days are dropped instead of deleted.
+-- Partitioned tables cannot have foreign keys and every unique key must include the partitioning
+-- column, so ids are kept unique by the application rather than the primary key (see SessionEntity).
+-- Daily partitions are split off p_future by the application.
+--
+
+DELETE
+FROM `sessions`
+WHERE `session_date` IS NULL;
+
+ALTER TABLE `sessions`
+    MODIFY `session_date` DATE NOT NULL,
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (`id`, `session_date`);
+
+ALTER TABLE `sessions`
+    PARTITION BY RANGE COLUMNS (`session_date`) (
+        PARTITION `p_old` VALUES LESS THAN ('2021-07-01'),
+        PARTITION `p_future` VALUES LESS THAN (MAXVALUE)
+        );
+
+ALTER TABLE `slot_history`
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (`id`, `day`);
+
+ALTER TABLE `slot_history`
+    PARTITION BY RANGE COLUMNS (`day`) (
+        PARTITION `p_old` VALUES LESS THAN ('2021-07-01'),
+        PARTITION `p_future` VALUES LESS THAN (MAXVALUE)
+        );
@@ -0,0 +1,37 @@
+SET
+    SQL_MODE = "NO_AUTO_VALUE_ON_ZERO";
+START TRANSACTION;
+SET
+    time_zone = "+00:00";
+
+--
+-- Seed `slot_history` with the openings still held in `sessions`, so that absent alerts have
+-- history to look back on right after the upgrade instead of only once it has built up. Days of
+-- a center already recorded by the application are left alone.
+--
+
+INSERT IGNORE INTO `slot_history_centers` (`id`, `name`, `district_name`, `pincode`)
+SELECT vc.`id`, COALESCE(vc.`name`, ''), vc.`district_name`, CAST(vc.`pincode` AS UNSIGNED)
+FROM `vaccine_centers` vc
+WHERE vc.`pincode` REGEXP '^[1-9][0-9]{5}$'
+  AND EXISTS(SELECT 1 FROM `sessions` s WHERE s.`center_id` = vc.`id`);
+
+INSERT INTO `slot_history` (`day`, `pincode`, `center_id`, `vaccine`, `min_age`, `dose1`, `dose2`, `observed_at`)
+SELECT s.`session_date`,
+       CAST(vc.`pincode` AS UNSIGNED),
+       vc.`id`,
+       COALESCE(LEFT(s.`vaccine`, 16), ''),
+       LEAST(GREATEST(COALESCE(s.`min_age_limit`, 18), 0), 255),
+       -- sessions from before capacity was split by dose count as dose 1
+       LEAST(GREATEST(COALESCE(s.`available_capacity_dose1`, s.`available_capacity`, 0), 0), 65535),
+       LEAST(GREATEST(COALESCE(s.`available_capacity_dose2`, 0), 0), 65535),
+       COALESCE(s.`processed_at`, NOW())
+FROM `sessions` s
+         JOIN `vaccine_centers` vc ON vc.`id` = s.`center_id`
+WHERE vc.`pincode` REGEXP '^[1-9][0-9]{5}$'
+  AND s.`session_date` >= CURDATE() - INTERVAL 90 DAY
+  AND (COALESCE(s.`available_capacity_dose1`, s.`available_capacity`, 0) > 0 OR COALESCE(s.`available_capacity_dose2`, 0) > 0)
+  AND NOT EXISTS(SELECT 1
+                 FROM `slot_history` h
+                 WHERE h.`center_id` = vc.`id`
+                   AND h.`day` = s.`session_date`);
@@ -0,0 +1,22 @@
+package org.covid19.vaccinetracker.availability;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class AvailabilityStatsTest {
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AvailabilityStats stats = new AvailabilityStats(registry);
+
+    @Test
+    public void testEndWithoutStartIsNotRecorded() {
+        stats.noteEndTime();
+        assertEquals(0, registry.timer("availability.cycle").count());
+
+        stats.noteStartTime();
+        stats.noteEndTime();
+        assertEquals(1, registry.timer("availability.cycle").count());
+    }
+}
@@ -3,6 +3,7 @@ package org.covid19.vaccinetracker.availability;
 import org.covid19.vaccinetracker.availability.aws.CowinLambdaWrapper;
 import org.covid19.vaccinetracker.notifications.bot.BotService;
 import org.covid19.vaccinetracker.persistence.VaccinePersistence;
+import org.covid19.vaccinetracker.persistence.kafka.KafkaStateStores;
 import org.covid19.vaccinetracker.userrequests.UserRequestManager;
 import org.covid19.vaccinetracker.userrequests.model.District;
 import org.covid19.vaccinetracker.userrequests.model.State;
@@ -11,6 +12,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 import static java.util.Collections.singleton;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
@@ -34,6 +37,9 @@ public class VaccineAvailabilityTest {
 
     @Mock
     private AvailabilityConfig config;
+
+    @Mock
+    private KafkaStateStores kafkaStateStores;
     // TODO: Add IT
 
     @Test
@@ -41,9 +47,9 @@ public class VaccineAvailabilityTest {
         District aDistrict = new District(1, "Shahdara", new State(1, "Delhi"));
         when(userRequestManager.fetchAllUserDistricts()).thenReturn(singleton(aDistrict));
 
-        AvailabilityStats availabilityStats = new AvailabilityStats();
+        AvailabilityStats availabilityStats = new AvailabilityStats(new SimpleMeterRegistry());
         VaccineAvailability vaccineAvailability = new VaccineAvailability(vaccinePersistence,
-                userRequestManager, availabilityStats, botService, cowinLambdaWrapper, config);
+                userRequestManager, availabilityStats, botService, cowinLambdaWrapper, config, kafkaStateStores);
         vaccineAvailability.refreshVaccineAvailabilityFromCowinViaLambdaAsync();
 
         verify(cowinLambdaWrapper, times(1)).processDistrict(1);
@@ -57,9 +63,9 @@ public class VaccineAvailabilityTest {
         District aDistrict = new District(1, "Shahdara", new State(1, "Delhi"));
         when(userRequestManager.fetchAllUserDistricts()).thenReturn(singleton(aDistrict));
 
-        AvailabilityStats availabilityStats = new AvailabilityStats();
+        AvailabilityStats availabilityStats = new AvailabilityStats(new SimpleMeterRegistry());
         VaccineAvailability vaccineAvailability = new VaccineAvailability(vaccinePersistence,
-                userRequestManager, availabilityStats, botService, cowinLambdaWrapper, config);
+                userRequestManager, availabilityStats, botService, cowinLambdaWrapper, config, kafkaStateStores);
         vaccineAvailability.refreshVaccineAvailabilityFromCowinViaLambdaAsync();
 
         verify(cowinLambdaWrapper, times(1)).processDistrict(1);
@@ -4,23 +4,38 @@ import com.amazonaws.services.lambda.AWSLambda;
 import com.amazonaws.services.lambda.AWSLambdaAsync;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.covid19.vaccinetracker.availability.AvailabilityConfig;
+import org.covid19.vaccinetracker.availability.AvailabilityStats;
+import org.covid19.vaccinetracker.model.AlertTrace;
 import org.covid19.vaccinetracker.model.Center;
 import org.covid19.vaccinetracker.model.Session;
+import org.covid19.vaccinetracker.model.SessionDelta;
+import org.covid19.vaccinetracker.model.SessionDeltas;
 import org.covid19.vaccinetracker.model.VaccineCenters;
+import org.covid19.vaccinetracker.persistence.SlotHistory;
 import org.covid19.vaccinetracker.persistence.VaccinePersistence;
+import org.covid19.vaccinetracker.persistence.kafka.PincodeInterestIndex;
 import org.covid19.vaccinetracker.persistence.mariadb.entity.SessionEntity;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.concurrent.SettableListenableFuture;
 
 import java.util.Optional;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 import static java.util.Collections.singletonList;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 @ExtendWith(MockitoExtension.class)
@@ -36,12 +51,18 @@ public class CowinLambdaWrapperTest {
     @Mock
     private VaccinePersistence vaccinePersistence;
     @Mock
-    private KafkaTemplate<String, String> kafkaTemplate;
+    private KafkaTemplate<String, SessionDeltas> kafkaTemplate;
+    @Mock
+    private PincodeInterestIndex pincodeInterestIndex;
+    @Mock
+    private SlotHistory slotHistory;
+
+    private final AvailabilityStats availabilityStats = new AvailabilityStats(new SimpleMeterRegistry());
 
     @Test
     public void testFreshAvailabilityWithFreshSlots() {
         CowinLambdaWrapper lambdaWrapper = new CowinLambdaWrapper(awsConfig, awsLambda, awsLambdaAsync,
-                objectMapper, vaccinePersistence, kafkaTemplate);
+                objectMapper, vaccinePersistence, kafkaTemplate, pincodeInterestIndex, availabilityStats, slotHistory, new AvailabilityConfig());
         Mockito.when(vaccinePersistence.findExistingSession(1205L, "22-05-2021", 18, "COVAXIN"))
                 .thenReturn(Optional.of(SessionEntity.builder()
                         .id("32bbb37e-7cb4-4942-bd92-ac56d86490f9")
@@ -60,7 +81,7 @@ public class CowinLambdaWrapperTest {
     @Test
     public void testFreshAvailabilityNoFreshSlots() {
         CowinLambdaWrapper lambdaWrapper = new CowinLambdaWrapper(awsConfig, awsLambda, awsLambdaAsync,
-                objectMapper, vaccinePersistence, kafkaTemplate);
+                objectMapper, vaccinePersistence, kafkaTemplate, pincodeInterestIndex, availabilityStats, slotHistory, new AvailabilityConfig());
         Mockito.when(vaccinePersistence.findExistingSession(1205L, "22-05-2021", 18, "COVAXIN"))
                 .thenReturn(Optional.of(SessionEntity.builder()
                         .id("32bbb37e-7cb4-4942-bd92-ac56d86490f9")
@@ -82,7 +103,7 @@ public class CowinLambdaWrapperTest {
     @Test
     public void testFreshAvailabilityWithCancellations() {
         CowinLambdaWrapper lambdaWrapper = new CowinLambdaWrapper(awsConfig, awsLambda, awsLambdaAsync,
-                objectMapper, vaccinePersistence, kafkaTemplate);
+                objectMapper, vaccinePersistence, kafkaTemplate, pincodeInterestIndex, availabilityStats, slotHistory, new AvailabilityConfig());
         Mockito.when(vaccinePersistence.findExistingSession(1205L, "22-05-2021", 18, "COVAXIN"))
                 .thenReturn(Optional.of(SessionEntity.builder()
                         .id("32bbb37e-7cb4-4942-bd92-ac56d86490f9")
@@ -98,6 +119,76 @@ public class CowinLambdaWrapperTest {
         assertThat(actual.getCenters().get(0).getSessions().get(0).isShouldNotify(), is(false));
     }
 
+    @Test
+    public void testFreshAvailabilityRecordsSessionDelta() {
+        CowinLambdaWrapper lambdaWrapper = new CowinLambdaWrapper(awsConfig, awsLambda, awsLambdaAsync,
+                objectMapper, vaccinePersistence, kafkaTemplate, pincodeInterestIndex, availabilityStats, slotHistory, new AvailabilityConfig());
+        Mockito.when(vaccinePersistence.findExistingSession(1205L, "22-05-2021", 18, "COVAXIN"))
+                .thenReturn(Optional.of(SessionEntity.builder()
+                        .id("32bbb37e-7cb4-4942-bd92-ac56d86490f9")
+                        .vaccine("COVAXIN")
+                        .availableCapacity(10)
+                        .availableCapacityDose1(10)
+                        .availableCapacityDose2(0)
+                        .minAgeLimit(18)
+                        .build()));
+        final VaccineCenters actual = lambdaWrapper.freshAvailability(buildVaccineCenters());
+        final SessionDelta delta = actual.getCenters().get(0).getSessions().get(0).getDelta();
+        assertThat(delta.getCenterId(), is(1205));
+        assertThat(delta.getSessionId(), is("32bbb37e-7cb4-4942-bd92-ac56d86490f9"));
+        assertThat(delta.getOldCapacityDose1(), is(10));
+        assertThat(delta.getNewCapacityDose1(), is(15));
+        assertThat(delta.isFresh(), is(true));
+    }
+
+    @Test
+    public void testFreshAvailabilityUnchangedSessionHasNoDelta() {
+        CowinLambdaWrapper lambdaWrapper = new CowinLambdaWrapper(awsConfig, awsLambda, awsLambdaAsync,
+                objectMapper, vaccinePersistence, kafkaTemplate, pincodeInterestIndex, availabilityStats, slotHistory, new AvailabilityConfig());
+        Mockito.when(vaccinePersistence.findExistingSession(1205L, "22-05-2021", 18, "COVAXIN"))
+                .thenReturn(Optional.of(SessionEntity.builder()
+                        .id("32bbb37e-7cb4-4942-bd92-ac56d86490f9")
+                        .vaccine("COVAXIN")
+                        .availableCapacity(15)
+                        .availableCapacityDose1(15)
+                        .availableCapacityDose2(0)
+                        .minAgeLimit(18)
+                        .build()));
+        final VaccineCenters actual = lambdaWrapper.freshAvailability(buildVaccineCenters());
+        assertThat(actual.getCenters().get(0).getSessions().get(0).getDelta(), is(nullValue()));
+
+        lambdaWrapper.sendUpdatedPincodesToKafka(actual, AlertTrace.fetched(141));
+        Mockito.verifyNoInteractions(kafkaTemplate);
+    }
+
+    @Test
+    public void testSendUpdatedPincodesOnlyForInterestedPincodes() {
+        CowinLambdaWrapper lambdaWrapper = new CowinLambdaWrapper(awsConfig, awsLambda, awsLambdaAsync,
+                objectMapper, vaccinePersistence, kafkaTemplate, pincodeInterestIndex, availabilityStats, slotHistory, new AvailabilityConfig());
+        ReflectionTestUtils.setField(lambdaWrapper, "updatedPincodesTopic", "updated-pincodes");
+        final VaccineCenters vaccineCenters = buildVaccineCenters();
+        final Session session = vaccineCenters.getCenters().get(0).getSessions().get(0);
+        session.setMinAgeLimit(45);
+        session.setDelta(SessionDelta.builder().sessionId(session.getSessionId()).fresh(true).build());
+
+        Mockito.when(pincodeInterestIndex.isInteresting("110056", session)).thenReturn(false);
+        lambdaWrapper.sendUpdatedPincodesToKafka(vaccineCenters, AlertTrace.fetched(141));
+        Mockito.verifyNoInteractions(kafkaTemplate);
+
+        Mockito.when(pincodeInterestIndex.isInteresting("110056", session)).thenReturn(true);
+        Mockito.when(kafkaTemplate.send(ArgumentMatchers.<ProducerRecord<String, SessionDeltas>>any())).thenReturn(new SettableListenableFuture<>());
+        lambdaWrapper.sendUpdatedPincodesToKafka(vaccineCenters, AlertTrace.fetched(141));
+
+        final ArgumentCaptor<ProducerRecord<String, SessionDeltas>> record = ArgumentCaptor.forClass(ProducerRecord.class);
+        Mockito.verify(kafkaTemplate).send(record.capture());
+        assertThat(record.getValue().key(), is("110056"));
+        assertThat(record.getValue().value(), is(new SessionDeltas("110056", singletonList(session.getDelta()))));
+        // trace of the district fetch travels as headers
+        final AlertTrace trace = AlertTrace.fromHeaders(record.getValue().headers()).orElseThrow();
+        assertThat(trace.getDistrictId(), is(141));
+        assertThat(trace.getPublishedAt() >= trace.getFetchedAt(), is(true));
+    }
+
     @NotNull
     private VaccineCenters buildVaccineCenters() {
         final VaccineCenters vaccineCenters = new VaccineCenters();
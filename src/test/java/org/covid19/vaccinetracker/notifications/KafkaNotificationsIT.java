@@ -3,12 +3,18 @@ package org.covid19.vaccinetracker.notifications;
 import org.covid19.vaccinetracker.availability.UpdatedPincodesProducerConfig;
 import org.covid19.vaccinetracker.model.Center;
 import org.covid19.vaccinetracker.model.Session;
+import org.covid19.vaccinetracker.model.SessionDelta;
+import org.covid19.vaccinetracker.model.SessionDeltas;
 import org.covid19.vaccinetracker.model.VaccineCenters;
 import org.covid19.vaccinetracker.model.VaccineFee;
 import org.covid19.vaccinetracker.notifications.bot.BotService;
 import org.covid19.vaccinetracker.persistence.VaccinePersistence;
 import org.covid19.vaccinetracker.persistence.kafka.KafkaStateStores;
 import org.covid19.vaccinetracker.persistence.kafka.KafkaStreamsConfig;
+import org.covid19.vaccinetracker.persistence.kafka.RemoteStateStores;
+import org.covid19.vaccinetracker.persistence.kafka.StateRestoreProgress;
+import org.covid19.vaccinetracker.persistence.kafka.StreamsClusterConfig;
+import org.covid19.vaccinetracker.persistence.kafka.StreamsStateConfig;
 import org.covid19.vaccinetracker.userrequests.MetadataStore;
 import org.covid19.vaccinetracker.userrequests.UserRequestProducerConfig;
 import org.covid19.vaccinetracker.userrequests.model.UserRequest;
@@ -25,6 +31,7 @@ import org.springframework.test.annotation.DirtiesContext;
 
 import java.util.List;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 
 import static java.util.Collections.singletonList;
@@ -33,6 +40,7 @@ import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.awaitility.Awaitility.await;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -43,9 +51,14 @@ import static org.mockito.Mockito.when;
         UpdatedPincodesProducerConfig.class,
         KafkaProperties.class,
         KafkaStateStores.class,
+        StreamsClusterConfig.class,
+        StreamsStateConfig.class,
+        StateRestoreProgress.class,
+        RemoteStateStores.class,
         KafkaStreamsConfig.class,
         KafkaNotifications.class,
-        NotificationStats.class
+        NotificationStats.class,
+        SimpleMeterRegistry.class
 })
 @EmbeddedKafka(
         partitions = 1,
@@ -86,7 +99,7 @@ public class KafkaNotificationsIT {
     private KafkaStateStores stateStores;
 
     @Autowired
-    private KafkaTemplate<String, String> updatedPincodesKafkaTemplate;
+    private KafkaTemplate<String, SessionDeltas> updatedPincodesKafkaTemplate;
 
     @Autowired
     private KafkaTemplate<String, UserRequest> userRequestKafkaTemplate;
@@ -104,14 +117,14 @@ public class KafkaNotificationsIT {
 
         final VaccineCenters data = createCentersWithData();
         when(vaccinePersistence.fetchVaccineCentersByPincode("110022")).thenReturn(data);
-        when(vaccineCentersProcessor.eligibleVaccineCenters(any(), anyString())).thenReturn(data.getCenters());
+        when(vaccineCentersProcessor.eligibleCenters(any())).thenAnswer(invocation -> allSessionsEligible(invocation.getArgument(0)));
         when(cache.isNewNotification(anyString(), anyString(), any())).thenReturn(true);
 
-        updatedPincodesKafkaTemplate.send(updatedPincodesTopic, "110022", "110022");
+        updatedPincodesKafkaTemplate.send(updatedPincodesTopic, "110022", freshSessionDeltas("110022", "abcd"));
 
         await().atMost(2L, SECONDS).until(() -> stats.notificationsSent() >= 1);
 
-        verify(telegramLambdaWrapper, times(1)).sendTelegramNotification(anyString(), anyString());
+        verify(telegramLambdaWrapper, times(1)).sendTelegramNotification(anyString(), anyString(), any());
         verify(cache, times(1)).updateUser(anyString(), anyString(), any());
         verify(vaccinePersistence, times(1)).markProcessed(data);
     }
@@ -123,15 +136,49 @@ public class KafkaNotificationsIT {
 
         final VaccineCenters data = createCentersWithoutData();
         when(vaccinePersistence.fetchVaccineCentersByPincode("110023")).thenReturn(data);
+        when(vaccineCentersProcessor.eligibleCenters(any())).thenAnswer(invocation -> allSessionsEligible(invocation.getArgument(0)));
         when(cache.isNewNotification(anyString(), anyString(), any())).thenReturn(true);
 
-        updatedPincodesKafkaTemplate.send(updatedPincodesTopic, "110023", "110023");
+        updatedPincodesKafkaTemplate.send(updatedPincodesTopic, "110023", freshSessionDeltas("110023", "abcd"));
 
-        verify(telegramLambdaWrapper, times(0)).sendTelegramNotification(anyString(), anyString());
+        verify(telegramLambdaWrapper, times(0)).sendTelegramNotification(anyString(), anyString(), any());
         verify(cache, times(0)).updateUser(anyString(), anyString(), any());
         verify(vaccinePersistence, times(0)).markProcessed(data);
     }
 
+    @Test
+    public void testNotificationsStream_withManyUsers_markedProcessedOnce() {
+        userRequestKafkaTemplate.send(userRequestsTopic, "userC", new UserRequest("userC", List.of("110024"), null, null, null, null, null));
+        userRequestKafkaTemplate.send(userRequestsTopic, "userD", new UserRequest("userD", List.of("110024"), null, null, null, null, null));
+        await().atMost(2L, SECONDS).until(() -> nonNull(stateStores.usersByPincode("110024"))
+                && stateStores.usersByPincode("110024").getUsers().size() == 2);
+
+        final VaccineCenters data = createCentersWithData();
+        when(vaccinePersistence.fetchVaccineCentersByPincode("110024")).thenReturn(data);
+        when(vaccineCentersProcessor.eligibleCenters(any())).thenAnswer(invocation -> allSessionsEligible(invocation.getArgument(0)));
+        when(cache.isNewNotification(anyString(), anyString(), any())).thenReturn(true);
+
+        updatedPincodesKafkaTemplate.send(updatedPincodesTopic, "110024", freshSessionDeltas("110024", "abcd"));
+
+        verify(telegramLambdaWrapper, timeout(2000).times(2)).sendTelegramNotification(anyString(), anyString(), any());
+        // once for the pincode, after both users were evaluated
+        verify(vaccinePersistence, timeout(2000).times(1)).markProcessed(data);
+    }
+
+    private EligibleCenters allSessionsEligible(VaccineCenters vaccineCenters) {
+        return new EligibleCenters(vaccineCenters, (session, preference) -> true, center -> center);
+    }
+
+    private SessionDeltas freshSessionDeltas(String pincode, String sessionId) {
+        return new SessionDeltas(pincode, List.of(SessionDelta.builder()
+                .centerId(123)
+                .sessionId(sessionId)
+                .newCapacityDose1(5)
+                .newCapacityDose2(0)
+                .fresh(true)
+                .build()));
+    }
+
     private VaccineCenters createCentersWithData() {
         return new VaccineCenters(List.of(
                 Center.builder()
@@ -1,8 +1,5 @@
 package org.covid19.vaccinetracker.notifications;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-
-import org.apache.commons.codec.digest.DigestUtils;
 import org.covid19.vaccinetracker.model.Center;
 import org.covid19.vaccinetracker.model.Session;
 import org.covid19.vaccinetracker.persistence.mariadb.entity.UserNotification;
@@ -20,6 +17,10 @@ import java.time.ZonedDateTime;
 import java.util.List;
 
 import static org.covid19.vaccinetracker.utils.Utils.INDIA_TIMEZONE;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -29,16 +30,14 @@ public class NotificationCacheTest {
     private UserNotificationRepository repository;
 
     private NotificationCache cache;
-    private ObjectMapper objectMapper;
 
     @BeforeEach
     public void setup() {
-        objectMapper = new ObjectMapper();
-        this.cache = new NotificationCache(repository, objectMapper);
+        this.cache = new NotificationCache(repository);
     }
 
     @Test
-    public void testNewNotification() throws Exception {
+    public void testNewNotification() {
         List<Center> old = List.of(Center.builder().centerId(123).name("abc")
                 .sessions(List.of(Session.builder()
                         .availableCapacity(10)
@@ -50,7 +49,7 @@ public class NotificationCacheTest {
                         .userId("userA")
                         .pincode("110022")
                         .build())
-                .notificationHash(DigestUtils.sha256Hex(objectMapper.writeValueAsBytes(old)))
+                .notificationHash(cache.fingerprint(old))
                 .notifiedAt(ZonedDateTime.now().withZoneSameInstant(ZoneId.of("UTC")).minusMinutes(30).toLocalDateTime())
                 .build());
 
@@ -61,11 +60,11 @@ public class NotificationCacheTest {
                         .build()))
                 .build());
 
-        assertTrue(cache.isNewNotification("userA", "110022", updated));
+        assertTrue(cache.isNewNotification("userA", "110022", cache.fingerprint(updated)));
     }
 
     @Test
-    public void testOldNotification() throws Exception {
+    public void testOldNotification() {
         List<Center> old = List.of(Center.builder().centerId(123).pincode(110022).name("abc")
                 .sessions(List.of(Session.builder()
                         .availableCapacity(10)
@@ -77,21 +76,21 @@ public class NotificationCacheTest {
                         .userId("userA")
                         .pincode("110022")
                         .build())
-                .notificationHash(DigestUtils.sha256Hex(objectMapper.writeValueAsBytes(old)))
+                .notificationHash(cache.fingerprint(old))
                 .notifiedAt(ZonedDateTime.now().withZoneSameInstant(ZoneId.of("UTC")).minusMinutes(30).toLocalDateTime())
                 .build());
 
-        assertFalse(cache.isNewNotification("userA", "110022", old));
+        assertFalse(cache.isNewNotification("userA", "110022", cache.fingerprint(old)));
     }
 
     @Test
     public void testNewNotificationWhenFirstTime() {
-        assertTrue(cache.isNewNotification("userA", "110022", List.of()));
+        assertTrue(cache.isNewNotification("userA", "110022", cache.fingerprint(List.of())));
     }
 
     @Disabled
     @Test
-    public void testNotificationLastNotifiedAtWithin15Mins() throws Exception {
+    public void testNotificationLastNotifiedAtWithin15Mins() {
         List<Center> old = List.of(Center.builder().centerId(123).name("abc")
                 .sessions(List.of(Session.builder()
                         .availableCapacity(10)
@@ -103,7 +102,7 @@ public class NotificationCacheTest {
                         .userId("userA")
                         .pincode("110022")
                         .build())
-                .notificationHash(DigestUtils.sha256Hex(objectMapper.writeValueAsBytes(old)))
+                .notificationHash(cache.fingerprint(old))
                 .notifiedAt(ZonedDateTime.now().withZoneSameInstant(ZoneId.of("UTC")).minusMinutes(10).toLocalDateTime()) // last notified 10 mins ago
                 .build());
 
@@ -114,7 +113,45 @@ public class NotificationCacheTest {
                         .build()))
                 .build());
 
-        assertFalse(cache.isNewNotification("userA", "110022", updated));
+        assertFalse(cache.isNewNotification("userA", "110022", cache.fingerprint(updated)));
+    }
+
+    @Test
+    public void testFingerprintIgnoresNonSlotFields() {
+        List<Center> centers = List.of(Center.builder().centerId(123).pincode(110022).name("abc")
+                .sessions(List.of(Session.builder()
+                        .date("20-06-2021")
+                        .vaccine("COVISHIELD")
+                        .minAgeLimit(18)
+                        .availableCapacity(10)
+                        .availableCapacityDose1(10)
+                        .availableCapacityDose2(0)
+                        .build()))
+                .build());
+        List<Center> renamed = List.of(Center.builder().centerId(123).pincode(110022).name("xyz")
+                .sessions(List.of(Session.builder()
+                        .sessionId("session-id")
+                        .date("20-06-2021")
+                        .vaccine("COVISHIELD")
+                        .minAgeLimit(18)
+                        .availableCapacity(10)
+                        .availableCapacityDose1(10)
+                        .availableCapacityDose2(0)
+                        .build()))
+                .build());
+        List<Center> otherDate = List.of(Center.builder().centerId(123).pincode(110022).name("abc")
+                .sessions(List.of(Session.builder()
+                        .date("21-06-2021")
+                        .vaccine("COVISHIELD")
+                        .minAgeLimit(18)
+                        .availableCapacity(10)
+                        .availableCapacityDose1(10)
+                        .availableCapacityDose2(0)
+                        .build()))
+                .build());
+
+        assertThat(cache.fingerprint(centers), is(equalTo(cache.fingerprint(renamed))));
+        assertThat(cache.fingerprint(centers), is(not(equalTo(cache.fingerprint(otherDate)))));
     }
 
 }
@@ -0,0 +1,104 @@
+package org.covid19.vaccinetracker.notifications;
+
+import org.covid19.vaccinetracker.model.Center;
+import org.covid19.vaccinetracker.model.Session;
+import org.covid19.vaccinetracker.model.VaccineCenters;
+import org.covid19.vaccinetracker.userrequests.model.Age;
+import org.covid19.vaccinetracker.userrequests.model.Dose;
+import org.covid19.vaccinetracker.userrequests.model.UserPreference;
+import org.covid19.vaccinetracker.userrequests.model.Vaccine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Measures the per-user cost of finding the eligible centers of a pincode during notification
+ * fan-out: evaluating every user on their own, against evaluating once per preference and sharing
+ * the result. Reports the time and the bytes allocated per user.
+ * <p>
+ * Not part of the regular build, run with:
+ * <pre>
+ * mvn test -Dtest=VaccineCentersProcessorBenchmark -Dbenchmark.users=100000 -Dbenchmark.centers=50
+ * </pre>
+ */
+@Slf4j
+public class VaccineCentersProcessorBenchmark {
+    private static final int ROUNDS = 5;
+
+    private final int users = Integer.getInteger("benchmark.users", 20000);
+    private final int centers = Integer.getInteger("benchmark.centers", 30);
+    private final int sessionsPerCenter = Integer.getInteger("benchmark.sessionsPerCenter", 7);
+
+    private final VaccineCentersProcessor processor = new VaccineCentersProcessor(null);
+    private VaccineCenters vaccineCenters;
+    private List<UserPreference> preferences;
+
+    @BeforeEach
+    public void setup() {
+        final Random random = new Random(42L);
+        final List<Center> centerList = new ArrayList<>();
+        for (int c = 0; c < centers; c++) {
+            final List<Session> sessions = new ArrayList<>();
+            for (int s = 0; s < sessionsPerCenter; s++) {
+                final int dose1 = random.nextInt(3) * 10;
+                final int dose2 = random.nextInt(3) * 10;
+                sessions.add(Session.builder()
+                        .sessionId(c + "-" + s)
+                        .date(String.format("%02d-06-2021", s + 1))
+                        .vaccine(Vaccine.values()[random.nextInt(3)].toString())
+                        .minAgeLimit(random.nextBoolean() ? 18 : 45)
+                        .availableCapacity(dose1 + dose2)
+                        .availableCapacityDose1(dose1)
+                        .availableCapacityDose2(dose2)
+                        .build());
+            }
+            centerList.add(Center.builder().centerId(c).name("Center " + c).pincode(110001).sessions(sessions).build());
+        }
+        vaccineCenters = new VaccineCenters(centerList);
+        preferences = new ArrayList<>(users);
+        for (int u = 0; u < users; u++) {
+            preferences.add(new UserPreference(
+                    Age.values()[random.nextInt(Age.values().length)],
+                    Dose.values()[random.nextInt(Dose.values().length)],
+                    Vaccine.values()[random.nextInt(Vaccine.values().length)]));
+        }
+    }
+
+    @Test
+    public void perUserEvaluation() {
+        run("per-user", preference -> processor.eligibleVaccineCenters(vaccineCenters, preference));
+    }
+
+    @Test
+    public void sharedEvaluation() {
+        final EligibleCenters eligibleCenters = processor.eligibleCenters(vaccineCenters);
+        run("shared", eligibleCenters::centersFor);
+    }
+
+    private void run(String name, Function<UserPreference, List<Center>> evaluation) {
+        final com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final long threadId = Thread.currentThread().getId();
+        long eligible = 0;
+        for (int round = 0; round <= ROUNDS; round++) {
+            final long bytesBefore = threads.getThreadAllocatedBytes(threadId);
+            final long start = System.nanoTime();
+            for (UserPreference preference : preferences) {
+                eligible += evaluation.apply(preference).size();
+            }
+            final long elapsedNanos = System.nanoTime() - start;
+            final long bytes = threads.getThreadAllocatedBytes(threadId) - bytesBefore;
+            if (round > 0) { // the first round warms up
+                log.info("[BENCHMARK] {}: {} users, {} centers, round {}: {} ns/user, {} bytes/user", name, users, centers, round,
+                        elapsedNanos / users, bytes / users);
+            }
+        }
+        log.info("[BENCHMARK] {}: {} eligible centers in total", name, eligible);
+    }
+}
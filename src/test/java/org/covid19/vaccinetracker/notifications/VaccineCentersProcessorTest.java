@@ -4,6 +4,7 @@ import org.covid19.vaccinetracker.model.Center;
 import org.covid19.vaccinetracker.model.Session;
 import org.covid19.vaccinetracker.model.VaccineCenters;
 import org.covid19.vaccinetracker.userrequests.UserRequestManager;
+import org.covid19.vaccinetracker.userrequests.model.UserPreference;
 import org.covid19.vaccinetracker.userrequests.model.Vaccine;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -25,6 +26,8 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.when;
 
@@ -242,6 +245,18 @@ public class VaccineCentersProcessorTest {
         assertTrue(actual.get(0).getSessions().stream().anyMatch(session -> "session_for_45_dose2".equals(session.getSessionId())));
     }
 
+    @Test
+    public void testEligibleCenters_AreSharedByPreference() {
+        final EligibleCenters eligibleCenters = processor.eligibleCenters(createCentersWithData());
+        final List<Center> dose1 = eligibleCenters.centersFor(new UserPreference(AGE_BOTH, DOSE_1, Vaccine.ALL));
+        final List<Center> dose2 = eligibleCenters.centersFor(new UserPreference(AGE_BOTH, DOSE_2, Vaccine.ALL));
+        assertSame(dose1, eligibleCenters.centersFor(new UserPreference(AGE_BOTH, DOSE_1, Vaccine.ALL)));
+        assertThat(dose1.get(0).getSessions().get(0).getSessionId(), is("session_for_18_dose1"));
+        assertThat(dose2.get(0).getSessions().get(0).getSessionId(), is("session_for_45_dose2"));
+        assertThat(eligibleCenters.centersFor(new UserPreference(AGE_45, DOSE_1, Vaccine.ALL)), is(emptyList()));
+        assertThrows(UnsupportedOperationException.class, () -> dose1.get(0).getSessions().clear());
+    }
+
     private VaccineCenters createCentersWithData() {
         return new VaccineCenters(List.of(
                 Center.builder()
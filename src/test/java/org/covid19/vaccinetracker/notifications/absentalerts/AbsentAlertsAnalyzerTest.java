@@ -10,6 +10,7 @@ import java.util.List;
 
 import lombok.extern.slf4j.Slf4j;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -45,6 +46,29 @@ public class AbsentAlertsAnalyzerTest {
         assertFalse(cause.getCauses().contains("No centers found for pincode 700014"));
     }
 
+    @Test
+    public void verifySessionsAreNotModified() {
+        List<CenterSession> sessions = createSessions();
+        AbsentAlertSource source = AbsentAlertSource.builder()
+                .userId("1234").pincode("700014").age("45+").vaccine("Covaxin").dose("Dose 2").build();
+        AbsentAlertAnalyzer analyzer = new AbsentAlertAnalyzer();
+        final AbsentAlertCause first = analyzer.analyze(source, sessions);
+        final AbsentAlertCause second = analyzer.analyze(source, sessions);
+        assertEquals(first.getRecents(), second.getRecents());
+        assertEquals(createSessions(), sessions);
+    }
+
+    @Test
+    public void verifyRecentsAreLatestFirst() {
+        AbsentAlertSource source = AbsentAlertSource.builder()
+                .userId("1234").pincode("700014").age("45+").vaccine(null).dose(null).build();
+        final AbsentAlertCause cause = new AbsentAlertAnalyzer().analyze(source, createSessions());
+        assertEquals(5, cause.getRecents().size());
+        assertTrue(cause.getRecents().get(0).startsWith("BELLE VUE CLINIC"));
+        assertTrue(cause.getRecents().get(1).endsWith("on 12-06-2021"));
+        assertTrue(cause.getRecents().get(4).endsWith("on 05-06-2021"));
+    }
+
     private List<CenterSession> createSessions() {
         return List.of(
                 CenterSession.builder()
@@ -1,8 +1,12 @@
 package org.covid19.vaccinetracker.notifications.absentalerts;
 
+import com.google.common.collect.Lists;
+
 import org.covid19.vaccinetracker.model.CenterSession;
 import org.covid19.vaccinetracker.notifications.NotificationCache;
-import org.covid19.vaccinetracker.persistence.VaccinePersistence;
+import org.covid19.vaccinetracker.persistence.SlotHistory;
+import org.covid19.vaccinetracker.persistence.kafka.KafkaStateStores;
+import org.covid19.vaccinetracker.persistence.mariadb.SlotHistoryConfig;
 import org.covid19.vaccinetracker.persistence.mariadb.entity.UserNotification;
 import org.covid19.vaccinetracker.persistence.mariadb.entity.UserNotificationId;
 import org.covid19.vaccinetracker.userrequests.UserRequestManager;
@@ -13,18 +17,31 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.annotation.DirtiesContext;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.function.Consumer;
 
 import lombok.extern.slf4j.Slf4j;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @Slf4j
 @SpringBootTest(classes = {
         AbsentAlertNotifications.class,
-        AbsentAlertAnalyzer.class
+        AbsentAlertAnalyzer.class,
+        SlotHistoryConfig.class,
+        AbsentAlertsConfig.class
 })
 @DirtiesContext
 public class AbsentAlertsNotificationsIT {
@@ -35,24 +52,60 @@ public class AbsentAlertsNotificationsIT {
     private NotificationCache cache;
 
     @MockBean
-    private VaccinePersistence persistence;
+    private SlotHistory slotHistory;
+
+    @MockBean
+    private KafkaStateStores kafkaStateStores;
 
     @Autowired
     private AbsentAlertNotifications notifications;
 
     @Test
     public void testAbsentAlertsNotificationJob() {
-        when(userRequestManager.fetchAllUserRequests()).thenReturn(userRequests());
-        when(cache.userNotificationFor(UserNotificationId.builder().userId("9876").pincode("412308").build()))
-                .thenReturn(Optional.of(UserNotification.builder()
-                        .userNotificationId(UserNotificationId.builder().userId("9876").pincode("412308").build())
+        when(kafkaStateStores.isLeader()).thenReturn(true);
+        givenUserRequests(userRequests());
+        final UserNotificationId notificationId = UserNotificationId.builder().userId("9876").pincode("412308").build();
+        when(cache.userNotificationsFor(anyCollection()))
+                .thenReturn(Map.of(notificationId, UserNotification.builder()
+                        .userNotificationId(notificationId)
                         .notifiedAt(LocalDateTime.now().minusDays(2L))
                         .build()));
-        when(persistence.findAllSessionsByPincode("412308")).thenReturn(sessions());
+        when(slotHistory.findOpeningsByPincodes(anyCollection(), any(LocalDate.class))).thenReturn(Map.of("412308", sessions()));
         notifications.absentAlertsNotificationJob();
         // verify notifications are sent
     }
 
+    @Test
+    public void testOpeningsAreLookedUpOncePerPincode() {
+        when(kafkaStateStores.isLeader()).thenReturn(true);
+        givenUserRequests(List.of(
+                new UserRequest("9876", List.of("412308"), List.of(), "18-44", "Dose 1", "Covishield", null),
+                new UserRequest("9877", List.of("412308", "411001"), List.of(), "45+", "Dose 2", null, null),
+                new UserRequest("9878", List.of("411001"), List.of(), null, null, null, null)));
+        when(slotHistory.findOpeningsByPincodes(anyCollection(), any(LocalDate.class))).thenReturn(Map.of("412308", sessions()));
+        notifications.absentAlertsNotificationJob();
+        verify(cache, times(1)).userNotificationsFor(anyCollection());
+        verify(slotHistory, times(1)).findOpeningsByPincodes(argThat(pincodes -> pincodes.size() == 2), any(LocalDate.class));
+    }
+
+    @Test
+    public void testOnDemandAbsentAlertsNotification() {
+        when(userRequestManager.fetchUserRequest("9876")).thenReturn(userRequests().get(0));
+        when(slotHistory.findOpeningsByPincodes(anyCollection(), any(LocalDate.class))).thenReturn(Map.of("412308", sessions()));
+        final Map<String, List<AbsentAlertCause>> causes = notifications.onDemandAbsentAlertsNotification("9876");
+        assertThat(causes.get("9876").size(), is(1));
+        assertThat(notifications.onDemandAbsentAlertsNotification("1111").isEmpty(), is(true));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenUserRequests(List<UserRequest> userRequests) {
+        doAnswer(invocation -> {
+            Lists.partition(userRequests, invocation.<Integer>getArgument(0))
+                    .forEach(batch -> invocation.<Consumer<List<UserRequest>>>getArgument(1).accept(batch));
+            return null;
+        }).when(userRequestManager).forEachUserRequestBatch(anyInt(), any(Consumer.class));
+    }
+
     private List<CenterSession> sessions() {
         return List.of(
                 CenterSession.builder()
@@ -1,6 +1,7 @@
 package org.covid19.vaccinetracker.notifications.bot;
 
-import org.covid19.vaccinetracker.persistence.mariadb.repository.StateRepository;
+import org.covid19.vaccinetracker.userrequests.MetadataStore;
+import org.covid19.vaccinetracker.userrequests.model.District;
 import org.covid19.vaccinetracker.userrequests.model.State;
 import org.covid19.vaccinetracker.userrequests.model.UserRequest;
 import org.covid19.vaccinetracker.userrequests.model.Vaccine;
@@ -15,6 +16,7 @@ import org.telegram.abilitybots.api.db.DBContext;
 import org.telegram.abilitybots.api.db.MapDBContext;
 import org.telegram.abilitybots.api.objects.MessageContext;
 import org.telegram.abilitybots.api.sender.SilentSender;
+import org.telegram.telegrambots.meta.api.methods.send.SendMessage;
 import org.telegram.telegrambots.meta.api.objects.Chat;
 import org.telegram.telegrambots.meta.api.objects.Message;
 import org.telegram.telegrambots.meta.api.objects.Update;
@@ -22,6 +24,7 @@ import org.telegram.telegrambots.meta.api.objects.User;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static org.covid19.vaccinetracker.notifications.bot.TestUtils.USER;
 import static org.covid19.vaccinetracker.notifications.bot.TestUtils.mockFullUpdate;
@@ -29,7 +32,10 @@ import static org.covid19.vaccinetracker.userrequests.model.Age.AGE_18_44;
 import static org.covid19.vaccinetracker.userrequests.model.Age.AGE_45;
 import static org.covid19.vaccinetracker.userrequests.model.Dose.DOSE_1;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -46,7 +52,7 @@ public class TelegramBotTest {
     private BotBackend botBackend;
 
     @Mock
-    private StateRepository stateRepository;
+    private MetadataStore metadataStore;
 
     @Mock
     private SilentSender silent;
@@ -57,7 +63,7 @@ public class TelegramBotTest {
         bot = new TelegramBot("token", "bot_username", db, USER_ID, USER_ID);
 
         ReflectionTestUtils.setField(bot, "botBackend", botBackend);
-        ReflectionTestUtils.setField(bot, "stateRepository", stateRepository);
+        ReflectionTestUtils.setField(bot, "metadataStore", metadataStore);
         bot.setSilent(silent);
         bot.onRegister();
     }
@@ -141,7 +147,8 @@ public class TelegramBotTest {
 
         MessageContext context = MessageContext.newContext(update, USER, CHAT_ID, bot);
 
-        when(stateRepository.findByPincode("110092")).thenReturn(new State(1, "Delhi"));
+        when(botBackend.acceptUserRequest(any(), eq(List.of("110092")))).thenReturn(CompletableFuture.completedFuture(null));
+        when(metadataStore.fetchDistrictsByPincode("110092")).thenReturn(List.of(new District(1, "East Delhi", new State(1, "Delhi"))));
         bot.catchAll().action().accept(context);
 
         verify(silent, times(1)).send("Okay Abhinav! I will notify you when vaccine is available in centers near your location.\n" +
@@ -161,4 +168,23 @@ public class TelegramBotTest {
         // notify bot owner
         verify(silent, times(1)).execute(any());
     }
+
+    @Test
+    public void testCatchAll_WhenSubscriptionIsNotSaved() {
+        Update update = mockFullUpdate(bot, USER, "110092");
+        Chat chat = mock(Chat.class);
+        when(chat.getFirstName()).thenReturn(USER.getFirstName());
+        when(update.getMessage().getChat()).thenReturn(chat);
+
+        MessageContext context = MessageContext.newContext(update, USER, CHAT_ID, bot);
+
+        when(botBackend.acceptUserRequest(any(), eq(List.of("110092")))).thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+        when(metadataStore.fetchDistrictsByPincode("110092")).thenReturn(List.of(new District(1, "East Delhi", new State(1, "Delhi"))));
+        bot.catchAll().action().accept(context);
+
+        // acknowledged right away, then told that the subscription was not saved
+        verify(silent, times(1)).send(argThat(text -> text.startsWith("Okay Abhinav!")), eq(CHAT_ID));
+        verify(silent, timeout(1000)).execute(argThat((SendMessage message) ->
+                message.getText().equals("Sorry, I could not save your preference. Please try again.")));
+    }
 }
@@ -0,0 +1,58 @@
+package org.covid19.vaccinetracker.notifications.bot;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+
+public class UpdateDispatcherTest {
+
+    @Test
+    public void testFullLaneKeepsOrderOfChat() throws Exception {
+        final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        final UpdateDispatcher dispatcher = new UpdateDispatcher(1, 1, new BotStats(registry));
+        final List<Integer> handled = new CopyOnWriteArrayList<>();
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch done = new CountDownLatch(3);
+
+        dispatcher.dispatch(1L, () -> {
+            awaitQuietly(release);
+            handled.add(1);
+            done.countDown();
+        });
+        dispatcher.dispatch(1L, () -> {
+            handled.add(2);
+            done.countDown();
+        });
+        final Thread poller = new Thread(() -> dispatcher.dispatch(1L, () -> {
+            handled.add(3);
+            done.countDown();
+        }));
+        poller.start();
+
+        // the third update waits for room in the lane instead of running ahead of the second
+        poller.join(200);
+        assertThat(poller.isAlive(), is(true));
+        release.countDown();
+        assertThat(done.await(5, TimeUnit.SECONDS), is(true));
+        assertThat(handled, contains(1, 2, 3));
+        assertThat(registry.counter("bot.updates.throttled").count(), is(1.0));
+        dispatcher.shutdown();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package org.covid19.vaccinetracker.persistence.kafka;
+
+import org.junit.jupiter.api.Test;
+import org.rocksdb.BlockBasedTableConfig;
+import org.rocksdb.CompressionType;
+import org.rocksdb.Options;
+
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class BoundedRocksDBConfigTest {
+
+    @Test
+    public void testStoresShareOneBoundedCache() {
+        final Map<String, Object> configs = Map.of(
+                BoundedRocksDBConfig.BLOCK_CACHE_BYTES, 32L * 1024 * 1024,
+                BoundedRocksDBConfig.BLOCK_SIZE_BYTES, 8192L,
+                BoundedRocksDBConfig.COMPRESSION, "LZ4_COMPRESSION");
+        final BoundedRocksDBConfig configSetter = new BoundedRocksDBConfig();
+        try (Options first = new Options().setTableFormatConfig(new BlockBasedTableConfig());
+             Options second = new Options().setTableFormatConfig(new BlockBasedTableConfig())) {
+            configSetter.setConfig("user-requests-store", first, configs);
+            configSetter.setConfig("user-by-pincodes-inmemory", second, configs);
+
+            final BlockBasedTableConfig tableConfig = (BlockBasedTableConfig) first.tableFormatConfig();
+            assertThat(tableConfig.blockSize(), is(8192L));
+            assertThat(tableConfig.cacheIndexAndFilterBlocks(), is(true));
+            assertThat(first.compressionType(), is(CompressionType.LZ4_COMPRESSION));
+            assertThat(second.compressionType(), is(CompressionType.LZ4_COMPRESSION));
+            assertThat(BoundedRocksDBConfig.cacheCapacity(), is(32L * 1024 * 1024));
+
+            configSetter.close("user-requests-store", first);
+            configSetter.close("user-by-pincodes-inmemory", second);
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package org.covid19.vaccinetracker.persistence.kafka;
+
+import org.apache.kafka.common.serialization.Serde;
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.apache.kafka.streams.KeyValue;
+import org.apache.kafka.streams.StreamsBuilder;
+import org.apache.kafka.streams.StreamsConfig;
+import org.apache.kafka.streams.TestInputTopic;
+import org.apache.kafka.streams.TopologyTestDriver;
+import org.apache.kafka.streams.kstream.Materialized;
+import org.apache.kafka.streams.kstream.Windowed;
+import org.apache.kafka.streams.state.KeyValueBytesStoreSupplier;
+import org.apache.kafka.streams.state.KeyValueIterator;
+import org.apache.kafka.streams.state.KeyValueStore;
+import org.apache.kafka.streams.state.Stores;
+import org.apache.kafka.streams.state.WindowStore;
+import org.covid19.vaccinetracker.model.UsersByPincodeSerde;
+import org.covid19.vaccinetracker.userrequests.MetadataStore;
+import org.covid19.vaccinetracker.userrequests.model.District;
+import org.covid19.vaccinetracker.userrequests.model.DistrictSerde;
+import org.covid19.vaccinetracker.userrequests.model.State;
+import org.covid19.vaccinetracker.userrequests.model.UserRequest;
+import org.covid19.vaccinetracker.userrequests.model.UserRequestSerde;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Measures the topologies of {@link KafkaStreamsConfig} with a synthetic population of users:
+ * throughput of processing the user-requests topic, the size of every state store afterwards and
+ * the time to restore each materialized table from its topic. Metadata lookups are served from
+ * memory, so the numbers exclude the database.
+ * <p>
+ * Not part of the regular build, run with:
+ * <pre>
+ * mvn test -Dtest=KafkaStreamsTopologyBenchmark -Dbenchmark.users=100000 -Dbenchmark.districts=300
+ * </pre>
+ * The tables use the store type in benchmark.storeType, ROCKSDB or IN_MEMORY.
+ */
+@Slf4j
+public class KafkaStreamsTopologyBenchmark {
+    private static final String USER_REQUESTS_TOPIC = "user-requests";
+    private static final String USER_DISTRICTS_TOPIC = "user-districts";
+    private static final String USERS_BY_PINCODE_TOPIC = "users-by-pincode";
+
+    private final int users = Integer.getInteger("benchmark.users", 20000);
+    private final int districts = Integer.getInteger("benchmark.districts", 100);
+    private final int pincodesPerDistrict = Integer.getInteger("benchmark.pincodesPerDistrict", 40);
+    private final StreamsStateConfig.StoreType storeType =
+            StreamsStateConfig.StoreType.valueOf(System.getProperty("benchmark.storeType", "ROCKSDB"));
+
+    @TempDir
+    Path stateDir;
+
+    private KafkaStreamsConfig kafkaStreamsConfig;
+    private List<UserRequest> userRequests;
+
+    @BeforeEach
+    public void setup() {
+        final Map<Integer, List<String>> pincodesByDistrict = new HashMap<>();
+        final Map<String, District> districtByPincode = new HashMap<>();
+        for (int d = 1; d <= districts; d++) {
+            final District district = new District(d, "District " + d, new State(d % 36, "State " + d % 36));
+            final List<String> pincodes = new ArrayList<>();
+            for (int p = 0; p < pincodesPerDistrict; p++) {
+                final String pincode = String.valueOf(100000 + d * 100 + p);
+                pincodes.add(pincode);
+                districtByPincode.put(pincode, district);
+            }
+            pincodesByDistrict.put(d, pincodes);
+        }
+        final MetadataStore metadataStore = new MetadataStore(null, null) {
+            @Override
+            public List<District> fetchDistrictsByPincode(String pincode) {
+                return List.of(districtByPincode.get(pincode));
+            }
+
+            @Override
+            public List<String> fetchPincodeValuesByDistrictId(int districtId) {
+                return pincodesByDistrict.get(districtId);
+            }
+        };
+        final StreamsStateConfig stateConfig = new StreamsStateConfig();
+        stateConfig.setStoreType(storeType);
+        kafkaStreamsConfig = new KafkaStreamsConfig(new KafkaProperties(), metadataStore, new StreamsClusterConfig(), stateConfig);
+        ReflectionTestUtils.setField(kafkaStreamsConfig, "userRequestsTopic", USER_REQUESTS_TOPIC);
+        ReflectionTestUtils.setField(kafkaStreamsConfig, "userDistrictsTopic", USER_DISTRICTS_TOPIC);
+        ReflectionTestUtils.setField(kafkaStreamsConfig, "usersByPincodeTopic", USERS_BY_PINCODE_TOPIC);
+        userRequests = new UserRequestGenerator(pincodesByDistrict, 3, 42L)
+                .generate(users)
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    public void userRequestsTopology() {
+        run("user-requests", kafkaStreamsConfig::userRequestsTable, driver ->
+                restore("user-requests-store", tableStore("user-requests-store"),
+                        new UserRequestSerde(), entries(driver.getKeyValueStore("user-requests-store"), new UserRequestSerde())));
+    }
+
+    @Test
+    public void userDistrictsTopology() {
+        run("user-districts", kafkaStreamsConfig::userDistrictsTable, driver -> {
+            reportWindowStore(driver.getWindowStore("unique-districts-store"));
+            restore("user-districts-inmemory-store", tableStore("user-districts-inmemory-store"),
+                    new DistrictSerde(), entries(driver.getKeyValueStore("user-districts-inmemory-store"), new DistrictSerde()));
+        });
+    }
+
+    @Test
+    public void usersByPincodeTopology() {
+        run("users-by-pincode", kafkaStreamsConfig::usersByPincodeTable, driver -> {
+            restore(KafkaStreamsConfig.USERS_BY_PINCODE_AGGREGATE_STORE, Stores.persistentKeyValueStore(KafkaStreamsConfig.USERS_BY_PINCODE_AGGREGATE_STORE),
+                    new UsersByPincodeSerde(), entries(driver.getKeyValueStore(KafkaStreamsConfig.USERS_BY_PINCODE_AGGREGATE_STORE), new UsersByPincodeSerde()));
+            restore("user-by-pincodes-inmemory", tableStore("user-by-pincodes-inmemory"),
+                    new UsersByPincodeSerde(), entries(driver.getKeyValueStore("user-by-pincodes-inmemory"), new UsersByPincodeSerde()));
+        });
+    }
+
+    private void run(String name, Consumer<StreamsBuilder> topology, Consumer<TopologyTestDriver> report) {
+        final StreamsBuilder builder = new StreamsBuilder();
+        topology.accept(builder);
+        final Properties props = props(name);
+        try (TopologyTestDriver driver = new TopologyTestDriver(builder.build(props), props)) {
+            final TestInputTopic<String, UserRequest> input = driver.createInputTopic(USER_REQUESTS_TOPIC,
+                    new StringSerializer(), new UserRequestSerde().serializer());
+            final long start = System.nanoTime();
+            userRequests.forEach(userRequest -> input.pipeInput(userRequest.getChatId(), userRequest));
+            final long elapsedNanos = System.nanoTime() - start;
+            log.info("[BENCHMARK] {} ({}): {} user requests in {} ms, {} records/s", name, storeType, users, elapsedNanos / 1_000_000,
+                    users * 1_000_000_000L / Math.max(elapsedNanos, 1));
+            report.accept(driver);
+        }
+    }
+
+    /*
+     * Restoring a materialized table amounts to replaying its compacted topic into an empty store.
+     */
+    private <V> void restore(String storeName, KeyValueBytesStoreSupplier supplier, Serde<V> serde, List<KeyValue<String, V>> entries) {
+        final String topic = "restore-" + storeName;
+        final StreamsBuilder builder = new StreamsBuilder();
+        builder.table(topic, Materialized.<String, V>as(supplier).withKeySerde(Serdes.String()).withValueSerde(serde));
+        final Properties props = props("restore-" + storeName);
+        try (TopologyTestDriver driver = new TopologyTestDriver(builder.build(), props)) {
+            final TestInputTopic<String, V> input = driver.createInputTopic(topic, new StringSerializer(), serde.serializer());
+            final long start = System.nanoTime();
+            entries.forEach(entry -> input.pipeInput(entry.key, entry.value));
+            log.info("[BENCHMARK] {}: restored {} entries in {} ms", storeName, entries.size(), (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    private KeyValueBytesStoreSupplier tableStore(String name) {
+        return StreamsStateConfig.StoreType.ROCKSDB.equals(storeType)
+                ? Stores.persistentTimestampedKeyValueStore(name) : Stores.inMemoryKeyValueStore(name);
+    }
+
+    private <V> List<KeyValue<String, V>> entries(KeyValueStore<String, V> store, Serde<V> serde) {
+        final List<KeyValue<String, V>> entries = new ArrayList<>();
+        long bytes = 0;
+        try (KeyValueIterator<String, V> it = store.all()) {
+            while (it.hasNext()) {
+                final KeyValue<String, V> entry = it.next();
+                bytes += entry.key.length() + serde.serializer().serialize(store.name(), entry.value).length;
+                entries.add(entry);
+            }
+        }
+        log.info("[BENCHMARK] {}: {} entries, {} KB", store.name(), entries.size(), bytes / 1024);
+        return entries;
+    }
+
+    private void reportWindowStore(WindowStore<District, Long> store) {
+        final DistrictSerde serde = new DistrictSerde();
+        int entries = 0;
+        long bytes = 0;
+        try (KeyValueIterator<Windowed<District>, Long> it = store.all()) {
+            while (it.hasNext()) {
+                final KeyValue<Windowed<District>, Long> entry = it.next();
+                entries++;
+                // windowed key is the serialized key plus the window start, value is a long
+                bytes += serde.serializer().serialize(store.name(), entry.key.key()).length + Long.BYTES * 2;
+            }
+        }
+        log.info("[BENCHMARK] {}: {} entries, {} KB", store.name(), entries, bytes / 1024);
+    }
+
+    private Properties props(String name) {
+        final Properties props = new Properties();
+        props.putAll(kafkaStreamsConfig.kStreamsConfig().asProperties());
+        props.put(StreamsConfig.APPLICATION_ID_CONFIG, "benchmark-" + name);
+        props.put(StreamsConfig.STATE_DIR_CONFIG, stateDir.toString());
+        return props;
+    }
+}
@@ -0,0 +1,103 @@
+package org.covid19.vaccinetracker.persistence.kafka;
+
+import org.apache.kafka.streams.kstream.KTable;
+import org.covid19.vaccinetracker.model.Session;
+import org.covid19.vaccinetracker.model.UsersByPincode;
+import org.covid19.vaccinetracker.userrequests.model.UserPreference;
+import org.covid19.vaccinetracker.userrequests.model.Vaccine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.covid19.vaccinetracker.userrequests.model.Age.AGE_18_44;
+import static org.covid19.vaccinetracker.userrequests.model.Age.AGE_45;
+import static org.covid19.vaccinetracker.userrequests.model.Dose.DOSE_1;
+import static org.covid19.vaccinetracker.userrequests.model.Dose.DOSE_BOTH;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class PincodeInterestIndexTest {
+    @Mock
+    private KTable<String, UsersByPincode> usersByPincodeTable;
+    @Mock
+    private KafkaStateStores kafkaStateStores;
+
+    private PincodeInterestIndex index;
+
+    @BeforeEach
+    public void setup() {
+        index = new PincodeInterestIndex(usersByPincodeTable, kafkaStateStores);
+    }
+
+    @Test
+    public void testEverythingInterestingBeforeFirstBuild() {
+        assertThat(index.isInteresting("110022", session(18, 20, 0, "COVAXIN")), is(true));
+    }
+
+    @Test
+    public void testSessionsMatchedAgainstSubscriberPreferences() {
+        final UsersByPincode only45 = new UsersByPincode("110022", new HashSet<>());
+        only45.merge("user45", new UserPreference(AGE_45, DOSE_BOTH, Vaccine.COVISHIELD));
+        final UsersByPincode only18 = new UsersByPincode("110023", new HashSet<>());
+        only18.merge("user18", new UserPreference(AGE_18_44, DOSE_1, Vaccine.ALL));
+        final UsersByPincode nobody = new UsersByPincode("110024", new HashSet<>());
+        when(kafkaStateStores.isLeader()).thenReturn(true);
+        when(kafkaStateStores.localUsersByPincode()).thenReturn(List.of(only45, nobody));
+        when(kafkaStateStores.remoteUsersByPincode()).thenReturn(List.of(only18));
+
+        index.rebuild();
+
+        // 45+ subscribers are interested in 45+ sessions
+        assertThat(index.isInteresting("110022", session(45, 0, 20, "COVISHIELD")), is(true));
+        assertThat(index.isInteresting("110022", session(18, 20, 0, "COVISHIELD")), is(false));
+        assertThat(index.isInteresting("110022", session(45, 20, 0, "COVAXIN")), is(false));
+
+        // 18-44 subscribers only for dose 1
+        assertThat(index.isInteresting("110023", session(18, 20, 0, "SPUTNIK V")), is(true));
+        assertThat(index.isInteresting("110023", session(18, 0, 20, "SPUTNIK V")), is(false));
+
+        // pincodes whose subscribers all left are not interesting
+        assertThat(index.isInteresting("110024", session(18, 20, 20, "COVAXIN")), is(false));
+    }
+
+    @Test
+    public void testPincodeSubscribedAfterRebuildIsInteresting() {
+        final UsersByPincode only45 = new UsersByPincode("110022", new HashSet<>());
+        only45.merge("user45", new UserPreference(AGE_45, DOSE_BOTH, Vaccine.COVISHIELD));
+        when(kafkaStateStores.isLeader()).thenReturn(true);
+        when(kafkaStateStores.localUsersByPincode()).thenReturn(List.of(only45));
+        when(kafkaStateStores.remoteUsersByPincode()).thenReturn(List.of());
+
+        index.rebuild();
+
+        // e.g. subscribed on another instance, whose partitions this instance does not follow
+        assertThat(index.isInteresting("560001", session(18, 20, 0, "COVAXIN")), is(true));
+    }
+
+    @Test
+    public void testLegacyAggregateWithoutPreferencesMatchesEverything() {
+        final UsersByPincode legacy = new UsersByPincode("110022", Set.of("legacy"));
+        assertThat(PincodeInterestIndex.interestOf(legacy) & PincodeInterestIndex.maskOf(session(45, 0, 20, "COVAXIN")),
+                is(PincodeInterestIndex.maskOf(session(45, 0, 20, "COVAXIN"))));
+    }
+
+    private Session session(int minAge, int dose1, int dose2, String vaccine) {
+        return Session.builder()
+                .sessionId("abcd")
+                .date("15-05-2021")
+                .minAgeLimit(minAge)
+                .availableCapacity(dose1 + dose2)
+                .availableCapacityDose1(dose1)
+                .availableCapacityDose2(dose2)
+                .vaccine(vaccine)
+                .build();
+    }
+}
@@ -0,0 +1,40 @@
+package org.covid19.vaccinetracker.persistence.kafka;
+
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class StateRestoreProgressTest {
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final StateRestoreProgress progress = new StateRestoreProgress(registry);
+
+    @Test
+    public void testTracksRemainingRecordsAcrossPartitions() {
+        final TopicPartition p0 = new TopicPartition("user-requests-store-changelog", 0);
+        final TopicPartition p1 = new TopicPartition("user-requests-store-changelog", 1);
+        progress.onRestoreStart(p0, "user-requests-store", 0, 1000);
+        progress.onRestoreStart(p1, "user-requests-store", 100, 600);
+        assertThat(progress.isRestoring(), is(true));
+        assertThat(progress.remainingByStore(), is(Map.of("user-requests-store", 1500L)));
+
+        progress.onBatchRestored(p0, "user-requests-store", 400, 400);
+        assertThat(progress.remainingByStore(), is(Map.of("user-requests-store", 1100L)));
+        assertThat(registry.get("streams.restore.remaining").tag("store", "user-requests-store").gauge().value(), is(1100.0));
+
+        // compacted changelogs restore fewer records than the offsets suggest
+        progress.onRestoreEnd(p0, "user-requests-store", 900);
+        progress.onBatchRestored(p1, "user-requests-store", 600, 500);
+        progress.onRestoreEnd(p1, "user-requests-store", 500);
+
+        assertThat(progress.isRestoring(), is(false));
+        assertThat(progress.remainingByStore(), is(Map.of("user-requests-store", 0L)));
+        assertThat(registry.get("streams.restore.records").counter().count(), is(900.0));
+        assertThat(registry.get("streams.restore").timer().count(), is(2L));
+    }
+}
@@ -0,0 +1,74 @@
+package org.covid19.vaccinetracker.persistence.kafka;
+
+import org.apache.kafka.streams.KeyValue;
+import org.apache.kafka.streams.state.KeyValueIterator;
+import org.covid19.vaccinetracker.userrequests.model.UserRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class StateStoresControllerTest {
+    private static final String SECRET = "s3cret";
+
+    @Mock
+    private KafkaStateStores kafkaStateStores;
+    @Mock
+    private KeyValueIterator<String, UserRequest> userRequests;
+
+    private StreamsClusterConfig clusterConfig;
+    private StateStoresController controller;
+
+    @BeforeEach
+    public void setup() {
+        clusterConfig = new StreamsClusterConfig();
+        clusterConfig.setApplicationServer("localhost:8087");
+        clusterConfig.setSecret(SECRET);
+        controller = new StateStoresController(kafkaStateStores, clusterConfig);
+    }
+
+    @Test
+    public void testNotServedOnSingleInstance() {
+        clusterConfig.setApplicationServer("");
+        assertThat(controller.localUserRequests(SECRET).getStatusCode(), is(HttpStatus.NOT_FOUND));
+    }
+
+    @Test
+    public void testForbiddenWithoutSecret() {
+        assertThat(controller.localUserRequests(null).getStatusCode(), is(HttpStatus.FORBIDDEN));
+        assertThat(controller.localUserRequest("wrong", "123").getStatusCode(), is(HttpStatus.FORBIDDEN));
+    }
+
+    @Test
+    public void testStreamsOneValuePerLine() throws Exception {
+        when(kafkaStateStores.isReady()).thenReturn(true);
+        when(kafkaStateStores.userRequests()).thenReturn(userRequests);
+        when(userRequests.hasNext()).thenReturn(true, true, false);
+        when(userRequests.next()).thenReturn(
+                KeyValue.pair("1", new UserRequest("1", List.of("110001"), null, null, null, null, null)),
+                KeyValue.pair("2", new UserRequest("2", List.of("110002"), null, null, null, null, null)));
+
+        final ResponseEntity<?> response = controller.localUserRequests(SECRET);
+        assertThat(response.getStatusCode(), is(HttpStatus.OK));
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ((StreamingResponseBody) response.getBody()).writeTo(out);
+
+        assertThat(out.toString(StandardCharsets.UTF_8),
+                is("{\"chatId\":\"1\",\"pincodes\":[\"110001\"]}\n{\"chatId\":\"2\",\"pincodes\":[\"110002\"]}\n"));
+        verify(userRequests).close();
+    }
+}
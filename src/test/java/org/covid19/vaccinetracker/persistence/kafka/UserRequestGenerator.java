@@ -0,0 +1,125 @@
+package org.covid19.vaccinetracker.persistence.kafka;
+
+import org.covid19.vaccinetracker.userrequests.model.Age;
+import org.covid19.vaccinetracker.userrequests.model.Dose;
+import org.covid19.vaccinetracker.userrequests.model.UserRequest;
+import org.covid19.vaccinetracker.userrequests.model.Vaccine;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Generates a synthetic population of subscribers. Like the real one, a few districts and within
+ * them a few pincodes account for most subscriptions (Zipf distributed), most users follow one or
+ * two pincodes and most preferences are the defaults. The same seed generates the same population.
+ */
+public class UserRequestGenerator {
+    private static final long FIRST_CHAT_ID = 9_000_000_000L;
+    private static final double SKEW = 1.0;
+    private static final double DISTRICT_SUBSCRIPTION_SHARE = 0.05;
+
+    private final Random random;
+    private final List<Integer> districts;
+    private final Map<Integer, List<String>> pincodesByDistrict;
+    private final Zipf districtRanks;
+    private final Map<Integer, Zipf> pincodeRanks;
+    private final int maxPincodesPerUser;
+    private long nextChatId = FIRST_CHAT_ID;
+
+    /**
+     * @param pincodesByDistrict - Pincodes to subscribe to, by district id
+     * @param maxPincodesPerUser - Most pincodes a single user subscribes to
+     * @param seed               - Seed of the population
+     */
+    public UserRequestGenerator(Map<Integer, List<String>> pincodesByDistrict, int maxPincodesPerUser, long seed) {
+        this.random = new Random(seed);
+        this.maxPincodesPerUser = maxPincodesPerUser;
+        // popularity must not follow the order of ids
+        this.pincodesByDistrict = new TreeMap<>();
+        pincodesByDistrict.forEach((district, pincodes) -> {
+            if (!pincodes.isEmpty()) {
+                final List<String> shuffled = new ArrayList<>(pincodes);
+                Collections.shuffle(shuffled, random);
+                this.pincodesByDistrict.put(district, shuffled);
+            }
+        });
+        if (this.pincodesByDistrict.isEmpty()) {
+            throw new IllegalArgumentException("No pincodes to generate users for");
+        }
+        this.districts = new ArrayList<>(this.pincodesByDistrict.keySet());
+        Collections.shuffle(districts, random);
+        this.districtRanks = new Zipf(districts.size());
+        this.pincodeRanks = districts.stream()
+                .collect(Collectors.toMap(district -> district, district -> new Zipf(this.pincodesByDistrict.get(district).size())));
+    }
+
+    public Stream<UserRequest> generate(int users) {
+        return Stream.generate(this::next).limit(users);
+    }
+
+    public synchronized UserRequest next() {
+        final int district = districts.get(districtRanks.sample(random));
+        final List<String> districtPincodes = pincodesByDistrict.get(district);
+        final Set<String> pincodes = new LinkedHashSet<>();
+        final int count = Math.min(pincodesPerUser(), districtPincodes.size());
+        while (pincodes.size() < count) {
+            pincodes.add(districtPincodes.get(pincodeRanks.get(district).sample(random)));
+        }
+        final List<Integer> districtSubscriptions = random.nextDouble() < DISTRICT_SUBSCRIPTION_SHARE
+                ? List.of(district) : List.of();
+        return new UserRequest(String.valueOf(nextChatId++), new ArrayList<>(pincodes), districtSubscriptions,
+                age().toString(), dose().toString(), vaccine().toString(), null);
+    }
+
+    private int pincodesPerUser() {
+        final double p = random.nextDouble();
+        final int count = p < 0.6 ? 1 : p < 0.85 ? 2 : 3;
+        return Math.min(count, maxPincodesPerUser);
+    }
+
+    private Age age() {
+        final double p = random.nextDouble();
+        return p < 0.6 ? Age.AGE_18_44 : p < 0.85 ? Age.AGE_45 : Age.AGE_BOTH;
+    }
+
+    private Dose dose() {
+        final double p = random.nextDouble();
+        return p < 0.7 ? Dose.DOSE_1 : p < 0.9 ? Dose.DOSE_2 : Dose.DOSE_BOTH;
+    }
+
+    private Vaccine vaccine() {
+        final double p = random.nextDouble();
+        return p < 0.7 ? Vaccine.ALL : p < 0.9 ? Vaccine.COVISHIELD : p < 0.98 ? Vaccine.COVAXIN : Vaccine.SPUTNIK_V;
+    }
+
+    /*
+     * Samples ranks 0..n-1 with probability proportional to 1/(rank+1)^SKEW.
+     */
+    private static class Zipf {
+        private final double[] cumulative;
+
+        Zipf(int n) {
+            cumulative = new double[n];
+            double sum = 0;
+            for (int rank = 0; rank < n; rank++) {
+                sum += 1 / Math.pow(rank + 1, SKEW);
+                cumulative[rank] = sum;
+            }
+        }
+
+        int sample(Random random) {
+            final double target = random.nextDouble() * cumulative[cumulative.length - 1];
+            final int index = Arrays.binarySearch(cumulative, target);
+            return Math.min(index >= 0 ? index : -index - 1, cumulative.length - 1);
+        }
+    }
+}
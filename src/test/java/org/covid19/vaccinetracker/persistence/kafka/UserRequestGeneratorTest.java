@@ -0,0 +1,56 @@
+package org.covid19.vaccinetracker.persistence.kafka;
+
+import org.covid19.vaccinetracker.userrequests.model.UserRequest;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+public class UserRequestGeneratorTest {
+    private final Map<Integer, List<String>> pincodesByDistrict = Map.of(
+            1, List.of("110001", "110002", "110003", "110004"),
+            2, List.of("400001", "400002", "400003"),
+            3, List.of("560001", "560002"),
+            4, List.of("600001"));
+
+    @Test
+    public void testSameSeedGeneratesSamePopulation() {
+        final List<UserRequest> first = new UserRequestGenerator(pincodesByDistrict, 3, 7L).generate(100).collect(Collectors.toList());
+        final List<UserRequest> second = new UserRequestGenerator(pincodesByDistrict, 3, 7L).generate(100).collect(Collectors.toList());
+        assertThat(second, is(first));
+    }
+
+    @Test
+    public void testUsersFollowSkewedPincodesOfOneDistrict() {
+        final List<UserRequest> users = new UserRequestGenerator(pincodesByDistrict, 2, 7L).generate(10000).collect(Collectors.toList());
+
+        assertThat(users.stream().map(UserRequest::getChatId).distinct().count(), is(10000L));
+        assertThat(users.stream().map(user -> user.getPincodes().size()).collect(Collectors.toList()), everyItem(lessThanOrEqualTo(2)));
+        final Map<Integer, Long> usersByDistrict = users.stream()
+                .map(user -> districtOf(user.getPincodes().get(0)))
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+        assertThat(usersByDistrict.keySet(), hasSize(4));
+        // the most popular district has at least twice the users of the least popular one
+        final long most = usersByDistrict.values().stream().max(Long::compare).orElseThrow();
+        final long least = usersByDistrict.values().stream().min(Long::compare).orElseThrow();
+        assertThat(most, greaterThan(2 * least));
+        users.forEach(user -> assertThat(user.getPincodes().stream().map(this::districtOf).distinct().count(), is(1L)));
+    }
+
+    private int districtOf(String pincode) {
+        return pincodesByDistrict.entrySet().stream()
+                .filter(entry -> entry.getValue().contains(pincode))
+                .map(Map.Entry::getKey)
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -9,17 +9,18 @@ import org.apache.kafka.streams.TestOutputTopic;
 import org.apache.kafka.streams.TopologyTestDriver;
 import org.apache.kafka.streams.kstream.Consumed;
 import org.apache.kafka.streams.kstream.Produced;
+import org.apache.kafka.streams.kstream.Repartitioned;
 import org.apache.kafka.streams.state.KeyValueStore;
-import org.apache.kafka.streams.state.Stores;
 import org.apache.kafka.streams.test.TestRecord;
+import org.covid19.vaccinetracker.model.PincodeSubscription;
+import org.covid19.vaccinetracker.model.PincodeSubscriptionSerde;
 import org.covid19.vaccinetracker.model.UsersByPincode;
 import org.covid19.vaccinetracker.model.UsersByPincodeSerde;
 import org.covid19.vaccinetracker.userrequests.MetadataStore;
-import org.covid19.vaccinetracker.userrequests.model.District;
-import org.covid19.vaccinetracker.userrequests.model.Pincode;
-import org.covid19.vaccinetracker.userrequests.model.State;
+import org.covid19.vaccinetracker.userrequests.model.UserPreference;
 import org.covid19.vaccinetracker.userrequests.model.UserRequest;
 import org.covid19.vaccinetracker.userrequests.model.UserRequestSerde;
+import org.covid19.vaccinetracker.userrequests.model.Vaccine;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -28,56 +29,52 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
 
+import static org.covid19.vaccinetracker.userrequests.model.Age.AGE_45;
+import static org.covid19.vaccinetracker.userrequests.model.Dose.DOSE_2;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
-public class UsersByPincodeTransformerTest {
+public class UsersByPincodeTopologyTest {
     private static final String INPUT = "input";
     private static final String OUTPUT = "output";
-    private static final String AGGREGRATE_STORE_NAME = "aggregate-store";
+    private static final String SUBSCRIPTIONS = "subscriptions";
 
     private TopologyTestDriver driver;
     private TestInputTopic<String, UserRequest> inputTopic;
     private TestOutputTopic<String, UsersByPincode> outputTopic;
-    private KeyValueStore<Object, Object> store;
+    private KeyValueStore<String, UsersByPincode> store;
 
     @Mock
     private MetadataStore metadataStore;
 
     @BeforeEach
     public void setup() {
-        UsersByPincodeTransformer transformer = new UsersByPincodeTransformer(AGGREGRATE_STORE_NAME, metadataStore);
         StreamsBuilder builder = new StreamsBuilder();
-        builder.addStateStore(
-                Stores.keyValueStoreBuilder(
-                        Stores.inMemoryKeyValueStore(AGGREGRATE_STORE_NAME),
-                        Serdes.String(),
-                        new UsersByPincodeSerde()).withLoggingDisabled());
-        builder
-                .stream(INPUT, Consumed.with(Serdes.String(), new UserRequestSerde()))
-                .transform(() -> transformer, AGGREGRATE_STORE_NAME)
+        KafkaStreamsConfig.usersByPincode(KafkaStreamsConfig.pincodeSubscriptions(builder,
+                        builder.stream(INPUT, Consumed.with(Serdes.String(), new UserRequestSerde())), metadataStore)
+                        .repartition(Repartitioned.<String, PincodeSubscription>as(KafkaStreamsConfig.PINCODE_SUBSCRIPTIONS)
+                                .withKeySerde(Serdes.String()).withValueSerde(new PincodeSubscriptionSerde())))
+                .toStream()
                 .to(OUTPUT, Produced.with(Serdes.String(), new UsersByPincodeSerde()));
 
-        Properties config = new Properties();
-        config.put(StreamsConfig.APPLICATION_ID_CONFIG, "test");
-        config.put(StreamsConfig.BOOTSTRAP_SERVERS_CONFIG, "localhost:9999");
-
-        driver = new TopologyTestDriver(builder.build(), config);
+        driver = new TopologyTestDriver(builder.build(), config());
 
         inputTopic = driver.createInputTopic(INPUT, Serdes.String().serializer(),
                 new UserRequestSerde().serializer());
         outputTopic = driver.createOutputTopic(OUTPUT, Serdes.String().deserializer(),
                 new UsersByPincodeSerde().deserializer());
+        store = driver.getKeyValueStore(KafkaStreamsConfig.USERS_BY_PINCODE_AGGREGATE_STORE);
 
-        // pre-populate store
-        store = driver.getKeyValueStore(AGGREGRATE_STORE_NAME);
-        store.put("411038", new UsersByPincode("411038", Set.of("1234")));
+        // user 1234 subscribed to 411038
+        inputTopic.pipeInput("1234", new UserRequest("1234", List.of("411038"), null, null, null, null, null));
+        outputTopic.readRecordsToList();
     }
 
     @AfterEach
@@ -96,8 +93,6 @@ public class UsersByPincodeTransformerTest {
 
     @Test
     public void shouldUpdateStoreForSecondUserWithSamePincode() {
-        // User 1234 has pincode 411038 set in setup()
-        // Now user 4567 sets same pincode 411038
         inputTopic.pipeInput("4567", new UserRequest("4567", List.of("411038"), null, null, null, null, null));
 
         // store should have both users for pincode 411038
@@ -107,66 +102,61 @@ public class UsersByPincodeTransformerTest {
 
     @Test
     public void shouldUpdateStoreWhenUserUpdatesPincode() {
-        // User 1234 has pincode 411038 set in setup()
-        // Now user 1234 updates pincode to 422104
         inputTopic.pipeInput("1234", new UserRequest("1234", List.of("422104"), null, null, null, null, null));
 
-        // store should have user 1234 for pincode 422104
+        // store should have user 1234 for pincode 422104 and no longer for 411038
         assertThat(store.get("422104"), is(equalTo(new UsersByPincode("422104", Set.of("1234")))));
-        // store should remove user 1234 for pincode 411038
         assertThat(store.get("411038"), is(equalTo(new UsersByPincode("411038", Set.of()))));
     }
 
     @Test
     public void shouldUpdateStoreWhenUserRemovesAllPincodes() {
-        // User 1234 has pincode 411038 set in setup()
-        // Now user 1234 stops subscription (empty pincodes)
         inputTopic.pipeInput("1234", new UserRequest("1234", List.of(), null, null, null, null, null));
 
         // store should have no users for pincode 411038
         assertThat(store.get("411038"), is(equalTo(new UsersByPincode("411038", Set.of()))));
         assertThat(outputTopic.readKeyValue(), is(equalTo(new KeyValue<>("411038", new UsersByPincode("411038", Set.of())))));
+        assertThat(outputTopic.isEmpty(), is(true));
     }
 
     @Test
     public void shouldUpdateStoreWhenUserSendsMultiplePincodes() {
-        // User 4932 sets 2 pincodes 682026, 682027
         inputTopic.pipeInput("4932", new UserRequest("4932", List.of("682026", "682027"), null, null, null, null, null));
 
-        // store should have user 4932 for both pincodes 682026, 682027
         assertThat(store.get("682027"), is(equalTo(new UsersByPincode("682027", Set.of("4932")))));
         assertThat(store.get("682026"), is(equalTo(new UsersByPincode("682026", Set.of("4932")))));
     }
 
+    @Test
+    public void shouldCarryUserPreferencesInStore() {
+        inputTopic.pipeInput("4567", new UserRequest("4567", List.of("411038"), null, "45+", "Dose 2", "Covaxin", null));
+
+        final UsersByPincode usersByPincode = store.get("411038");
+        assertThat(usersByPincode.preferenceFor("4567"), is(equalTo(Optional.of(new UserPreference(AGE_45, DOSE_2, Vaccine.COVAXIN)))));
+
+        // preference is dropped once the user unsubscribes from the pincode
+        inputTopic.pipeInput("4567", new UserRequest("4567", List.of(), null, null, null, null, null));
+        assertThat(store.get("411038").preferenceFor("4567"), is(equalTo(Optional.empty())));
+    }
+
     /* Test district */
 
     @Test
     public void shouldUpdateStoreWhenUserSendsDistrict() {
-        // mock metadata store
-        when(metadataStore.fetchPincodesByDistrictId(363)).thenReturn(List.of(
-                Pincode.builder()
-                        .district(new District(363, "Pune", new State(21, "Maharashtra")))
-                        .pincode("411057").build()));
-
-        // User 1234 has pincode 411038 set in setup()
-        // Now user 1234 sets district 363
+        when(metadataStore.fetchPincodeValuesByDistrictId(363)).thenReturn(List.of("411057"));
+
+        // user 1234 adds district 363 to pincode 411038
         inputTopic.pipeInput("1234", new UserRequest("1234", List.of("411038"), List.of(363), null, null, null, null));
 
-        // store should have user 1234 for both pincodes 411038 (set directly) and 411057 (via district)
         assertThat(store.get("411038"), is(equalTo(new UsersByPincode("411038", Set.of("1234")))));
         assertThat(store.get("411057"), is(equalTo(new UsersByPincode("411057", Set.of("1234")))));
         assertThat(outputTopic.readKeyValue(), is(equalTo(new KeyValue<>("411038", new UsersByPincode("411038", Set.of("1234"))))));
         assertThat(outputTopic.readKeyValue(), is(equalTo(new KeyValue<>("411057", new UsersByPincode("411057", Set.of("1234"))))));
 
         // now user updates the district to 208
-        when(metadataStore.fetchPincodesByDistrictId(208)).thenReturn(List.of(
-                Pincode.builder()
-                        .district(new District(208, "Shimla", new State(13, "Himachal Pradesh")))
-                        .pincode("126112").build()));
-
+        when(metadataStore.fetchPincodeValuesByDistrictId(208)).thenReturn(List.of("126112"));
         inputTopic.pipeInput("1234", new UserRequest("1234", List.of("411038"), List.of(208), null, null, null, null));
 
-        // store should have user 1234 for pincode 411038 (set directly), 126112 (via district) and not 411057 (removed)
         assertThat(store.get("411038"), is(equalTo(new UsersByPincode("411038", Set.of("1234")))));
         assertThat(store.get("126112"), is(equalTo(new UsersByPincode("126112", Set.of("1234")))));
         assertThat(store.get("411057"), is(equalTo(new UsersByPincode("411057", Set.of()))));
@@ -177,7 +167,6 @@ public class UsersByPincodeTransformerTest {
         // now user removes the district preference
         inputTopic.pipeInput("1234", new UserRequest("1234", List.of("411038"), List.of(), null, null, null, null));
 
-        // store should have user 1234 for pincode 411038 (set directly) and not 126112 (removed)
         assertThat(store.get("411038"), is(equalTo(new UsersByPincode("411038", Set.of("1234")))));
         assertThat(store.get("126112"), is(equalTo(new UsersByPincode("126112", Set.of()))));
         assertThat(outputTopic.readKeyValue(), is(equalTo(new KeyValue<>("411038", new UsersByPincode("411038", Set.of("1234"))))));
@@ -186,21 +175,11 @@ public class UsersByPincodeTransformerTest {
 
     @Test
     public void shouldUpdateStoreWhenUserSendsMultipleDistrict() {
-        // mock metadata store
-        when(metadataStore.fetchPincodesByDistrictId(363)).thenReturn(List.of(
-                Pincode.builder()
-                        .district(new District(363, "Pune", new State(21, "Maharashtra")))
-                        .pincode("411057").build()));
-        when(metadataStore.fetchPincodesByDistrictId(208)).thenReturn(List.of(
-                Pincode.builder()
-                        .district(new District(208, "Shimla", new State(13, "Himachal Pradesh")))
-                        .pincode("126112").build()));
-
-        // User 1234 has pincode 411038 set in setup()
-        // Now user 1234 sets district 363
+        when(metadataStore.fetchPincodeValuesByDistrictId(363)).thenReturn(List.of("411057"));
+        when(metadataStore.fetchPincodeValuesByDistrictId(208)).thenReturn(List.of("126112"));
+
         inputTopic.pipeInput("1234", new UserRequest("1234", List.of("411038"), List.of(363, 208), null, null, null, null));
 
-        // store should have user 1234 for pincode 411038 (set directly), 411057 and 126112 (via district)
         assertThat(store.get("411038"), is(equalTo(new UsersByPincode("411038", Set.of("1234")))));
         assertThat(store.get("411057"), is(equalTo(new UsersByPincode("411057", Set.of("1234")))));
         assertThat(store.get("126112"), is(equalTo(new UsersByPincode("126112", Set.of("1234")))));
@@ -208,4 +187,65 @@ public class UsersByPincodeTransformerTest {
         assertThat(outputTopic.readKeyValue(), is(equalTo(new KeyValue<>("411057", new UsersByPincode("411057", Set.of("1234"))))));
         assertThat(outputTopic.readKeyValue(), is(equalTo(new KeyValue<>("126112", new UsersByPincode("126112", Set.of("1234"))))));
     }
+
+    /*
+     * Users of the same pincode on two partitions of the user requests: the task of each partition
+     * only sees its own users, and the subscriptions of both end up with the task of the pincode.
+     */
+    @Test
+    public void shouldKeepUsersOfBothPartitionsInUsersByPincode() {
+        try (TopologyTestDriver partition0 = subscriptionsDriver("partition-0");
+             TopologyTestDriver partition1 = subscriptionsDriver("partition-1");
+             TopologyTestDriver pincodePartition = usersByPincodeDriver()) {
+            final TestInputTopic<String, PincodeSubscription> subscriptions = pincodePartition.createInputTopic(SUBSCRIPTIONS,
+                    Serdes.String().serializer(), new PincodeSubscriptionSerde().serializer());
+            final TestOutputTopic<String, UsersByPincode> usersByPincode = pincodePartition.createOutputTopic(OUTPUT,
+                    Serdes.String().deserializer(), new UsersByPincodeSerde().deserializer());
+
+            subscriptions.pipeKeyValueList(subscribe(partition0, new UserRequest("1111", List.of("411001"), null, null, null, null, null)));
+            subscriptions.pipeKeyValueList(subscribe(partition1, new UserRequest("2222", List.of("411001"), null, "45+", "Dose 2", "Covaxin", null)));
+
+            final UsersByPincode both = usersByPincode.readKeyValuesToMap().get("411001");
+            assertThat(both, is(equalTo(new UsersByPincode("411001", Set.of("1111", "2222")))));
+            assertThat(both.preferenceFor("1111"), is(equalTo(Optional.of(UserPreference.DEFAULT))));
+            assertThat(both.preferenceFor("2222"), is(equalTo(Optional.of(new UserPreference(AGE_45, DOSE_2, Vaccine.COVAXIN)))));
+
+            // a user leaving on one partition does not take the users of the other partition along
+            subscriptions.pipeKeyValueList(subscribe(partition0, new UserRequest("1111", List.of(), null, null, null, null, null)));
+            assertThat(usersByPincode.readKeyValuesToMap().get("411001"), is(equalTo(new UsersByPincode("411001", Set.of("2222")))));
+        }
+    }
+
+    private TopologyTestDriver subscriptionsDriver(String applicationId) {
+        StreamsBuilder builder = new StreamsBuilder();
+        KafkaStreamsConfig.pincodeSubscriptions(builder, builder.stream(INPUT, Consumed.with(Serdes.String(), new UserRequestSerde())), metadataStore)
+                .to(SUBSCRIPTIONS, Produced.with(Serdes.String(), new PincodeSubscriptionSerde()));
+        return new TopologyTestDriver(builder.build(), config(applicationId));
+    }
+
+    private TopologyTestDriver usersByPincodeDriver() {
+        StreamsBuilder builder = new StreamsBuilder();
+        KafkaStreamsConfig.usersByPincode(builder.stream(SUBSCRIPTIONS, Consumed.with(Serdes.String(), new PincodeSubscriptionSerde())))
+                .toStream()
+                .to(OUTPUT, Produced.with(Serdes.String(), new UsersByPincodeSerde()));
+        return new TopologyTestDriver(builder.build(), config("pincode-partition"));
+    }
+
+    private static List<KeyValue<String, PincodeSubscription>> subscribe(TopologyTestDriver partition, UserRequest userRequest) {
+        partition.createInputTopic(INPUT, Serdes.String().serializer(), new UserRequestSerde().serializer())
+                .pipeInput(userRequest.getChatId(), userRequest);
+        return partition.createOutputTopic(SUBSCRIPTIONS, Serdes.String().deserializer(), new PincodeSubscriptionSerde().deserializer())
+                .readKeyValuesToList();
+    }
+
+    private static Properties config() {
+        return config("test");
+    }
+
+    private static Properties config(String applicationId) {
+        Properties config = new Properties();
+        config.put(StreamsConfig.APPLICATION_ID_CONFIG, applicationId);
+        config.put(StreamsConfig.BOOTSTRAP_SERVERS_CONFIG, "localhost:9999");
+        return config;
+    }
 }
@@ -0,0 +1,128 @@
+package org.covid19.vaccinetracker.persistence.mariadb;
+
+import org.covid19.vaccinetracker.model.Center;
+import org.covid19.vaccinetracker.model.CenterSession;
+import org.covid19.vaccinetracker.model.Session;
+import org.covid19.vaccinetracker.model.SessionDelta;
+import org.covid19.vaccinetracker.model.VaccineCenters;
+import org.covid19.vaccinetracker.persistence.SlotHistory;
+import org.covid19.vaccinetracker.persistence.kafka.KafkaStateStores;
+import org.covid19.vaccinetracker.persistence.mariadb.repository.SlotHistoryCenterRepository;
+import org.covid19.vaccinetracker.persistence.mariadb.repository.SlotObservationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+import static java.util.Collections.singletonList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest
+public class MariaDBSlotHistoryTest {
+    @Autowired
+    private SlotObservationRepository observationRepository;
+    @Autowired
+    private SlotHistoryCenterRepository centerRepository;
+    @Autowired
+    private DataSource dataSource;
+
+    private final KafkaStateStores kafkaStateStores = Mockito.mock(KafkaStateStores.class);
+
+    private SlotHistory slotHistory;
+
+    @BeforeEach
+    public void beforeSetup() {
+        this.slotHistory = new MariaDBSlotHistory(observationRepository, centerRepository,
+                new SlotHistoryConfig(), new DatePartitions(dataSource, kafkaStateStores, 14), kafkaStateStores);
+    }
+
+    @Test
+    public void testRecordOnlyChangedSessions() {
+        slotHistory.record(vaccineCenters(session("20-07-2021", 18, "COVAXIN", 0, true),
+                session("21-07-2021", 18, "COVAXIN", 15, false)));
+        assertEquals(1, observationRepository.count());
+        assertTrue(centerRepository.findById(1205).isPresent());
+    }
+
+    @Test
+    public void testFindOpeningsByPincodes() {
+        slotHistory.record(vaccineCenters(
+                session("20-07-2021", 18, "COVAXIN", 0, true),
+                session("21-07-2021", 18, "COVAXIN", 15, true),
+                session("22-07-2021", 45, "COVISHIELD", 30, true)));
+        slotHistory.record(vaccineCenters(session("22-07-2021", 45, "COVISHIELD", 25, true)));
+
+        final Map<String, List<CenterSession>> openingsByPincode =
+                slotHistory.findOpeningsByPincodes(List.of("110056", "110001", "invalid"), LocalDate.of(2021, 7, 21));
+        assertEquals(Set.of("110056"), openingsByPincode.keySet());
+        final List<CenterSession> openings = openingsByPincode.get("110056");
+        assertEquals(2, openings.size());
+        assertTrue(openings.contains(new CenterSession("Mohalla Clinic Peeragarhi PHC", "West Delhi", "110056", "21-07-2021", 18, "COVAXIN")));
+        assertTrue(openings.contains(new CenterSession("Mohalla Clinic Peeragarhi PHC", "West Delhi", "110056", "22-07-2021", 45, "COVISHIELD")));
+
+        assertTrue(slotHistory.findOpeningsByPincodes(List.of("110056"), LocalDate.of(2021, 7, 23)).isEmpty());
+    }
+
+    @Test
+    public void testFindLastOpening() {
+        slotHistory.record(vaccineCenters(
+                session("21-07-2021", 18, "COVAXIN", 15, true),
+                session("22-07-2021", 18, "COVAXIN", 0, true),
+                session("23-07-2021", 45, "COVISHIELD", 30, true)));
+
+        final Optional<CenterSession> any = slotHistory.findLastOpening("110056", 0, 255, null);
+        assertTrue(any.isPresent());
+        assertEquals("23-07-2021", any.get().getSessionDate());
+
+        final Optional<CenterSession> young = slotHistory.findLastOpening("110056", 18, 44, "COVAXIN");
+        assertTrue(young.isPresent());
+        assertEquals("21-07-2021", young.get().getSessionDate());
+
+        assertFalse(slotHistory.findLastOpening("110056", 18, 44, "COVISHIELD").isPresent());
+    }
+
+    @Test
+    public void testDeleteBefore() {
+        slotHistory.record(vaccineCenters(
+                session("20-07-2021", 18, "COVAXIN", 10, true),
+                session("21-07-2021", 18, "COVAXIN", 15, true)));
+        assertEquals(1, slotHistory.deleteBefore(LocalDate.of(2021, 7, 21)));
+        assertEquals(1, observationRepository.count());
+    }
+
+    private VaccineCenters vaccineCenters(Session... sessions) {
+        return new VaccineCenters(singletonList(Center.builder()
+                .centerId(1205)
+                .name("Mohalla Clinic Peeragarhi PHC")
+                .stateName("Delhi")
+                .districtName("West Delhi")
+                .pincode(110056)
+                .feeType("Free")
+                .sessions(List.of(sessions))
+                .build()));
+    }
+
+    private Session session(String date, int minAge, String vaccine, int dose1, boolean changed) {
+        return Session.builder()
+                .sessionId(date + minAge + vaccine)
+                .date(date)
+                .availableCapacity(dose1)
+                .availableCapacityDose1(dose1)
+                .availableCapacityDose2(0)
+                .minAgeLimit(minAge)
+                .vaccine(vaccine)
+                .delta(changed ? SessionDelta.builder().centerId(1205).date(date).build() : null)
+                .build();
+    }
+}
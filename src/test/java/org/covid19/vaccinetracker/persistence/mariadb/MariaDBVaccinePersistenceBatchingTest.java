@@ -0,0 +1,130 @@
+package org.covid19.vaccinetracker.persistence.mariadb;
+
+import org.covid19.vaccinetracker.model.Center;
+import org.covid19.vaccinetracker.model.Session;
+import org.covid19.vaccinetracker.model.VaccineCenters;
+import org.covid19.vaccinetracker.persistence.VaccinePersistence;
+import org.covid19.vaccinetracker.persistence.kafka.KafkaStateStores;
+import org.covid19.vaccinetracker.persistence.mariadb.repository.CenterRepository;
+import org.covid19.vaccinetracker.persistence.mariadb.repository.SessionRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Persists with the JPA settings of the high-throughput profile and counts the statements.
+ */
+@DataJpaTest
+@ActiveProfiles("high-throughput")
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+public class MariaDBVaccinePersistenceBatchingTest {
+    private static final int CENTERS = 20;
+    private static final int SESSIONS_PER_CENTER = 5;
+    private static final int SESSIONS = CENTERS * SESSIONS_PER_CENTER;
+
+    @Autowired
+    private CenterRepository centerRepository;
+    @Autowired
+    private SessionRepository sessionRepository;
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private VaccinePersistence vaccinePersistence;
+    private Statistics statistics;
+
+    @BeforeEach
+    public void beforeSetup() {
+        this.vaccinePersistence = new MariaDBVaccinePersistence(centerRepository, sessionRepository,
+                new DatePartitions(dataSource, Mockito.mock(KafkaStateStores.class), 14));
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    public void testNewSessionsAreInsertedInBatches() {
+        statistics.clear();
+        vaccinePersistence.persistVaccineCenters(buildVaccineCenters());
+        entityManager.flush();
+
+        // lookups of existing centers and sessions, then batches of inserts and of center_id updates
+        assertThat(statistics.getPrepareStatementCount(), lessThanOrEqualTo(8L));
+        assertEquals(SESSIONS + CENTERS, statistics.getEntityInsertCount());
+    }
+
+    @Test
+    public void testExistingCentersAreLoadedWithoutLookupsPerCenter() {
+        vaccinePersistence.persistVaccineCenters(buildVaccineCenters());
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics.clear();
+        vaccinePersistence.persistVaccineCenters(buildVaccineCenters());
+        entityManager.flush();
+
+        // one select of the centers with their sessions and one of the sessions, not one per center
+        assertThat(statistics.getPrepareStatementCount(), lessThanOrEqualTo(8L));
+        assertEquals(0, statistics.getCollectionFetchCount());
+    }
+
+    @Test
+    public void testExistingSessionsAreUpdatedWithoutLookupsPerRow() {
+        vaccinePersistence.persistVaccineCenters(buildVaccineCenters());
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics.clear();
+        vaccinePersistence.markProcessed(buildVaccineCenters());
+        entityManager.flush();
+
+        assertThat(statistics.getPrepareStatementCount(), lessThanOrEqualTo(4L));
+        assertEquals(SESSIONS, statistics.getEntityUpdateCount());
+    }
+
+    private VaccineCenters buildVaccineCenters() {
+        final List<Center> centers = new ArrayList<>();
+        for (int c = 0; c < CENTERS; c++) {
+            final List<Session> sessions = new ArrayList<>();
+            for (int i = 0; i < SESSIONS_PER_CENTER; i++) {
+                sessions.add(Session.builder()
+                        .sessionId("session-" + c + "-" + i)
+                        .date(String.format("%02d-06-2021", i + 1))
+                        .availableCapacity(10)
+                        .availableCapacityDose1(5)
+                        .availableCapacityDose2(5)
+                        .minAgeLimit(18)
+                        .vaccine("COVISHIELD")
+                        .build());
+            }
+            centers.add(Center.builder()
+                    .centerId(4200 + c)
+                    .name("Batch PHC " + c)
+                    .stateName("Delhi")
+                    .districtName("West Delhi")
+                    .pincode(110057)
+                    .feeType("Free")
+                    .sessions(sessions)
+                    .build());
+        }
+        return new VaccineCenters(centers);
+    }
+}
@@ -4,16 +4,23 @@ import org.covid19.vaccinetracker.model.Center;
 import org.covid19.vaccinetracker.model.Session;
 import org.covid19.vaccinetracker.model.VaccineCenters;
 import org.covid19.vaccinetracker.persistence.VaccinePersistence;
+import org.covid19.vaccinetracker.persistence.kafka.KafkaStateStores;
 import org.covid19.vaccinetracker.persistence.mariadb.entity.SessionEntity;
 import org.covid19.vaccinetracker.persistence.mariadb.repository.CenterRepository;
 import org.covid19.vaccinetracker.persistence.mariadb.repository.SessionRepository;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+
+import javax.sql.DataSource;
 
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
@@ -28,13 +35,15 @@ public class MariaDBVaccinePersistenceTest {
     private CenterRepository centerRepository;
     @Autowired
     private SessionRepository sessionRepository;
+    @Autowired
+    private DataSource dataSource;
 
     private VaccinePersistence vaccinePersistence;
 
     @BeforeEach
     public void beforeSetup() {
-        this.vaccinePersistence = new MariaDBVaccinePersistence(centerRepository, sessionRepository
-        );
+        this.vaccinePersistence = new MariaDBVaccinePersistence(centerRepository, sessionRepository,
+                new DatePartitions(dataSource, Mockito.mock(KafkaStateStores.class), 14));
     }
 
     @Test
@@ -65,6 +74,29 @@ public class MariaDBVaccinePersistenceTest {
         assertEquals(expected, vaccinePersistence.fetchVaccineCentersByPincode("852108"));
     }
 
+    @Test
+    public void testFetchVaccineCentersByPincodeSkipsProcessedSessions() {
+        final VaccineCenters vaccineCenters = buildVaccineCenters();
+        vaccinePersistence.persistVaccineCenters(vaccineCenters);
+        final VaccineCenters fetched = vaccinePersistence.fetchVaccineCentersByPincode("110056");
+        assertEquals(1, fetched.getCenters().size());
+        assertEquals(1205, fetched.getCenters().get(0).getCenterId());
+        assertEquals("32bbb37e-7cb4-4942-bd92-ac56d86490f9", fetched.getCenters().get(0).getSessions().get(0).getSessionId());
+        assertEquals("Free", fetched.getCenters().get(0).getSessions().get(0).getCost());
+
+        vaccinePersistence.markProcessed(vaccineCenters);
+        assertTrue(vaccinePersistence.fetchVaccineCentersByPincode("110056").getCenters().isEmpty());
+    }
+
+    @Test
+    public void testFetchVaccineCentersByPincodes() {
+        vaccinePersistence.persistVaccineCenters(buildVaccineCenters());
+        final Map<String, VaccineCenters> vaccineCenters = vaccinePersistence.fetchVaccineCentersByPincodes(List.of("110056", "852108", "123456"));
+        assertEquals(Set.of("110056", "852108"), vaccineCenters.keySet());
+        assertEquals(vaccinePersistence.fetchVaccineCentersByPincode("852108"), vaccineCenters.get("852108"));
+        assertEquals(1205, vaccineCenters.get("110056").getCenters().get(0).getCenterId());
+    }
+
     @Test
     public void testMarkProcessed() {
         final VaccineCenters vaccineCenters = buildVaccineCenters();
@@ -95,6 +127,15 @@ public class MariaDBVaccinePersistenceTest {
         assertFalse(shouldNotExist.isPresent());
     }
 
+    @Test
+    public void testCleanupOldCenters() {
+        vaccinePersistence.persistVaccineCenters(buildVaccineCenters());
+        vaccinePersistence.cleanupOldCenters("22-05-2021");
+        assertFalse(centerRepository.findById(1205L).isPresent());
+        assertFalse(sessionRepository.findById("32bbb37e-7cb4-4942-bd92-ac56d86490f9").isPresent());
+        assertTrue(centerRepository.findById(383358L).isPresent());
+    }
+
     @NotNull
     private VaccineCenters buildVaccineCenters() {
         final VaccineCenters vaccineCenters = new VaccineCenters();
@@ -0,0 +1,89 @@
+package org.covid19.vaccinetracker.persistence.mariadb;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class MetadataLoaderTest {
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private MetadataLoader metadataLoader;
+
+    @BeforeEach
+    public void setup() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("CREATE TABLE states (id INT PRIMARY KEY, state_name VARCHAR(100) NOT NULL)");
+        jdbcTemplate.execute("CREATE TABLE districts (id INT PRIMARY KEY, district_name VARCHAR(100) NOT NULL, state_id INT NOT NULL REFERENCES states (id))");
+        jdbcTemplate.execute("CREATE TABLE pincodes (id VARCHAR(36) PRIMARY KEY, pincode VARCHAR(6) NOT NULL, district_id INT NOT NULL REFERENCES districts (id))");
+        jdbcTemplate.execute("CREATE TABLE metadata_loads (checksum VARCHAR(64) PRIMARY KEY, states INT NOT NULL, districts INT NOT NULL, pincodes INT NOT NULL, loaded_at TIMESTAMP NOT NULL)");
+        metadataLoader = new MetadataLoader(database, new MetadataLoaderConfig());
+    }
+
+    @AfterEach
+    public void teardown() {
+        database.shutdown();
+    }
+
+    @Test
+    public void testLoadsBundledMetadataOnce() {
+        final MetadataLoader.LoadResult result = metadataLoader.loadIfChanged().orElseThrow();
+        assertThat(result, is(new MetadataLoader.LoadResult(37, 756, 12306)));
+        assertThat(count("pincodes"), is(12306));
+        assertThat(jdbcTemplate.queryForObject("SELECT district_name FROM districts WHERE id = 6", String.class),
+                is("YSR District, Kadapa (Cuddapah)"));
+        assertThat(jdbcTemplate.queryForObject("SELECT district_id FROM pincodes WHERE pincode = '127310'", Integer.class),
+                is(201));
+
+        assertThat(metadataLoader.loadIfChanged().isPresent(), is(false));
+        assertThat(count("metadata_loads"), is(1));
+    }
+
+    @Test
+    public void testLoadKeepsPincodesMissingFromTheFile() {
+        jdbcTemplate.update("INSERT INTO states (id, state_name) VALUES (12, 'Old name')");
+        jdbcTemplate.update("INSERT INTO districts (id, district_name, state_id) VALUES (201, 'Old name', 12)");
+        jdbcTemplate.update("INSERT INTO pincodes (id, pincode, district_id) VALUES ('reconciled', '999999', 201)");
+
+        final MetadataLoader.LoadResult result = metadataLoader.loadIfChanged().orElseThrow();
+        assertThat(result, is(new MetadataLoader.LoadResult(37, 756, 12306)));
+        assertThat(count("pincodes"), is(12307));
+        assertThat(jdbcTemplate.queryForObject("SELECT district_id FROM pincodes WHERE id = 'reconciled'", Integer.class), is(201));
+        assertThat(jdbcTemplate.queryForObject("SELECT state_name FROM states WHERE id = 12", String.class), is("Haryana"));
+    }
+
+    @Test
+    public void testChecksumMismatchLeavesTablesUnchanged() {
+        jdbcTemplate.update("INSERT INTO states (id, state_name) VALUES (12, 'Haryana')");
+        final ClassPathResource resource = new ClassPathResource("db/metadata/metadata.csv.gz");
+        assertThrows(IllegalStateException.class, () -> metadataLoader.load(resource, "0".repeat(64)));
+        assertThat(count("states"), is(1));
+        assertThat(count("pincodes"), is(0));
+        assertThat(count("metadata_loads"), is(0));
+    }
+
+    @Test
+    public void testParseCsvLine() {
+        assertThat(MetadataLoader.parseCsvLine("district,6,\"YSR District, Kadapa (Cuddapah)\",2"),
+                is(List.of("district", "6", "YSR District, Kadapa (Cuddapah)", "2")));
+        assertThat(MetadataLoader.parseCsvLine("state,1,\"Say \"\"hi\"\"\","), is(List.of("state", "1", "Say \"hi\"", "")));
+    }
+
+    private int count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Integer.class);
+    }
+}
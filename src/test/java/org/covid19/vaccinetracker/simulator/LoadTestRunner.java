@@ -0,0 +1,114 @@
+package org.covid19.vaccinetracker.simulator;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import org.covid19.vaccinetracker.availability.AvailabilityStats;
+import org.covid19.vaccinetracker.availability.VaccineAvailability;
+import org.covid19.vaccinetracker.notifications.NotificationStats;
+import org.covid19.vaccinetracker.persistence.kafka.KafkaStateStores;
+import org.covid19.vaccinetracker.persistence.kafka.UserRequestGenerator;
+import org.covid19.vaccinetracker.userrequests.model.UserRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Drives the full pipeline against the simulator: seeds synthetic subscribers in the configured
+ * districts, runs the vaccine availability refresh for a number of cycles and logs what the
+ * pipeline did. Enabled with simulator.load-test.enabled.
+ */
+@Slf4j
+@Component
+@Profile("simulator")
+public class LoadTestRunner implements ApplicationRunner {
+    @Value("${topic.user.requests}")
+    private String userRequestsTopic;
+
+    private final SimulatorConfig config;
+    private final SimulatedLambda simulatedLambda;
+    private final SlotGenerator slotGenerator;
+    private final KafkaTemplate<String, UserRequest> userRequestKafkaTemplate;
+    private final VaccineAvailability vaccineAvailability;
+    private final AvailabilityStats availabilityStats;
+    private final NotificationStats notificationStats;
+    private final KafkaStateStores kafkaStateStores;
+
+    public LoadTestRunner(SimulatorConfig config, SimulatedLambda simulatedLambda, SlotGenerator slotGenerator,
+                          KafkaTemplate<String, UserRequest> userRequestKafkaTemplate, VaccineAvailability vaccineAvailability,
+                          AvailabilityStats availabilityStats, NotificationStats notificationStats, KafkaStateStores kafkaStateStores) {
+        this.config = config;
+        this.simulatedLambda = simulatedLambda;
+        this.slotGenerator = slotGenerator;
+        this.userRequestKafkaTemplate = userRequestKafkaTemplate;
+        this.vaccineAvailability = vaccineAvailability;
+        this.availabilityStats = availabilityStats;
+        this.notificationStats = notificationStats;
+        this.kafkaStateStores = kafkaStateStores;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!config.getLoadTest().isEnabled()) {
+            return;
+        }
+        // run outside of the startup thread so startup completes while the state stores restore
+        final ExecutorService executor = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder().setNameFormat("loadtest-%d").build());
+        executor.submit(this::runLoadTest);
+        executor.shutdown();
+    }
+
+    void runLoadTest() {
+        final SimulatorConfig.LoadTest loadTest = config.getLoadTest();
+        try {
+            if (!kafkaStateStores.awaitReady()) {
+                log.error("State stores not ready, aborting load test");
+                return;
+            }
+            seedUsers(loadTest);
+            TimeUnit.SECONDS.sleep(loadTest.getSettleSeconds());
+            for (int cycle = 1; cycle <= loadTest.getCycles(); cycle++) {
+                log.info("[LOADTEST] Starting cycle {} of {}", cycle, loadTest.getCycles());
+                vaccineAvailability.refreshVaccineAvailabilityFromCowinViaLambdaAsync();
+                TimeUnit.SECONDS.sleep(loadTest.getCycleIntervalSeconds());
+                logSummary(cycle);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void seedUsers(SimulatorConfig.LoadTest loadTest) {
+        final Map<Integer, List<String>> pincodesByDistrict = loadTest.getDistricts().stream()
+                .distinct()
+                .collect(Collectors.toMap(districtId -> districtId, slotGenerator::pincodesOf));
+        if (pincodesByDistrict.values().stream().allMatch(List::isEmpty)) {
+            log.warn("[LOADTEST] No pincodes known for districts {}, no users seeded", loadTest.getDistricts());
+            return;
+        }
+        log.info("[LOADTEST] Seeding {} users in districts {}", loadTest.getUsers(), pincodesByDistrict.keySet());
+        new UserRequestGenerator(pincodesByDistrict, loadTest.getPincodesPerUser(), loadTest.getSeed())
+                .generate(loadTest.getUsers())
+                .forEach(userRequest -> userRequestKafkaTemplate.send(userRequestsTopic, userRequest.getChatId(), userRequest));
+        userRequestKafkaTemplate.flush();
+    }
+
+    private void logSummary(int cycle) {
+        log.info("[LOADTEST] After cycle {}: Lambda invocations: {}, throttled: {}, failed: {}, telegram messages: {}, " +
+                        "simulated sessions: {}, districts: {}, notifications sent: {}, notification errors: {}",
+                cycle, simulatedLambda.invocations(), simulatedLambda.throttled(), simulatedLambda.failed(),
+                simulatedLambda.telegramMessages(), slotGenerator.trackedSessions(), availabilityStats.processedDistricts(),
+                notificationStats.notificationsSent(), notificationStats.notificationsErrors());
+    }
+}
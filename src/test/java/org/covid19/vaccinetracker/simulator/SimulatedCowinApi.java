@@ -0,0 +1,55 @@
+package org.covid19.vaccinetracker.simulator;
+
+import org.covid19.vaccinetracker.model.VaccineCenters;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.function.Supplier;
+
+/**
+ * Stand-in for the CoWIN calendar APIs, for the code paths that call CoWIN directly. Point
+ * cowin.apiUrl at this application to use it.
+ */
+@RestController
+@Profile("simulator")
+@RequestMapping("/v2/appointment/sessions")
+public class SimulatedCowinApi {
+    private final SimulatorConfig config;
+    private final SlotGenerator slotGenerator;
+
+    public SimulatedCowinApi(SimulatorConfig config, SlotGenerator slotGenerator) {
+        this.config = config;
+        this.slotGenerator = slotGenerator;
+    }
+
+    @GetMapping({"/public/calendarByDistrict", "/calendarByDistrict"})
+    public ResponseEntity<VaccineCenters> calendarByDistrict(@RequestParam("district_id") int districtId,
+                                                             @RequestParam String date) {
+        return respond(() -> slotGenerator.forDistrict(districtId));
+    }
+
+    @GetMapping({"/public/calendarByPin", "/calendarByPin"})
+    public ResponseEntity<VaccineCenters> calendarByPin(@RequestParam String pincode, @RequestParam String date) {
+        return respond(() -> slotGenerator.forPincode(pincode));
+    }
+
+    private ResponseEntity<VaccineCenters> respond(Supplier<VaccineCenters> centers) {
+        try {
+            Thread.sleep(config.nextLatencyMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (config.nextThrottled()) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).build();
+        }
+        if (config.nextFailed()) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+        return ResponseEntity.ok(centers.get());
+    }
+}
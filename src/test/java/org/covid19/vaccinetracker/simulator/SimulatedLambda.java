@@ -0,0 +1,158 @@
+package org.covid19.vaccinetracker.simulator;
+
+import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.services.lambda.AbstractAWSLambdaAsync;
+import com.amazonaws.services.lambda.model.InvokeRequest;
+import com.amazonaws.services.lambda.model.InvokeResult;
+import com.amazonaws.services.lambda.model.TooManyRequestsException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import org.covid19.vaccinetracker.model.VaccineCenters;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * In-process stand-in for the CalendarByDistrict, CalendarByPin and SendTelegramMsg Lambdas.
+ * The invoked function is recognised from the event, so no ARNs need to be configured. Responses
+ * are delayed by the configured latency, and a share of the invocations is throttled or fails
+ * the way CoWIN errors surface through the real Lambdas.
+ */
+public class SimulatedLambda extends AbstractAWSLambdaAsync {
+    private final SimulatorConfig config;
+    private final ObjectMapper objectMapper;
+    private final SlotGenerator slotGenerator;
+    private final ScheduledExecutorService scheduler;
+
+    private final AtomicLong invocations = new AtomicLong();
+    private final AtomicLong throttled = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong telegramMessages = new AtomicLong();
+
+    public SimulatedLambda(SimulatorConfig config, ObjectMapper objectMapper, SlotGenerator slotGenerator) {
+        this.config = config;
+        this.objectMapper = objectMapper;
+        this.slotGenerator = slotGenerator;
+        this.scheduler = Executors.newScheduledThreadPool(config.getLambdaThreads(),
+                new ThreadFactoryBuilder().setNameFormat("simulatedlambda-%d").build());
+    }
+
+    @Override
+    public InvokeResult invoke(InvokeRequest request) {
+        try {
+            Thread.sleep(config.nextLatencyMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return respond(request);
+    }
+
+    @Override
+    public Future<InvokeResult> invokeAsync(InvokeRequest request, AsyncHandler<InvokeRequest, InvokeResult> asyncHandler) {
+        final CompletableFuture<InvokeResult> future = new CompletableFuture<>();
+        scheduler.schedule(() -> {
+            final InvokeResult result;
+            try {
+                result = respond(request);
+            } catch (RuntimeException e) {
+                if (nonNull(asyncHandler)) {
+                    asyncHandler.onError(e);
+                }
+                future.completeExceptionally(e);
+                return;
+            }
+            if (nonNull(asyncHandler)) {
+                asyncHandler.onSuccess(request, result);
+            }
+            future.complete(result);
+        }, config.nextLatencyMillis(), TimeUnit.MILLISECONDS);
+        return future;
+    }
+
+    @Override
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    InvokeResult respond(InvokeRequest request) {
+        invocations.incrementAndGet();
+        if (config.nextThrottled()) {
+            throttled.incrementAndGet();
+            throw new TooManyRequestsException("Rate Exceeded.");
+        }
+        final JsonNode event = readEvent(request);
+        if (event.has("chat_id")) {
+            telegramMessages.incrementAndGet();
+            return result(Map.of("chat_id", event.get("chat_id").asText(), "status", true));
+        }
+        final Map<String, Object> response = new LinkedHashMap<>();
+        if (config.nextFailed()) {
+            failed.incrementAndGet();
+            response.put("status_code", "500");
+        } else {
+            response.put("status_code", "200");
+            response.put("payload", centersFor(event));
+        }
+        if (event.has("district_id")) {
+            response.put("district_id", event.get("district_id").asText());
+        } else {
+            response.put("pincode", event.get("pincode").asText());
+        }
+        return result(response);
+    }
+
+    private VaccineCenters centersFor(JsonNode event) {
+        if (event.has("district_id")) {
+            return slotGenerator.forDistrict(event.get("district_id").asInt());
+        }
+        return slotGenerator.forPincode(event.get("pincode").asText());
+    }
+
+    private JsonNode readEvent(InvokeRequest request) {
+        try {
+            return objectMapper.readTree(StandardCharsets.UTF_8.decode(request.getPayload().duplicate()).toString());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private InvokeResult result(Map<String, Object> response) {
+        try {
+            return new InvokeResult()
+                    .withStatusCode(200)
+                    .withPayload(ByteBuffer.wrap(objectMapper.writeValueAsBytes(response)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public long invocations() {
+        return invocations.get();
+    }
+
+    public long throttled() {
+        return throttled.get();
+    }
+
+    public long failed() {
+        return failed.get();
+    }
+
+    public long telegramMessages() {
+        return telegramMessages.get();
+    }
+}
@@ -0,0 +1,122 @@
+package org.covid19.vaccinetracker.simulator;
+
+import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.services.lambda.model.InvokeRequest;
+import com.amazonaws.services.lambda.model.InvokeResult;
+import com.amazonaws.services.lambda.model.TooManyRequestsException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.covid19.vaccinetracker.userrequests.MetadataStore;
+import org.covid19.vaccinetracker.userrequests.model.District;
+import org.covid19.vaccinetracker.userrequests.model.Pincode;
+import org.covid19.vaccinetracker.userrequests.model.State;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class SimulatedLambdaTest {
+    @Mock
+    private MetadataStore metadataStore;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private SimulatorConfig config;
+    private SimulatedLambda lambda;
+
+    @BeforeEach
+    public void setup() {
+        config = new SimulatorConfig();
+        config.setCentersPerDistrict(4);
+        config.setSessionsPerCenter(2);
+        config.setLatencyMillis(0);
+        config.setLatencyJitterMillis(0);
+        config.setErrorRate(0);
+        config.setThrottleRate(0);
+        config.setLambdaThreads(1);
+        lambda = new SimulatedLambda(config, objectMapper, new SlotGenerator(config, metadataStore));
+    }
+
+    @AfterEach
+    public void teardown() {
+        lambda.shutdown();
+    }
+
+    @Test
+    public void testCalendarByDistrictUsesPincodesOfDistrict() throws Exception {
+        final District district = new District(201, "Charkhi Dadri", new State(12, "Haryana"));
+        when(metadataStore.fetchPincodesByDistrictId(201)).thenReturn(List.of(
+                Pincode.builder().pincode("127310").district(district).build(),
+                Pincode.builder().pincode("127306").district(district).build()));
+
+        final JsonNode response = invoke("{\"district_id\":\"201\",\"date\":\"15-05-2021\",\"bearer_token\":\"\"}");
+
+        assertThat(response.get("status_code").asText(), is("200"));
+        assertThat(response.get("district_id").asText(), is("201"));
+        final JsonNode centers = response.get("payload").get("centers");
+        assertThat(centers.size(), is(4));
+        assertThat(centers.get(0).get("pincode").asText(), is("127310"));
+        assertThat(centers.get(1).get("pincode").asText(), is("127306"));
+        assertThat(centers.get(0).get("district_name").asText(), is("Charkhi Dadri"));
+        assertThat(centers.get(0).get("sessions").size(), is(2));
+    }
+
+    @Test
+    public void testCapacityOnlyChangesWithChurn() throws Exception {
+        config.setChurnRate(0);
+        final String event = "{\"pincode\":\"110022\",\"date\":\"15-05-2021\"}";
+        final JsonNode first = invoke(event).get("payload");
+        final JsonNode second = invoke(event).get("payload");
+        assertThat(second, is(first));
+    }
+
+    @Test
+    public void testTelegramMessagesAreAbsorbed() throws Exception {
+        final JsonNode response = invoke("{\"chat_id\":\"1234\",\"message\":\"hello\"}");
+        assertThat(response.get("chat_id").asText(), is("1234"));
+        assertThat(response.get("status").asBoolean(), is(true));
+        assertThat(lambda.telegramMessages(), is(1L));
+    }
+
+    @Test
+    public void testErrorsAndThrottling() {
+        config.setErrorRate(1);
+        final InvokeRequest request = new InvokeRequest().withPayload("{\"pincode\":\"110022\",\"date\":\"15-05-2021\"}");
+        assertThat(parse(lambda.invoke(request)).get("status_code").asText(), is("500"));
+        assertThat(lambda.failed(), is(1L));
+
+        config.setThrottleRate(1);
+        assertThrows(TooManyRequestsException.class, () -> lambda.invoke(request));
+        @SuppressWarnings("unchecked") final AsyncHandler<InvokeRequest, InvokeResult> handler = mock(AsyncHandler.class);
+        lambda.invokeAsync(request, handler);
+        verify(handler, timeout(1000)).onError(any(TooManyRequestsException.class));
+        assertThat(lambda.throttled(), is(2L));
+    }
+
+    private JsonNode invoke(String event) throws Exception {
+        return parse(lambda.invokeAsync(new InvokeRequest().withPayload(event)).get());
+    }
+
+    private JsonNode parse(InvokeResult result) {
+        try {
+            return objectMapper.readTree(StandardCharsets.UTF_8.decode(result.getPayload()).toString());
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package org.covid19.vaccinetracker.simulator;
+
+import org.covid19.vaccinetracker.Covid19VaccineTrackerApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+
+/**
+ * Starts the application with the "simulator" profile. The configuration is read from
+ * src/main/resources and application-simulator.yaml only, as the application.yaml of the tests
+ * would otherwise shadow the main one on the test classpath. Run from the project root.
+ */
+public class SimulatorApplication {
+    public static void main(String[] args) {
+        new SpringApplicationBuilder(Covid19VaccineTrackerApplication.class)
+                .profiles("simulator")
+                .properties("spring.config.location=file:src/main/resources/application.yaml,classpath:/application-simulator.yaml")
+                .run(args);
+    }
+}
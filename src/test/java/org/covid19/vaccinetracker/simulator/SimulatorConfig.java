@@ -0,0 +1,66 @@
+package org.covid19.vaccinetracker.simulator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import lombok.Data;
+
+/**
+ * Settings of the local stand-in for the AWS Lambdas and CoWIN, active with the "simulator" profile.
+ */
+@Data
+@Configuration
+@Profile("simulator")
+@ConfigurationProperties(prefix = "simulator")
+public class SimulatorConfig {
+    private int centersPerDistrict = 50;
+    private int centersPerPincode = 3;
+    private int sessionsPerCenter = 7;
+    private int maxCapacity = 100;
+    // probability that a session's capacity changes between two fetches
+    private double churnRate = 0.1;
+    private long latencyMillis = 800;
+    private long latencyJitterMillis = 400;
+    private double errorRate = 0.01;
+    private double throttleRate = 0.01;
+    private int lambdaThreads = 16;
+
+    private LoadTest loadTest = new LoadTest();
+
+    @Data
+    public static class LoadTest {
+        private boolean enabled = false;
+        private List<Integer> districts = List.of();
+        private int users = 10000;
+        private int pincodesPerUser = 3;
+        private long seed = 42;
+        private int cycles = 4;
+        private long cycleIntervalSeconds = 60;
+        // time for the streams to aggregate seeded users before the first cycle
+        private long settleSeconds = 30;
+    }
+
+    long nextLatencyMillis() {
+        return latencyMillis + ThreadLocalRandom.current().nextLong(latencyJitterMillis + 1);
+    }
+
+    boolean nextThrottled() {
+        return ThreadLocalRandom.current().nextDouble() < throttleRate;
+    }
+
+    boolean nextFailed() {
+        return ThreadLocalRandom.current().nextDouble() < errorRate;
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public SimulatedLambda simulatedLambda(ObjectMapper objectMapper, SlotGenerator slotGenerator) {
+        return new SimulatedLambda(this, objectMapper, slotGenerator);
+    }
+}
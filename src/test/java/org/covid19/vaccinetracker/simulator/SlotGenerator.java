@@ -0,0 +1,121 @@
+package org.covid19.vaccinetracker.simulator;
+
+import org.covid19.vaccinetracker.model.Center;
+import org.covid19.vaccinetracker.model.Session;
+import org.covid19.vaccinetracker.model.VaccineCenters;
+import org.covid19.vaccinetracker.userrequests.MetadataStore;
+import org.covid19.vaccinetracker.userrequests.model.District;
+import org.covid19.vaccinetracker.userrequests.model.Pincode;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+import static org.covid19.vaccinetracker.utils.Utils.INDIA_TIMEZONE;
+
+/**
+ * Generates CoWIN-like vaccine centers with sessions whose capacity changes over time. Centers
+ * are placed in the real pincodes of a district when the metadata knows them.
+ */
+@Component
+@Profile("simulator")
+public class SlotGenerator {
+    private static final String[] VACCINES = {"COVISHIELD", "COVAXIN", "SPUTNIK V"};
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd-MM-yyyy");
+
+    private final SimulatorConfig config;
+    private final MetadataStore metadataStore;
+    private final Map<Integer, List<Pincode>> pincodesByDistrict = new ConcurrentHashMap<>();
+    private final Map<String, int[]> capacities = new ConcurrentHashMap<>();
+
+    public SlotGenerator(SimulatorConfig config, MetadataStore metadataStore) {
+        this.config = config;
+        this.metadataStore = metadataStore;
+    }
+
+    public VaccineCenters forDistrict(int districtId) {
+        final List<Pincode> pincodes = pincodesByDistrict.computeIfAbsent(districtId, metadataStore::fetchPincodesByDistrictId);
+        final List<Center> centers = new ArrayList<>(config.getCentersPerDistrict());
+        for (int i = 0; i < config.getCentersPerDistrict(); i++) {
+            if (pincodes.isEmpty()) {
+                centers.add(center(districtId * 10000 + i, String.valueOf(100000 + districtId), null));
+            } else {
+                final Pincode pincode = pincodes.get(i % pincodes.size());
+                centers.add(center(districtId * 10000 + i, pincode.getPincode(), pincode.getDistrict()));
+            }
+        }
+        return new VaccineCenters(centers);
+    }
+
+    public VaccineCenters forPincode(String pincode) {
+        final District district = metadataStore.fetchDistrictsByPincode(pincode).stream().findFirst().orElse(null);
+        final List<Center> centers = new ArrayList<>(config.getCentersPerPincode());
+        for (int i = 0; i < config.getCentersPerPincode(); i++) {
+            centers.add(center(Integer.parseInt(pincode) * 100 + i, pincode, district));
+        }
+        return new VaccineCenters(centers);
+    }
+
+    private Center center(int centerId, String pincode, District district) {
+        final ZonedDateTime today = ZonedDateTime.now(ZoneId.of(INDIA_TIMEZONE));
+        final List<Session> sessions = new ArrayList<>(config.getSessionsPerCenter());
+        for (int d = 0; d < config.getSessionsPerCenter(); d++) {
+            final String sessionId = centerId + "-" + d;
+            final int[] capacity = capacities.compute(sessionId, (id, current) -> churn(current));
+            sessions.add(Session.builder()
+                    .sessionId(sessionId)
+                    .date(today.plusDays(d).format(DATE_FORMAT))
+                    .minAgeLimit((centerId + d) % 2 == 0 ? 18 : 45)
+                    .vaccine(VACCINES[(centerId + d) % VACCINES.length])
+                    .availableCapacityDose1(capacity[0])
+                    .availableCapacityDose2(capacity[1])
+                    .availableCapacity(capacity[0] + capacity[1])
+                    .slots(List.of("09:00AM-11:00AM", "11:00AM-01:00PM", "01:00PM-03:00PM"))
+                    .build());
+        }
+        return Center.builder()
+                .centerId(centerId)
+                .name("Simulated Center " + centerId)
+                .districtName(district == null ? "Simulated District" : district.getDistrictName())
+                .stateName(district == null ? "Simulated State" : district.getState().getStateName())
+                .blockName("Simulated Block")
+                .pincode(Integer.parseInt(pincode))
+                .feeType("Free")
+                .from("09:00:00")
+                .to("15:00:00")
+                .sessions(sessions)
+                .build();
+    }
+
+    private int[] churn(int[] current) {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (current != null && random.nextDouble() >= config.getChurnRate()) {
+            return current;
+        }
+        // about half the doses of a session are fully booked
+        return new int[]{capacityOrNone(random), capacityOrNone(random)};
+    }
+
+    private int capacityOrNone(ThreadLocalRandom random) {
+        return random.nextBoolean() ? 0 : random.nextInt(1, config.getMaxCapacity() + 1);
+    }
+
+    int trackedSessions() {
+        return capacities.size();
+    }
+
+    List<String> pincodesOf(int districtId) {
+        return pincodesByDistrict.computeIfAbsent(districtId, metadataStore::fetchPincodesByDistrictId)
+                .stream()
+                .map(Pincode::getPincode)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,65 @@
+package org.covid19.vaccinetracker.userrequests;
+
+import org.covid19.vaccinetracker.userrequests.model.District;
+import org.covid19.vaccinetracker.userrequests.model.State;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class GazetteerTest {
+    private static final District CHARKHI_DADRI = new District(201, "Charkhi Dadri", new State(12, "Haryana"));
+    private static final District BHIWANI = new District(200, "Bhiwani", new State(12, "Haryana"));
+
+    private final Gazetteer gazetteer = Gazetteer.of(List.of(CHARKHI_DADRI, BHIWANI), List.of(
+            pincode("127310", 201),
+            pincode("127306", 201),
+            pincode("127306", 200),
+            pincode("127021", 200),
+            pincode("12702X", 200)));
+
+    @Test
+    public void testLookups() {
+        assertThat(gazetteer.pincodeExists("127310"), is(true));
+        assertThat(gazetteer.pincodeExists("440017"), is(false));
+        assertThat(gazetteer.pincodeExists("12702X"), is(false));
+        assertThat(gazetteer.pincodeExists(null), is(false));
+        assertThat(gazetteer.districtsOf("127306"), contains(BHIWANI, CHARKHI_DADRI));
+        assertThat(gazetteer.districtsOf("440017"), is(empty()));
+        assertThat(gazetteer.pincodesOf(201), contains("127306", "127310"));
+        assertThat(gazetteer.pincodesOf(999), is(empty()));
+        assertThat(gazetteer.pincodeCount(), is(4));
+        assertThat(gazetteer.districtCount(), is(2));
+    }
+
+    @Test
+    public void testWithPincodeLeavesSnapshotUnchanged() {
+        final District pune = new District(363, "Pune", new State(21, "Maharashtra"));
+        final Gazetteer updated = gazetteer.withPincode("411057", pune);
+
+        assertThat(updated.districtsOf("411057"), contains(pune));
+        assertThat(updated.pincodesOf(363), contains("411057"));
+        assertThat(updated.pincodesOf(201), contains("127306", "127310"));
+        assertThat(gazetteer.pincodeExists("411057"), is(false));
+        assertThat(updated.withPincode("411057", pune), is(sameInstance(updated)));
+    }
+
+    private static Gazetteer.PincodeDistrict pincode(String pincode, int districtId) {
+        return new Gazetteer.PincodeDistrict() {
+            @Override
+            public String getPincode() {
+                return pincode;
+            }
+
+            @Override
+            public int getDistrictId() {
+                return districtId;
+            }
+        };
+    }
+}
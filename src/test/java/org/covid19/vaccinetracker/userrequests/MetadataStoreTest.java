@@ -1,6 +1,7 @@
 package org.covid19.vaccinetracker.userrequests;
 
 import org.covid19.vaccinetracker.userrequests.model.District;
+import org.covid19.vaccinetracker.userrequests.model.Pincode;
 import org.covid19.vaccinetracker.userrequests.model.State;
 import org.covid19.vaccinetracker.persistence.mariadb.repository.DistrictRepository;
 import org.covid19.vaccinetracker.persistence.mariadb.repository.PincodeRepository;
@@ -9,6 +10,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 
+import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -45,4 +47,14 @@ public class MetadataStoreTest {
         final District expected = new District(201, "Charkhi Dadri", new State(12, "Haryana"));
         assertEquals(singletonList(expected), metadataStore.fetchDistrictsByPincode("127310"));
     }
+
+    @Test
+    public void testPersistedPincodeIsVisibleWithoutReload() {
+        final District district = new District(201, "Charkhi Dadri", new State(12, "Haryana"));
+        assertFalse(metadataStore.pincodeExists("127306"));
+        metadataStore.persistPincode(Pincode.builder().pincode("127306").district(district).build());
+        assertTrue(metadataStore.pincodeExists("127306"));
+        assertTrue(pincodeRepository.existsByPincode("127306"));
+        assertEquals(asList("127306", "127310"), metadataStore.fetchPincodeValuesByDistrictId(201));
+    }
 }
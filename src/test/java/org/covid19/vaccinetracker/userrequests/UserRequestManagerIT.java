@@ -6,6 +6,10 @@ import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.covid19.vaccinetracker.persistence.kafka.KafkaStateStores;
 import org.covid19.vaccinetracker.persistence.kafka.KafkaStreamsConfig;
+import org.covid19.vaccinetracker.persistence.kafka.RemoteStateStores;
+import org.covid19.vaccinetracker.persistence.kafka.StateRestoreProgress;
+import org.covid19.vaccinetracker.persistence.kafka.StreamsClusterConfig;
+import org.covid19.vaccinetracker.persistence.kafka.StreamsStateConfig;
 import org.covid19.vaccinetracker.userrequests.model.District;
 import org.covid19.vaccinetracker.userrequests.model.State;
 import org.covid19.vaccinetracker.userrequests.model.UserRequest;
@@ -22,10 +26,14 @@ import org.springframework.kafka.test.context.EmbeddedKafka;
 import org.springframework.kafka.test.utils.KafkaTestUtils;
 import org.springframework.test.annotation.DirtiesContext;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
@@ -55,8 +63,13 @@ import static org.springframework.kafka.test.hamcrest.KafkaMatchers.hasValue;
         UserRequestProducerConfig.class,
         KafkaProperties.class,
         KafkaStateStores.class,
+        StreamsClusterConfig.class,
+        StreamsStateConfig.class,
+        StateRestoreProgress.class,
+        RemoteStateStores.class,
         KafkaStreamsConfig.class,
-        UserRequestManager.class
+        UserRequestManager.class,
+        SimpleMeterRegistry.class
 })
 @EmbeddedKafka(
         partitions = 1,
@@ -74,6 +87,9 @@ public class UserRequestManagerIT {
     @Autowired
     private UserRequestManager userRequestManager;
 
+    @Autowired
+    private KafkaStateStores kafkaStateStores;
+
     @Autowired
     private KafkaTemplate<String, UserRequest> kafkaTemplate;
 
@@ -97,6 +113,38 @@ public class UserRequestManagerIT {
         assertTrue(recordFound.get());
     }
 
+    @Test
+    public void testSuccessiveUpdatesAreNotLost() throws Exception {
+        final String userId = "user_with_successive_updates";
+        userRequestManager.acceptUserRequest(userId, List.of("560001"));
+        userRequestManager.updateAgePreference(userId, AGE_45);
+        userRequestManager.updateDosePreference(userId, DOSE_2).get();
+
+        // visible right away, and in the store once the stream threads applied the last update
+        assertThat(userRequestManager.getUserAgePreference(userId), is(equalTo(AGE_45)));
+        assertThat(userRequestManager.getUserDosePreference(userId), is(equalTo(DOSE_2)));
+        await().atMost(5, SECONDS).until(() -> kafkaStateStores.userRequestById(userId)
+                .map(userRequest -> DOSE_2.toString().equals(userRequest.getDose()))
+                .orElse(false));
+        final UserRequest stored = kafkaStateStores.userRequestById(userId).orElseThrow();
+        assertEquals(List.of("560001"), stored.getPincodes());
+        assertEquals(AGE_45.toString(), stored.getAge());
+    }
+
+    @Test
+    public void testPreferenceUpdateKeepsLastNotifiedAt() {
+        final String userId = "user_notified_then_updated";
+        userRequestManager.acceptUserRequest(userId, List.of("560001"));
+        userRequestManager.updateUserRequestLastNotifiedAt(
+                new UserRequest(userId, List.of("560001"), List.of(), null, null, null, null),
+                "2021-05-09T20:51:55.415207+05:30");
+        userRequestManager.updateAgePreference(userId, AGE_45);
+
+        final UserRequest current = userRequestManager.fetchUserRequest(userId);
+        assertEquals(AGE_45.toString(), current.getAge());
+        assertEquals("2021-05-09T20:51:55.415207+05:30", current.getLastNotifiedAt());
+    }
+
     @Test
     public void testFetchUserPincodes() throws Exception {
         kafkaTemplate.send(userRequestsTopic, "931543", new UserRequest("931543", asList("110045", "110081"), List.of(), null, null, null, null)).get();
@@ -133,6 +181,23 @@ public class UserRequestManagerIT {
                         && isNull(userRequest.getLastNotifiedAt())));
     }
 
+    @Test
+    public void testForEachUserRequestBatch() throws Exception {
+        kafkaTemplate.send(userRequestsTopic, "batched_1", new UserRequest("batched_1", List.of("110001"), null, null, null, null, null)).get();
+        kafkaTemplate.send(userRequestsTopic, "batched_2", new UserRequest("batched_2", List.of("110002"), null, null, null, null, null)).get();
+        kafkaTemplate.send(userRequestsTopic, "batched_3", new UserRequest("batched_3", List.of("110003"), null, null, null, null, null)).get();
+        await().atMost(5, SECONDS).until(() -> kafkaStateStores.userRequestById("batched_3").isPresent());
+
+        final List<List<UserRequest>> batches = new ArrayList<>();
+        userRequestManager.forEachUserRequestBatch(2, batches::add);
+        assertTrue(batches.stream().allMatch(batch -> batch.size() <= 2));
+        assertTrue(batches.stream()
+                .flatMap(List::stream)
+                .map(UserRequest::getChatId)
+                .collect(Collectors.toSet())
+                .containsAll(List.of("batched_1", "batched_2", "batched_3")));
+    }
+
     @Test
     public void testFetchAllUserDistricts() throws Exception {
         District aDistrict = new District(1, "Shahdara", new State(1, "Delhi"));
@@ -0,0 +1,122 @@
+package org.covid19.vaccinetracker.userrequests.reconciliation;
+
+import org.covid19.vaccinetracker.availability.aws.CowinLambdaWrapper;
+import org.covid19.vaccinetracker.model.Center;
+import org.covid19.vaccinetracker.model.CenterLocation;
+import org.covid19.vaccinetracker.model.VaccineCenters;
+import org.covid19.vaccinetracker.notifications.bot.BotService;
+import org.covid19.vaccinetracker.persistence.VaccinePersistence;
+import org.covid19.vaccinetracker.persistence.kafka.KafkaStateStores;
+import org.covid19.vaccinetracker.userrequests.MetadataStore;
+import org.covid19.vaccinetracker.userrequests.UserRequestManager;
+import org.covid19.vaccinetracker.userrequests.model.District;
+import org.covid19.vaccinetracker.userrequests.model.Pincode;
+import org.covid19.vaccinetracker.userrequests.model.State;
+import org.covid19.vaccinetracker.userrequests.model.UserRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class PincodeReconciliationTest {
+    private static final District CHARKHI_DADRI = new District(201, "Charkhi Dadri", new State(12, "Haryana"));
+
+    @Mock
+    private MetadataStore metadataStore;
+    @Mock
+    private CowinLambdaWrapper cowinLambdaWrapper;
+    @Mock
+    private VaccinePersistence vaccinePersistence;
+    @Mock
+    private UserRequestManager userRequestManager;
+    @Mock
+    private BotService botService;
+    @Mock
+    private KafkaStateStores kafkaStateStores;
+
+    private ReconciliationStats stats;
+    private PincodeReconciliation reconciliation;
+
+    @BeforeEach
+    public void setup() {
+        stats = new ReconciliationStats(new SimpleMeterRegistry());
+        final ReconciliationConfig config = new ReconciliationConfig();
+        config.setConcurrency(4);
+        config.setLambdaCallsPerSecond(1000);
+        reconciliation = new PincodeReconciliation(metadataStore, cowinLambdaWrapper, vaccinePersistence, stats, config,
+                userRequestManager, botService, kafkaStateStores);
+    }
+
+    @Test
+    public void testResolvesFromDistrictPayloadsBeforeLambda() {
+        when(metadataStore.pincodeExists(anyString())).thenAnswer(invocation -> "127310".equals(invocation.getArgument(0)));
+        when(vaccinePersistence.findCenterLocationsByPincodes(any())).thenReturn(List.of(
+                new CenterLocation("127306", "Charkhi Dadri", "Haryana"),
+                new CenterLocation("127306", "Charkhi Dadri", "Haryana"),
+                new CenterLocation("127307", "Charkhi Dadri", "Haryana")));
+        when(metadataStore.fetchDistrictByNameAndState("Charkhi Dadri", "Haryana")).thenReturn(CHARKHI_DADRI);
+        when(cowinLambdaWrapper.fetchSessionsByPincode("127308")).thenReturn(Stream.of(Optional.of(centersIn("Charkhi Dadri"))));
+        when(cowinLambdaWrapper.fetchSessionsByPincode("127309")).thenReturn(Stream.of(Optional.empty()));
+
+        reconciliation.reconcilePincodesFromLambda(List.of(
+                userRequest("1", "127310", "127306"),
+                userRequest("2", "127307", "127308", "127309"),
+                userRequest("3", "127306")));
+
+        verify(cowinLambdaWrapper, never()).fetchSessionsByPincode("127306");
+        verify(cowinLambdaWrapper, never()).fetchSessionsByPincode("127307");
+        verify(metadataStore, times(1)).fetchDistrictByNameAndState("Charkhi Dadri", "Haryana");
+
+        @SuppressWarnings("unchecked") final ArgumentCaptor<Collection<Pincode>> persisted = ArgumentCaptor.forClass(Collection.class);
+        verify(metadataStore, times(1)).persistPincodes(persisted.capture());
+        assertThat(persisted.getValue().stream().map(Pincode::getPincode).collect(Collectors.toSet()),
+                is(Set.of("127306", "127307", "127308")));
+        assertThat(stats.unknownPincodes(), is(4));
+        assertThat(stats.resolvedFromDistricts(), is(2));
+        assertThat(stats.successfulReconciliations(), is(3));
+        assertThat(stats.failedReconciliations(), is(1));
+    }
+
+    @Test
+    public void testUnknownDistrictIsNotPersisted() {
+        when(metadataStore.pincodeExists(anyString())).thenReturn(false);
+        when(vaccinePersistence.findCenterLocationsByPincodes(any())).thenReturn(List.of());
+        when(cowinLambdaWrapper.fetchSessionsByPincode("999999")).thenReturn(Stream.of(Optional.of(centersIn("Atlantis"))));
+
+        reconciliation.reconcilePincodesFromLambda(List.of(userRequest("1", "999999")));
+
+        @SuppressWarnings("unchecked") final ArgumentCaptor<Collection<Pincode>> persisted = ArgumentCaptor.forClass(Collection.class);
+        verify(metadataStore).persistPincodes(persisted.capture());
+        assertThat(persisted.getValue().isEmpty(), is(true));
+        assertThat(stats.failedWithUnknownDistrict(), is(1));
+    }
+
+    private static VaccineCenters centersIn(String districtName) {
+        return new VaccineCenters(List.of(Center.builder().districtName(districtName).stateName("Haryana").pincode(127308).build()));
+    }
+
+    private static UserRequest userRequest(String chatId, String... pincodes) {
+        return new UserRequest(chatId, List.of(pincodes), List.of(), null, null, null, null);
+    }
+}
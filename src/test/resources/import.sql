@@ -12,13 +12,10 @@ VALUES (383358, NULL, 'Madhepura', 'Free', 'Gamhariya PHC', '852108', 'Bihar'),
        (328, NULL, 'Kaithal', 'Free', 'SC Kheri Gulam Ali Above 45', '136035', 'Haryana'),
        (436, NULL, 'Kaithal', 'Free', 'SC Kakaut', '136027', 'Haryana');
 
-INSERT INTO sessions (id, available_capacity, available_capacity_dose1,
-                      available_capacity_dose2, date, min_age_limit, vaccine,
+INSERT INTO sessions (id, center_id, available_capacity, available_capacity_dose1,
+                      available_capacity_dose2, date, session_date, min_age_limit, vaccine,
                       processed_at)
-VALUES ('001813bc-1607-42d9-9ef6-e58ba4e42d1d', 98, 48, 50, '23-05-2021', 45, 'COVISHIELD', NULL);
-
-INSERT INTO vaccine_centers_sessions (center_entity_id, sessions_id)
-VALUES (383358, '001813bc-1607-42d9-9ef6-e58ba4e42d1d');
+VALUES ('001813bc-1607-42d9-9ef6-e58ba4e42d1d', 383358, 98, 48, 50, '23-05-2021', '2021-05-23', 45, 'COVISHIELD', NULL);
 
 INSERT INTO states(id, state_name)
 VALUES (12, 'Haryana');